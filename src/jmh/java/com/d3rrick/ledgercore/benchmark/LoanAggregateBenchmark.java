@@ -0,0 +1,50 @@
+package com.d3rrick.ledgercore.benchmark;
+
+import com.d3rrick.ledgercore.domain.model.LoanAggregate;
+import com.d3rrick.ledgercore.domain.model.Money;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * State-machine transitions of {@link LoanAggregate}, one per benchmark.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LoanAggregateBenchmark {
+
+    private final UUID userId = UUID.randomUUID();
+    private final Money principal = new Money(new BigDecimal("5000.00"));
+    private final Money repayment = new Money(new BigDecimal("12.34"));
+    private final LoanAggregate pending = LoanAggregate.createNew(userId, principal);
+    private final LoanAggregate active = pending.activate();
+
+    @Benchmark
+    public LoanAggregate createAndActivate() {
+        return LoanAggregate.createNew(userId, principal).activate();
+    }
+
+    @Benchmark
+    public LoanAggregate applyRepayment() {
+        return active.applyRepayment(repayment);
+    }
+
+    @Benchmark
+    public LoanAggregate markAsDefaulted() {
+        return active.markAsDefaulted();
+    }
+}
@@ -0,0 +1,63 @@
+package com.d3rrick.ledgercore.benchmark;
+
+import com.d3rrick.ledgercore.domain.model.LedgerEntry;
+import com.d3rrick.ledgercore.domain.model.LoanAggregate;
+import com.d3rrick.ledgercore.domain.model.LoanHistory;
+import com.d3rrick.ledgercore.domain.model.Money;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Full replay of one long loan history through {@link LoanHistory}: the CPU side of a rebuild, with no I/O.
+ * Divide by {@code historyLength} for the cost per entry.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LoanReplayBenchmark {
+
+    @Param({"500", "10000", "100000"})
+    private int historyLength;
+
+    private List<LedgerEntry> history;
+
+    @Setup
+    public void setUp() {
+        var userId = UUID.randomUUID();
+        var now = OffsetDateTime.now();
+        var repayment = new Money(new BigDecimal("-0.01"));
+        history = new ArrayList<>(historyLength);
+        history.add(new LedgerEntry(1, userId, new Money(new BigDecimal("1000000.00")), "DISBURSEMENT", UUID.randomUUID(), now));
+        for (int i = 1; i < historyLength; i++) {
+            history.add(new LedgerEntry(i + 1, userId, repayment, "REPAYMENT", UUID.randomUUID(), now));
+        }
+    }
+
+    @Benchmark
+    public LoanAggregate replay() {
+        LoanAggregate loan = null;
+        for (var entry : history) {
+            loan = LoanHistory.apply(loan, entry);
+        }
+        return loan;
+    }
+}
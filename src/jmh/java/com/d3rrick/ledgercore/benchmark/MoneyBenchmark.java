@@ -0,0 +1,60 @@
+package com.d3rrick.ledgercore.benchmark;
+
+import com.d3rrick.ledgercore.domain.model.Money;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of the {@link Money} operations on the repayment path. Run with {@code -prof gc} to see bytes per op.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MoneyBenchmark {
+
+    private final BigDecimal raw = new BigDecimal("1234.5");
+    private final Money balance = new Money(new BigDecimal("1000000.00"));
+    private final Money repayment = new Money(new BigDecimal("12.34"));
+    private final BigDecimal balanceDecimal = new BigDecimal("1000000.00");
+    private final BigDecimal repaymentDecimal = new BigDecimal("12.34");
+
+    @Benchmark
+    public Money construct() {
+        return new Money(raw);
+    }
+
+    @Benchmark
+    public Money subtract() {
+        return balance.subtract(repayment);
+    }
+
+    @Benchmark
+    public Money negate() {
+        return repayment.negate();
+    }
+
+    @Benchmark
+    public boolean compare() {
+        return repayment.compareTo(balance) > 0;
+    }
+
+    // Baseline: what subtract cost while Money wrapped a BigDecimal and rescaled on every construction
+    @Benchmark
+    public BigDecimal bigDecimalSubtract() {
+        return balanceDecimal.subtract(repaymentDecimal).setScale(2, RoundingMode.HALF_UP);
+    }
+}
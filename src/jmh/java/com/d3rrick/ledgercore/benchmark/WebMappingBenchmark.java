@@ -0,0 +1,52 @@
+package com.d3rrick.ledgercore.benchmark;
+
+import com.d3rrick.ledgercore.domain.model.LoanAggregate;
+import com.d3rrick.ledgercore.domain.model.Money;
+import com.d3rrick.ledgercore.infrastructure.web.request.RepaymentRequest;
+import com.d3rrick.ledgercore.infrastructure.web.response.LoanResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The web edge of a request: DTO mapping and JSON (de)serialization with a default Jackson mapper.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class WebMappingBenchmark {
+
+    private final JsonMapper jsonMapper = JsonMapper.builder().build();
+    private final LoanAggregate loan = LoanAggregate.createNew(UUID.randomUUID(), new Money(new BigDecimal("5000.00"))).activate();
+    private final LoanResponse response = LoanResponse.fromAggregate(loan);
+    private final String repaymentJson = "{\"amount\":12.34,\"idempotencyKey\":\"" + UUID.randomUUID() + "\"}";
+
+    @Benchmark
+    public LoanResponse loanResponseFromAggregate() {
+        return LoanResponse.fromAggregate(loan);
+    }
+
+    @Benchmark
+    public String serializeLoanResponse() {
+        return jsonMapper.writeValueAsString(response);
+    }
+
+    @Benchmark
+    public RepaymentRequest deserializeRepaymentRequest() {
+        return jsonMapper.readValue(repaymentJson, RepaymentRequest.class);
+    }
+}
@@ -0,0 +1,15 @@
+package com.d3rrick.ledgercore.application.port;
+
+import com.d3rrick.ledgercore.domain.model.Money;
+
+import java.util.UUID;
+
+/**
+ * A loan whose snapshot balance disagrees with the sum of its ledger entries.
+ */
+public record BalanceMismatch(UUID userId, Money snapshotBalance, Money ledgerBalance) {
+
+    public Money drift() {
+        return snapshotBalance.subtract(ledgerBalance);
+    }
+}
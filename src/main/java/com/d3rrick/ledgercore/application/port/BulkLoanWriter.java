@@ -0,0 +1,20 @@
+package com.d3rrick.ledgercore.application.port;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * High-volume origination path, separate from {@link LedgerRepository#createInitialLoan} which writes one loan
+ * per transaction.
+ */
+public interface BulkLoanWriter {
+
+    /**
+     * Writes every loan and its DISBURSEMENT entry in one transaction using set-based statements.
+     *
+     * @return userIds that were skipped because the loan or the idempotency key already exists, including keys
+     *         another writer claimed while this call was running
+     */
+    Set<UUID> originateAll(List<LoanOrigination> originations);
+}
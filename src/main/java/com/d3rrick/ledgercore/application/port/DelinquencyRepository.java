@@ -0,0 +1,18 @@
+package com.d3rrick.ledgercore.application.port;
+
+import com.d3rrick.ledgercore.domain.model.LoanAggregate;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+
+public interface DelinquencyRepository {
+
+    /**
+     * Up to {@code limit} ACTIVE loans in {@code range}, after {@code afterUserId} in userId order, with neither a
+     * disbursement nor a repayment at or after {@code noPaymentSince}.
+     *
+     * @param afterUserId {@code null} starts at the beginning of the range
+     */
+    List<LoanAggregate> findDelinquent(UuidRange range, UUID afterUserId, OffsetDateTime noPaymentSince, int limit);
+}
@@ -0,0 +1,13 @@
+package com.d3rrick.ledgercore.application.port;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Interest a loan has earned but not yet posted, as of the last day accrued on it.
+ *
+ * @param carry          the sub-cent remainder, within half a cent either way
+ * @param accruedThrough the last day whose interest is included
+ */
+public record InterestCarry(BigDecimal carry, LocalDate accruedThrough) {
+}
@@ -0,0 +1,19 @@
+package com.d3rrick.ledgercore.application.port;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.Map;
+import java.util.UUID;
+
+public interface InterestCarryRepository {
+
+    /** Carries of the given loans by userId; loans never accrued are absent. */
+    Map<UUID, InterestCarry> findAll(Collection<UUID> userIds);
+
+    /**
+     * Joins the caller's transaction, so the carries commit together with the entries they follow. Only moves a
+     * loan forward: a carry already accrued through {@code accruedThrough} or later is kept.
+     */
+    void saveAll(Map<UUID, BigDecimal> carries, LocalDate accruedThrough);
+}
@@ -0,0 +1,11 @@
+package com.d3rrick.ledgercore.application.port;
+
+import java.util.UUID;
+
+/**
+ * How far a bulk job run got through one range of the user_id keyspace.
+ *
+ * @param lastUserId the last loan of the last committed chunk; {@code null} if no chunk was committed yet
+ */
+public record JobCheckpoint(int rangeIndex, UUID lastUserId, boolean completed) {
+}
@@ -0,0 +1,16 @@
+package com.d3rrick.ledgercore.application.port;
+
+import java.util.Map;
+import java.util.UUID;
+
+public interface JobCheckpointRepository {
+
+    /** Checkpoints of {@code run} by range index; ranges never started are absent. */
+    Map<Integer, JobCheckpoint> findAll(String run);
+
+    /** Completed ranges of every run whose name starts with {@code runPrefix}, by run. */
+    Map<String, Integer> countCompleted(String runPrefix);
+
+    /** Joins the caller's transaction, so the checkpoint commits together with the chunk it records. */
+    void save(String run, int rangeIndex, UUID lastUserId, boolean completed);
+}
@@ -0,0 +1,14 @@
+package com.d3rrick.ledgercore.application.port;
+
+import com.d3rrick.ledgercore.domain.model.LedgerEntry;
+
+import java.util.List;
+
+public interface LedgerEventPublisher {
+
+    /**
+     * Publishes the entries in order and returns only once every one of them is acknowledged.
+     * Delivery is at-least-once: consumers deduplicate on the entry id or idempotency key.
+     */
+    void publish(List<LedgerEntry> entries);
+}
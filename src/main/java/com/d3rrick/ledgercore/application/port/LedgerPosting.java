@@ -0,0 +1,11 @@
+package com.d3rrick.ledgercore.application.port;
+
+import com.d3rrick.ledgercore.domain.model.Money;
+
+import java.util.UUID;
+
+/**
+ * A single ledger entry waiting to be written alongside its loan snapshot.
+ */
+public record LedgerPosting(UUID userId, Money delta, String type, UUID idempotencyKey) {
+}
@@ -1,15 +1,55 @@
 package com.d3rrick.ledgercore.application.port;
 
+import com.d3rrick.ledgercore.domain.model.LedgerEntry;
 import com.d3rrick.ledgercore.domain.model.LoanAggregate;
+import com.d3rrick.ledgercore.domain.model.LoanStatus;
 import com.d3rrick.ledgercore.domain.model.Money;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 public interface LedgerRepository {
     void recordTransaction(LoanAggregate loan, Money delta, String type, UUID idempotencyKey);
 
+    /**
+     * Applies a repayment in a single statement: the balance/status guard, the ledger entry and the
+     * version bump travel together, and the locked pre-image is replayed through
+     * {@link LoanAggregate#applyRepayment(Money)} so the domain still decides the outcome.
+     *
+     * @return the aggregate as persisted after the repayment
+     */
+    LoanAggregate recordRepayment(UUID userId, Money amount, UUID idempotencyKey);
+
+    /**
+     * Writes many loans at once: one set-based versioned snapshot update followed by multi-row entry inserts.
+     *
+     * @return userIds whose snapshot lost the version check; none of their postings were written
+     */
+    Set<UUID> recordTransactionBatch(List<LoanUpdate> updates);
+
     Optional<LoanAggregate> findByUserId(UUID userId);
 
+    Map<UUID, LoanAggregate> findAllByUserIds(Collection<UUID> userIds);
+
+    Set<UUID> findExistingIdempotencyKeys(Collection<UUID> idempotencyKeys);
+
+    /**
+     * Streams up to {@code limit} entries of one loan with {@code afterId < id <= throughId}, in id order, to
+     * {@code consumer} without collecting them. Must run inside a transaction for the driver to honour the fetch size.
+     */
+    void forEachEntry(UUID userId, long afterId, long throughId, int limit, Consumer<LedgerEntry> consumer);
+
+    /**
+     * Streams up to {@code limit} loans in {@code status} with {@code user_id > afterUserId} ({@code null} starts at
+     * the beginning), in userId order, to {@code consumer} without collecting them. The last userId seen resumes
+     * the walk. Must run inside a transaction for the driver to honour the fetch size.
+     */
+    void forEachLoanByStatus(LoanStatus status, UUID afterUserId, int limit, Consumer<LoanAggregate> consumer);
+
     void createInitialLoan(LoanAggregate loan, UUID idempotencyKey);
 }
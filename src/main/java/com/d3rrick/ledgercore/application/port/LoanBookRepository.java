@@ -0,0 +1,16 @@
+package com.d3rrick.ledgercore.application.port;
+
+import com.d3rrick.ledgercore.domain.model.LoanAggregate;
+
+import java.util.List;
+import java.util.UUID;
+
+public interface LoanBookRepository {
+
+    /**
+     * Up to {@code limit} ACTIVE loans in {@code range}, after {@code afterUserId} in userId order.
+     *
+     * @param afterUserId {@code null} starts at the beginning of the range
+     */
+    List<LoanAggregate> findActive(UuidRange range, UUID afterUserId, int limit);
+}
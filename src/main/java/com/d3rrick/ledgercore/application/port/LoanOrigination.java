@@ -0,0 +1,11 @@
+package com.d3rrick.ledgercore.application.port;
+
+import com.d3rrick.ledgercore.domain.model.LoanAggregate;
+
+import java.util.UUID;
+
+/**
+ * A validated, activated loan waiting to be written together with its disbursement entry.
+ */
+public record LoanOrigination(LoanAggregate loan, UUID idempotencyKey) {
+}
@@ -0,0 +1,19 @@
+package com.d3rrick.ledgercore.application.port;
+
+import com.d3rrick.ledgercore.domain.model.LoanSnapshot;
+
+import java.util.Optional;
+import java.util.UUID;
+
+public interface LoanSnapshotRepository {
+
+    /**
+     * @return the newest snapshot taken at or before entry {@code throughEntryId}
+     */
+    Optional<LoanSnapshot> findLatest(UUID userId, long throughEntryId);
+
+    /** Idempotent: saving the same checkpoint twice keeps the first. */
+    void save(LoanSnapshot snapshot);
+
+    void deleteAll(UUID userId);
+}
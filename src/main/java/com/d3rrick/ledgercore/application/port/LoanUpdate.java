@@ -0,0 +1,12 @@
+package com.d3rrick.ledgercore.application.port;
+
+import com.d3rrick.ledgercore.domain.model.LoanAggregate;
+
+import java.util.List;
+
+/**
+ * The final state of a loan after a run of postings was applied in memory. {@code loan.version()} is still the
+ * version that was read, and the snapshot advances by one version per posting.
+ */
+public record LoanUpdate(LoanAggregate loan, List<LedgerPosting> postings) {
+}
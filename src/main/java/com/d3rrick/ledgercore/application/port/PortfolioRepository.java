@@ -0,0 +1,14 @@
+package com.d3rrick.ledgercore.application.port;
+
+import com.d3rrick.ledgercore.domain.model.LoanStatus;
+
+import java.util.Map;
+
+public interface PortfolioRepository {
+
+    /** Totals kept incrementally by the {@code portfolio_counter} triggers; reads a few hundred rows at most. */
+    Map<LoanStatus, PortfolioTotal> counterTotals();
+
+    /** Totals aggregated from the whole {@code loan} table; a full scan, meant for drift checks only. */
+    Map<LoanStatus, PortfolioTotal> recomputeTotals();
+}
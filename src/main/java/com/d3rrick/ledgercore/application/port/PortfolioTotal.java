@@ -0,0 +1,14 @@
+package com.d3rrick.ledgercore.application.port;
+
+import com.d3rrick.ledgercore.domain.model.LoanStatus;
+import com.d3rrick.ledgercore.domain.model.Money;
+
+/**
+ * Number of loans in one status and the sum of their current balances.
+ */
+public record PortfolioTotal(LoanStatus status, long loans, Money outstanding) {
+
+    public static PortfolioTotal empty(LoanStatus status) {
+        return new PortfolioTotal(status, 0L, Money.ZERO);
+    }
+}
@@ -0,0 +1,23 @@
+package com.d3rrick.ledgercore.application.port;
+
+import java.time.OffsetDateTime;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+public interface ReconciliationRepository {
+
+    /**
+     * Streams every loan in {@code range} whose {@code current_balance} differs from the sum of its entries.
+     * Runs in its own read-only transaction, on its own connection, so ranges can be checked in parallel.
+     *
+     * @param changedSince only loans updated at or after this instant; {@code null} checks the whole range
+     */
+    void scanMismatches(UuidRange range, OffsetDateTime changedSince, Consumer<BalanceMismatch> sink);
+
+    Optional<OffsetDateTime> findWatermark(String name);
+
+    void saveWatermark(String name, OffsetDateTime watermark);
+
+    /** The database clock, so watermarks never depend on application clock skew. */
+    OffsetDateTime databaseNow();
+}
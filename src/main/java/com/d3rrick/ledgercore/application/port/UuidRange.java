@@ -0,0 +1,40 @@
+package com.d3rrick.ledgercore.application.port;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Half-open slice {@code [from, to)} of the UUID keyspace; a {@code null} bound is open-ended.
+ *
+ * <p>PostgreSQL orders {@code uuid} by unsigned bytes, which is the unsigned order of the most significant
+ * 64 bits first. Splitting on those bits gives ranges of equal width for random (v4) UUIDs.
+ */
+public record UuidRange(UUID from, UUID to) {
+
+    private static final BigInteger KEYSPACE = BigInteger.ONE.shiftLeft(64);
+
+    public static UuidRange all() {
+        return new UuidRange(null, null);
+    }
+
+    /**
+     * @return {@code parts} contiguous ranges that together cover every UUID exactly once
+     */
+    public static List<UuidRange> split(int parts) {
+        if (parts < 1) {
+            throw new IllegalArgumentException("parts must be positive: " + parts);
+        }
+        var ranges = new ArrayList<UuidRange>(parts);
+        UUID lower = null;
+        for (int i = 1; i <= parts; i++) {
+            UUID upper = i == parts
+                    ? null
+                    : new UUID(KEYSPACE.multiply(BigInteger.valueOf(i)).divide(BigInteger.valueOf(parts)).longValue(), 0L);
+            ranges.add(new UuidRange(lower, upper));
+            lower = upper;
+        }
+        return ranges;
+    }
+}
@@ -0,0 +1,21 @@
+package com.d3rrick.ledgercore.application.service;
+
+import com.d3rrick.ledgercore.domain.model.Money;
+
+import java.time.Duration;
+import java.time.LocalDate;
+
+/**
+ * @param rangesResumed    ranges an earlier run for the same day had already finished
+ * @param rangesUnfinished ranges the window closed on; the next run for the same day picks them up
+ * @param alreadyAccrued   loans skipped because their entry for the day already existed
+ * @param conflicts        loans still written concurrently after every retry; the next run walks their range again
+ *                         from before the first chunk that had any, skipping the loans already accrued
+ */
+public record AccrualReport(LocalDate accrualDate, int ranges, int rangesResumed, int rangesUnfinished,
+                            long accrued, long alreadyAccrued, long conflicts, Money interest, Duration elapsed) {
+
+    public boolean complete() {
+        return rangesUnfinished == 0;
+    }
+}
@@ -0,0 +1,30 @@
+package com.d3rrick.ledgercore.application.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+
+/**
+ * Nightly delinquency run. A run that dies part-way is resumed by the next trigger on the same UTC date.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "ledger.defaults.enabled", havingValue = "true")
+@RequiredArgsConstructor
+public class BulkDefaultJob {
+
+    private final BulkDefaultService bulkDefaultService;
+
+    @Scheduled(cron = "${ledger.defaults.cron:0 30 1 * * *}", zone = "UTC")
+    public void run() {
+        var report = bulkDefaultService.run(LocalDate.now(ZoneOffset.UTC));
+        log.info("Bulk default {} (no payment since {}) defaulted {} loans over {} ranges ({} already done) in {}: {} conflicts",
+                report.run(), report.noPaymentSince(), report.defaulted(), report.ranges(), report.rangesResumed(), report.elapsed(),
+                report.conflicts());
+    }
+}
@@ -0,0 +1,24 @@
+package com.d3rrick.ledgercore.application.service;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Nightly bulk ACTIVE -> DEFAULTED transition, bound from {@code ledger.defaults.*}.
+ *
+ * @param enabled           run the job on {@code ledger.defaults.cron}
+ * @param delinquencyPeriod an ACTIVE loan with no disbursement or repayment for this long is defaulted
+ * @param ranges            slices of the user_id keyspace, each walked and checkpointed independently
+ * @param parallelism       ranges processed at once; each holds one pooled connection per chunk
+ * @param chunkSize         loans selected, defaulted and checkpointed per transaction
+ */
+@ConfigurationProperties("ledger.defaults")
+public record BulkDefaultProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("90d") Duration delinquencyPeriod,
+        @DefaultValue("64") int ranges,
+        @DefaultValue("4") int parallelism,
+        @DefaultValue("1000") int chunkSize) {
+}
@@ -0,0 +1,13 @@
+package com.d3rrick.ledgercore.application.service;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+
+/**
+ * @param noPaymentSince loans without a disbursement or repayment since this instant were candidates
+ * @param rangesResumed  ranges an earlier attempt at the same run had already finished
+ * @param conflicts      loans written concurrently while being defaulted; left for the next run to reconsider
+ */
+public record BulkDefaultReport(String run, OffsetDateTime noPaymentSince, int ranges, int rangesResumed,
+                                long defaulted, long conflicts, Duration elapsed) {
+}
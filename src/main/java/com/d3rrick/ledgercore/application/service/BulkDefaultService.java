@@ -0,0 +1,139 @@
+package com.d3rrick.ledgercore.application.service;
+
+import com.d3rrick.ledgercore.application.port.DelinquencyRepository;
+import com.d3rrick.ledgercore.application.port.JobCheckpoint;
+import com.d3rrick.ledgercore.application.port.JobCheckpointRepository;
+import com.d3rrick.ledgercore.application.port.LedgerPosting;
+import com.d3rrick.ledgercore.application.port.LedgerRepository;
+import com.d3rrick.ledgercore.application.port.LoanUpdate;
+import com.d3rrick.ledgercore.application.port.UuidRange;
+import com.d3rrick.ledgercore.domain.model.Money;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Moves delinquent ACTIVE loans to DEFAULTED in bulk. The keyspace is split into ranges that workers walk in
+ * parallel; each chunk is selected, passed through {@link com.d3rrick.ledgercore.domain.model.LoanAggregate#markAsDefaulted()},
+ * and written with {@link LedgerRepository#recordTransactionBatch}: one versioned UPDATE ... FROM (VALUES ...) plus
+ * multi-row DEFAULT entries. The chunk's checkpoint commits in the same transaction, so a run restarted for the
+ * same business date resumes after the last committed chunk.
+ *
+ * <p>A loan can only be defaulted once, so its DEFAULT entry has a key derived from the userId; together with the
+ * version check this keeps overlapping runs from defaulting a loan twice.
+ */
+@Service
+public class BulkDefaultService {
+
+    static final String DEFAULT_ENTRY = "DEFAULT";
+
+    private final DelinquencyRepository delinquencyRepository;
+    private final LedgerRepository ledgerRepository;
+    private final JobCheckpointRepository checkpointRepository;
+    private final BulkDefaultProperties properties;
+    private final TransactionTemplate chunkTransaction;
+    private final Counter defaultedCounter;
+    private final Counter conflictCounter;
+
+    public BulkDefaultService(DelinquencyRepository delinquencyRepository,
+                              LedgerRepository ledgerRepository,
+                              JobCheckpointRepository checkpointRepository,
+                              BulkDefaultProperties properties,
+                              PlatformTransactionManager transactionManager,
+                              MeterRegistry meterRegistry) {
+        this.delinquencyRepository = delinquencyRepository;
+        this.ledgerRepository = ledgerRepository;
+        this.checkpointRepository = checkpointRepository;
+        this.properties = properties;
+        this.chunkTransaction = new TransactionTemplate(transactionManager);
+        this.defaultedCounter = Counter.builder("ledger.defaults.marked")
+                .description("Loans moved to DEFAULTED by the bulk job")
+                .register(meterRegistry);
+        this.conflictCounter = Counter.builder("ledger.defaults.conflicts")
+                .description("Delinquent loans skipped because they were written concurrently")
+                .register(meterRegistry);
+    }
+
+    public static UUID defaultKey(UUID userId) {
+        return UUID.nameUUIDFromBytes((DEFAULT_ENTRY + ":" + userId).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Defaults loans with no payment in the {@code delinquency-period} before {@code businessDate} (UTC). Calling it
+     * again for the same date resumes that run.
+     */
+    public BulkDefaultReport run(LocalDate businessDate) {
+        var noPaymentSince = businessDate.atStartOfDay(ZoneOffset.UTC).toOffsetDateTime().minus(properties.delinquencyPeriod());
+        return run("default:" + businessDate, noPaymentSince);
+    }
+
+    /**
+     * @param run names the checkpoints; reusing a name resumes that run, so it must come with the same cutoff
+     */
+    public BulkDefaultReport run(String run, OffsetDateTime noPaymentSince) {
+        var started = System.nanoTime();
+        var progress = checkpointRepository.findAll(run);
+        var ranges = UuidRange.split(properties.ranges());
+
+        var defaulted = new LongAdder();
+        var conflicts = new LongAdder();
+        var pending = new ArrayList<Integer>(ranges.size());
+        for (int i = 0; i < ranges.size(); i++) {
+            var checkpoint = progress.get(i);
+            if (checkpoint == null || !checkpoint.completed()) {
+                pending.add(i);
+            }
+        }
+        ParallelTasks.forEach("bulk-default", properties.parallelism(), pending, rangeIndex -> {
+            var checkpoint = progress.get(rangeIndex);
+            var after = checkpoint == null ? null : checkpoint.lastUserId();
+            defaultRange(run, rangeIndex, ranges.get(rangeIndex), after, noPaymentSince, defaulted, conflicts);
+        });
+        var resumed = ranges.size() - pending.size();
+        return new BulkDefaultReport(run, noPaymentSince, ranges.size(), resumed, defaulted.sum(), conflicts.sum(),
+                Duration.ofNanos(System.nanoTime() - started));
+    }
+
+    private void defaultRange(String run, int rangeIndex, UuidRange range, UUID resumeAfter, OffsetDateTime noPaymentSince,
+                              LongAdder defaulted, LongAdder conflicts) {
+        var checkpoint = new JobCheckpoint(rangeIndex, resumeAfter, false);
+        while (!checkpoint.completed()) {
+            var after = checkpoint.lastUserId();
+            var chunk = chunkTransaction.execute(status -> {
+                var candidates = delinquencyRepository.findDelinquent(range, after, noPaymentSince, properties.chunkSize());
+                var updates = candidates.stream()
+                        .map(loan -> new LoanUpdate(loan.markAsDefaulted(), List.of(
+                                new LedgerPosting(loan.userId(), Money.ZERO, DEFAULT_ENTRY, defaultKey(loan.userId())))))
+                        .toList();
+                var conflicted = ledgerRepository.recordTransactionBatch(updates);
+
+                var next = new JobCheckpoint(rangeIndex,
+                        candidates.isEmpty() ? after : candidates.getLast().userId(),
+                        candidates.size() < properties.chunkSize());
+                checkpointRepository.save(run, rangeIndex, next.lastUserId(), next.completed());
+                return new Chunk(next, updates.size() - conflicted.size(), conflicted.size());
+            });
+            // Counted only once the chunk and its checkpoint have committed
+            defaulted.add(chunk.defaulted());
+            conflicts.add(chunk.conflicts());
+            defaultedCounter.increment(chunk.defaulted());
+            conflictCounter.increment(chunk.conflicts());
+            checkpoint = chunk.checkpoint();
+        }
+    }
+
+    private record Chunk(JobCheckpoint checkpoint, int defaulted, int conflicts) {
+    }
+}
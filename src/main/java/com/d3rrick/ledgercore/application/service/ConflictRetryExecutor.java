@@ -0,0 +1,74 @@
+package com.d3rrick.ledgercore.application.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ConcurrentModificationException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+/**
+ * Re-runs a read-modify-write attempt when it loses an optimistic-lock race.
+ * Each attempt must re-read the aggregate itself; only {@link ConcurrentModificationException} is retried.
+ */
+@Component
+public class ConflictRetryExecutor {
+
+    private final RepaymentProperties.Retry retry;
+    private final Counter retries;
+    private final Counter exhausted;
+
+    public ConflictRetryExecutor(RepaymentProperties properties, MeterRegistry meterRegistry) {
+        this.retry = properties.retry();
+        this.retries = Counter.builder("ledger.repayment.conflict.retries")
+                .description("Optimistic-lock conflicts retried server-side")
+                .register(meterRegistry);
+        this.exhausted = Counter.builder("ledger.repayment.conflict.exhausted")
+                .description("Conflicts returned to the caller after attempts or deadline ran out")
+                .register(meterRegistry);
+    }
+
+    public <T> T execute(Supplier<T> attempt) {
+        var deadline = System.nanoTime() + retry.deadline().toNanos();
+
+        for (int attemptNumber = 1; ; attemptNumber++) {
+            try {
+                return attempt.get();
+            } catch (ConcurrentModificationException ex) {
+                var backoff = backoff(attemptNumber);
+                if (attemptNumber >= retry.maxAttempts() || System.nanoTime() + backoff.toNanos() >= deadline) {
+                    exhausted.increment();
+                    throw ex;
+                }
+                retries.increment();
+                sleep(backoff, ex);
+            }
+        }
+    }
+
+    public void run(Runnable attempt) {
+        execute(() -> {
+            attempt.run();
+            return null;
+        });
+    }
+
+    // Full jitter: uniform in [0, min(max, initial * 2^(n-1))] so racing writers spread out instead of colliding again
+    private Duration backoff(int attemptNumber) {
+        var ceiling = Math.min(
+                retry.maxBackoff().toNanos(),
+                retry.initialBackoff().toNanos() << Math.min(attemptNumber - 1, 20));
+        return ceiling <= 0 ? Duration.ZERO : Duration.ofNanos(ThreadLocalRandom.current().nextLong(ceiling + 1));
+    }
+
+    private static void sleep(Duration backoff, ConcurrentModificationException cause) {
+        try {
+            Thread.sleep(backoff);
+        } catch (InterruptedException interrupted) {
+            Thread.currentThread().interrupt();
+            throw cause;
+        }
+    }
+}
@@ -0,0 +1,153 @@
+package com.d3rrick.ledgercore.application.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bounded memory of idempotency keys this node has seen committed, checked before any database work.
+ *
+ * <p>A Bloom filter answers "definitely new" for almost every fresh key without taking a lock; only "maybe seen"
+ * keys consult the LRU of confirmed keys. A key in the LRU is a certain duplicate. Anything else falls through to
+ * the {@code ledger_entry} unique index, which stays the source of truth. The filter rotates between two
+ * generations so memory stays fixed while old keys age out.
+ */
+@Component
+public class IdempotencyKeyFilter {
+
+    private final IdempotencyProperties properties;
+    private final Map<UUID, Boolean> confirmed;
+    private final Counter confirmedDuplicates;
+    private final Counter maybeSeen;
+    private final Counter definitelyNew;
+
+    private volatile BloomFilter current;
+    private volatile BloomFilter previous;
+
+    public IdempotencyKeyFilter(IdempotencyProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.current = new BloomFilter(properties.expectedKeys(), properties.falsePositiveRate());
+        this.previous = current;
+        this.confirmed = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<UUID, Boolean> eldest) {
+                return size() > properties.confirmedCapacity();
+            }
+        };
+        this.confirmedDuplicates = lookups(meterRegistry, "duplicate");
+        this.maybeSeen = lookups(meterRegistry, "maybe");
+        this.definitelyNew = lookups(meterRegistry, "new");
+    }
+
+    private static Counter lookups(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("ledger.idempotency.prefilter")
+                .description("Idempotency keys checked in memory before reaching the database")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    /**
+     * @return {@code true} only when the key is known to be committed already
+     */
+    public boolean isConfirmedDuplicate(UUID idempotencyKey) {
+        if (!properties.prefilterEnabled()) {
+            return false;
+        }
+        if (!current.mightContain(idempotencyKey) && !previous.mightContain(idempotencyKey)) {
+            definitelyNew.increment();
+            return false;
+        }
+        boolean known;
+        synchronized (confirmed) {
+            known = confirmed.get(idempotencyKey) != null;
+        }
+        (known ? confirmedDuplicates : maybeSeen).increment();
+        return known;
+    }
+
+    /**
+     * Records a key whose ledger entry is known to exist, either because we just committed it or because the
+     * database rejected it as a duplicate.
+     */
+    public void confirm(UUID idempotencyKey) {
+        if (!properties.prefilterEnabled()) {
+            return;
+        }
+        var filter = current;
+        if (filter.isFull()) {
+            filter = rotate(filter);
+        }
+        filter.put(idempotencyKey);
+        synchronized (confirmed) {
+            confirmed.put(idempotencyKey, Boolean.TRUE);
+        }
+    }
+
+    private synchronized BloomFilter rotate(BloomFilter full) {
+        if (current == full) {
+            previous = full;
+            current = new BloomFilter(properties.expectedKeys(), properties.falsePositiveRate());
+        }
+        return current;
+    }
+
+    private static final class BloomFilter {
+        private final AtomicLongArray bits;
+        private final long bitCount;
+        private final int hashCount;
+        private final long capacity;
+        private final LongAdder insertions = new LongAdder();
+
+        private BloomFilter(long expectedInsertions, double falsePositiveRate) {
+            var m = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+            this.bitCount = Math.max(64, m);
+            this.bits = new AtomicLongArray((int) ((bitCount + 63) / 64));
+            this.hashCount = Math.max(1, (int) Math.round((double) bitCount / expectedInsertions * Math.log(2)));
+            this.capacity = expectedInsertions;
+        }
+
+        boolean isFull() {
+            return insertions.sum() >= capacity;
+        }
+
+        void put(UUID key) {
+            var h1 = mix(key.getMostSignificantBits());
+            var h2 = mix(key.getLeastSignificantBits());
+            for (int i = 0; i < hashCount; i++) {
+                var bit = Math.floorMod(h1 + i * h2, bitCount);
+                var word = (int) (bit >>> 6);
+                var mask = 1L << bit;
+                var old = bits.get(word);
+                while ((old & mask) == 0 && !bits.compareAndSet(word, old, old | mask)) {
+                    old = bits.get(word);
+                }
+            }
+            insertions.increment();
+        }
+
+        boolean mightContain(UUID key) {
+            var h1 = mix(key.getMostSignificantBits());
+            var h2 = mix(key.getLeastSignificantBits());
+            for (int i = 0; i < hashCount; i++) {
+                var bit = Math.floorMod(h1 + i * h2, bitCount);
+                if ((bits.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        // Stafford variant 13 finalizer: random UUIDs are already uniform, sequential ones are not
+        private static long mix(long z) {
+            z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+            z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+            return z ^ (z >>> 31);
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.d3rrick.ledgercore.application.service;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * In-process idempotency pre-filter, bound from {@code ledger.idempotency.*}.
+ *
+ * @param prefilterEnabled  answer confirmed duplicates without touching the database
+ * @param expectedKeys      keys per Bloom filter generation before it is rotated out
+ * @param falsePositiveRate target false-positive rate of each generation
+ * @param confirmedCapacity size of the LRU of keys known to be committed
+ */
+@ConfigurationProperties("ledger.idempotency")
+public record IdempotencyProperties(
+        @DefaultValue("true") boolean prefilterEnabled,
+        @DefaultValue("1000000") int expectedKeys,
+        @DefaultValue("0.01") double falsePositiveRate,
+        @DefaultValue("100000") int confirmedCapacity) {
+}
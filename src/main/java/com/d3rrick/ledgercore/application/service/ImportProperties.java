@@ -0,0 +1,16 @@
+package com.d3rrick.ledgercore.application.service;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Bulk origination, bound from {@code ledger.import.*}.
+ *
+ * @param chunkSize          rows copied and merged per transaction
+ * @param maxReportedRejects rejections listed in the report; the count is never truncated
+ */
+@ConfigurationProperties("ledger.import")
+public record ImportProperties(
+        @DefaultValue("50000") int chunkSize,
+        @DefaultValue("1000") int maxReportedRejects) {
+}
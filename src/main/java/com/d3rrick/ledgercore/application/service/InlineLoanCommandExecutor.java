@@ -0,0 +1,20 @@
+package com.d3rrick.ledgercore.application.service;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * Default mode: the request thread runs the command and optimistic locking arbitrates between writers.
+ */
+@Component
+@ConditionalOnProperty(name = "ledger.lanes.enabled", havingValue = "false", matchIfMissing = true)
+public class InlineLoanCommandExecutor implements LoanCommandExecutor {
+
+    @Override
+    public <T> T execute(UUID userId, Supplier<T> command) {
+        return command.get();
+    }
+}
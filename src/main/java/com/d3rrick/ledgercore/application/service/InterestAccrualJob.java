@@ -0,0 +1,42 @@
+package com.d3rrick.ledgercore.application.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+
+/**
+ * Accrues every day up to the previous UTC day that is not complete yet, oldest first, so days missed while the job
+ * was down or cut short by the window are caught up. Triggered more often than daily on purpose: once every day is
+ * complete a trigger only reads checkpoints.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "ledger.interest.enabled", havingValue = "true")
+@RequiredArgsConstructor
+public class InterestAccrualJob {
+
+    private final InterestAccrualService interestAccrualService;
+
+    @Scheduled(cron = "${ledger.interest.cron:0 5 * * * *}", zone = "UTC")
+    public void run() {
+        for (var day : interestAccrualService.pendingDays(LocalDate.now(ZoneOffset.UTC).minusDays(1))) {
+            var report = interestAccrualService.run(day);
+            logReport(report);
+            if (!report.complete()) {
+                // Each day accrues on the balance the previous one left; later days wait for the next trigger
+                return;
+            }
+        }
+    }
+
+    private void logReport(AccrualReport report) {
+        log.info("Interest accrual for {} posted {} on {} loans in {} ({} already accrued, {} conflicts, {} of {} ranges unfinished)",
+                report.accrualDate(), report.interest().amount(), report.accrued(), report.elapsed(),
+                report.alreadyAccrued(), report.conflicts(), report.rangesUnfinished(), report.ranges());
+    }
+}
@@ -0,0 +1,254 @@
+package com.d3rrick.ledgercore.application.service;
+
+import com.d3rrick.ledgercore.application.port.InterestCarry;
+import com.d3rrick.ledgercore.application.port.InterestCarryRepository;
+import com.d3rrick.ledgercore.application.port.JobCheckpointRepository;
+import com.d3rrick.ledgercore.application.port.LedgerPosting;
+import com.d3rrick.ledgercore.application.port.LedgerRepository;
+import com.d3rrick.ledgercore.application.port.LoanBookRepository;
+import com.d3rrick.ledgercore.application.port.LoanUpdate;
+import com.d3rrick.ledgercore.application.port.UuidRange;
+import com.d3rrick.ledgercore.domain.model.InterestRate;
+import com.d3rrick.ledgercore.domain.model.LoanAggregate;
+import com.d3rrick.ledgercore.domain.model.LoanStatus;
+import com.d3rrick.ledgercore.domain.model.Money;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Posts one day of interest on every ACTIVE loan. The keyspace is split into ranges that workers walk in parallel;
+ * each chunk computes {@link InterestRate#accrue} on the balance it read and the loan's carried sub-cent remainder,
+ * applies the whole cents through {@link LoanAggregate#accrueInterest}, and writes the whole chunk with
+ * {@link LedgerRepository#recordTransactionBatch} together with the new remainders and its checkpoint.
+ *
+ * <p>An entry's idempotency key is derived from the loan and the day, so a run can be repeated at will: keys that
+ * already exist, and loans whose carry is already past the day, are filtered out before any write, and the unique
+ * index catches the rest. Workers stop taking
+ * chunks when {@code ledger.interest.window} closes; the next run for the same day resumes from the checkpoints.
+ */
+@Slf4j
+@Service
+public class InterestAccrualService {
+
+    static final String INTEREST_ENTRY = "INTEREST_ACCRUAL";
+    private static final String RUN_PREFIX = "interest:";
+
+    private final LoanBookRepository loanBookRepository;
+    private final LedgerRepository ledgerRepository;
+    private final JobCheckpointRepository checkpointRepository;
+    private final InterestCarryRepository carryRepository;
+    private final InterestProperties properties;
+    private final TransactionTemplate chunkTransaction;
+    private final Counter accruedCounter;
+    private final Counter interestCounter;
+
+    public InterestAccrualService(LoanBookRepository loanBookRepository,
+                                  LedgerRepository ledgerRepository,
+                                  JobCheckpointRepository checkpointRepository,
+                                  InterestCarryRepository carryRepository,
+                                  InterestProperties properties,
+                                  PlatformTransactionManager transactionManager,
+                                  MeterRegistry meterRegistry) {
+        this.loanBookRepository = loanBookRepository;
+        this.ledgerRepository = ledgerRepository;
+        this.checkpointRepository = checkpointRepository;
+        this.carryRepository = carryRepository;
+        this.properties = properties;
+        this.chunkTransaction = new TransactionTemplate(transactionManager);
+        this.accruedCounter = Counter.builder("ledger.interest.accrued")
+                .description("Loans that had a day of interest posted")
+                .register(meterRegistry);
+        this.interestCounter = Counter.builder("ledger.interest.amount")
+                .description("Interest posted by the accrual engine")
+                .register(meterRegistry);
+    }
+
+    public static UUID accrualKey(UUID userId, LocalDate accrualDate) {
+        return UUID.nameUUIDFromBytes((INTEREST_ENTRY + ":" + userId + ":" + accrualDate).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Days up to {@code through} that still need a run, oldest first: every day since the first one ever run whose
+     * checkpoints are incomplete or missing, or just {@code through} when nothing has run yet.
+     */
+    public List<LocalDate> pendingDays(LocalDate through) {
+        var complete = new TreeSet<LocalDate>();
+        var started = new TreeSet<LocalDate>();
+        checkpointRepository.countCompleted(RUN_PREFIX).forEach((run, completed) -> {
+            var day = LocalDate.parse(run.substring(RUN_PREFIX.length()));
+            if (!day.isAfter(through)) {
+                started.add(day);
+                if (completed >= properties.ranges()) {
+                    complete.add(day);
+                }
+            }
+        });
+        var from = started.isEmpty() ? through : started.first();
+        return from.datesUntil(through.plusDays(1))
+                .filter(day -> !complete.contains(day))
+                .toList();
+    }
+
+    public AccrualReport run(LocalDate accrualDate) {
+        var started = System.nanoTime();
+        var deadline = started + properties.window().toNanos();
+        var run = RUN_PREFIX + accrualDate;
+        var rate = properties.rate();
+        var progress = checkpointRepository.findAll(run);
+        var ranges = UuidRange.split(properties.ranges());
+
+        var tally = new Tally();
+        var pending = new ArrayList<Integer>(ranges.size());
+        for (int i = 0; i < ranges.size(); i++) {
+            var checkpoint = progress.get(i);
+            if (checkpoint == null || !checkpoint.completed()) {
+                pending.add(i);
+            }
+        }
+        ParallelTasks.forEach("interest", properties.parallelism(), pending, rangeIndex -> {
+            var checkpoint = progress.get(rangeIndex);
+            var after = checkpoint == null ? null : checkpoint.lastUserId();
+            accrueRange(run, rangeIndex, ranges.get(rangeIndex), after, accrualDate, rate, deadline, tally);
+        });
+        var resumed = ranges.size() - pending.size();
+        return new AccrualReport(accrualDate, ranges.size(), resumed, tally.unfinishedRanges.get(), tally.accrued.sum(),
+                tally.alreadyAccrued.sum(), tally.conflicts.sum(), new Money(tally.interestMinorUnits.sum()),
+                Duration.ofNanos(System.nanoTime() - started));
+    }
+
+    private void accrueRange(String run, int rangeIndex, UuidRange range, UUID resumeAfter, LocalDate accrualDate,
+                             InterestRate rate, long deadline, Tally tally) {
+        var after = resumeAfter;
+        var unresolved = false;
+        while (System.nanoTime() < deadline) {
+            var from = after;
+            var holding = unresolved;
+            var chunk = chunkTransaction.execute(status -> {
+                var candidates = loanBookRepository.findActive(range, from, properties.chunkSize());
+                var result = accrue(candidates, accrualDate, rate);
+                var last = candidates.isEmpty() ? from : candidates.getLast().userId();
+                var done = candidates.size() < properties.chunkSize();
+                if (result.conflicts() > 0 && !holding) {
+                    // Hold the checkpoint before the first chunk that left conflicts, whether this run finishes the
+                    // range or the window closes first; the next run walks on from there, skipping loans already accrued
+                    checkpointRepository.save(run, rangeIndex, from, false);
+                } else if (!holding) {
+                    checkpointRepository.save(run, rangeIndex, last, done);
+                }
+                return new Chunk(result, last, done);
+            });
+            tally.add(chunk.result());
+            accruedCounter.increment(chunk.result().accrued());
+            interestCounter.increment(new Money(chunk.result().interestMinorUnits()).amount().doubleValue());
+            unresolved |= chunk.result().conflicts() > 0;
+            after = chunk.last();
+            if (chunk.done()) {
+                if (unresolved) {
+                    tally.unfinishedRanges.incrementAndGet();
+                }
+                return;
+            }
+        }
+        log.warn("Interest accrual window closed before range {} of {} finished", rangeIndex, accrualDate);
+        tally.unfinishedRanges.incrementAndGet();
+    }
+
+    private ChunkResult accrue(List<LoanAggregate> candidates, LocalDate accrualDate, InterestRate rate) {
+        var alreadyAccrued = 0;
+        var accrued = 0;
+        var interest = 0L;
+        var carries = carryRepository.findAll(candidates.stream().map(LoanAggregate::userId).toList());
+        var pending = withoutAccrued(candidates, carries, accrualDate);
+        alreadyAccrued += candidates.size() - pending.size();
+
+        for (int attempt = 0; ; attempt++) {
+            var updates = new ArrayList<LoanUpdate>(pending.size());
+            var nextCarries = new HashMap<UUID, BigDecimal>();
+            for (var loan : pending) {
+                var carried = carries.get(loan.userId());
+                var day = rate.accrue(loan.currentBalance(), carried == null ? BigDecimal.ZERO : carried.carry(), accrualDate);
+                nextCarries.put(loan.userId(), day.carry());
+                if (day.interest().isPositive()) {
+                    updates.add(new LoanUpdate(loan.accrueInterest(day.interest()), List.of(
+                            new LedgerPosting(loan.userId(), day.interest(), INTEREST_ENTRY, accrualKey(loan.userId(), accrualDate)))));
+                }
+            }
+            var conflicted = ledgerRepository.recordTransactionBatch(updates);
+            for (var update : updates) {
+                if (!conflicted.contains(update.loan().userId())) {
+                    accrued++;
+                    interest += update.postings().getFirst().delta().minorUnits();
+                }
+            }
+            // A day that posted no whole cent still moves its loan's carry on; a conflicted loan's carry waits for its write
+            nextCarries.keySet().removeAll(conflicted);
+            carryRepository.saveAll(nextCarries, accrualDate);
+            if (conflicted.isEmpty() || attempt == properties.conflictRetries()) {
+                return new ChunkResult(accrued, alreadyAccrued, conflicted.size(), interest);
+            }
+
+            // Written since we read it: reread, and drop loans that are no longer ACTIVE or that won the key race
+            var reread = ledgerRepository.findAllByUserIds(conflicted).values().stream()
+                    .filter(loan -> loan.status() == LoanStatus.ACTIVE)
+                    .toList();
+            carries = carryRepository.findAll(conflicted);
+            pending = withoutAccrued(reread, carries, accrualDate);
+            alreadyAccrued += reread.size() - pending.size();
+        }
+    }
+
+    private List<LoanAggregate> withoutAccrued(Collection<LoanAggregate> loans, Map<UUID, InterestCarry> carries,
+                                               LocalDate accrualDate) {
+        if (loans.isEmpty()) {
+            return List.of();
+        }
+        var existing = ledgerRepository.findExistingIdempotencyKeys(
+                loans.stream().map(loan -> accrualKey(loan.userId(), accrualDate)).toList());
+        return loans.stream()
+                .filter(loan -> !existing.contains(accrualKey(loan.userId(), accrualDate)))
+                .filter(loan -> {
+                    var carried = carries.get(loan.userId());
+                    return carried == null || carried.accruedThrough().isBefore(accrualDate);
+                })
+                .toList();
+    }
+
+    private record ChunkResult(long accrued, long alreadyAccrued, long conflicts, long interestMinorUnits) {
+    }
+
+    private record Chunk(ChunkResult result, UUID last, boolean done) {
+    }
+
+    private static final class Tally {
+        private final LongAdder accrued = new LongAdder();
+        private final LongAdder alreadyAccrued = new LongAdder();
+        private final LongAdder conflicts = new LongAdder();
+        private final LongAdder interestMinorUnits = new LongAdder();
+        private final AtomicInteger unfinishedRanges = new AtomicInteger();
+
+        private void add(ChunkResult result) {
+            accrued.add(result.accrued());
+            alreadyAccrued.add(result.alreadyAccrued());
+            conflicts.add(result.conflicts());
+            interestMinorUnits.add(result.interestMinorUnits());
+        }
+    }
+}
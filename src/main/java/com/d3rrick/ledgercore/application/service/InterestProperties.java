@@ -0,0 +1,37 @@
+package com.d3rrick.ledgercore.application.service;
+
+import com.d3rrick.ledgercore.domain.model.DayCountConvention;
+import com.d3rrick.ledgercore.domain.model.InterestRate;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+
+/**
+ * Daily interest accrual, bound from {@code ledger.interest.*}.
+ *
+ * @param enabled         accrue the previous UTC day on {@code ledger.interest.cron}
+ * @param annualRate      nominal annual rate, 0.12 = 12%
+ * @param dayCount        convention turning one day into a year fraction
+ * @param ranges          slices of the user_id keyspace, each walked and checkpointed independently
+ * @param parallelism     ranges processed at once; each holds one pooled connection per chunk
+ * @param chunkSize       loans read, accrued and written per transaction
+ * @param window          time a run may spend; ranges still unfinished then are resumed by the next run
+ * @param conflictRetries rereads of loans that were written concurrently before they are left to the next run
+ */
+@ConfigurationProperties("ledger.interest")
+public record InterestProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("0.12") BigDecimal annualRate,
+        @DefaultValue("ACT_365_FIXED") DayCountConvention dayCount,
+        @DefaultValue("256") int ranges,
+        @DefaultValue("8") int parallelism,
+        @DefaultValue("2000") int chunkSize,
+        @DefaultValue("50m") Duration window,
+        @DefaultValue("3") int conflictRetries) {
+
+    public InterestRate rate() {
+        return new InterestRate(annualRate, dayCount);
+    }
+}
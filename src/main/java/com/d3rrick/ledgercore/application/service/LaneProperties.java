@@ -0,0 +1,23 @@
+package com.d3rrick.ledgercore.application.service;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Per-loan single-writer lanes, bound from {@code ledger.lanes.*}.
+ *
+ * @param enabled       route single-loan mutations through {@link StripedLoanCommandLanes}; batch repayments and the
+ *                      bulk jobs still write directly and may conflict with them
+ * @param count         number of lanes; loans hashing to the same lane share one writer
+ * @param queueCapacity commands buffered per lane before callers are pushed back
+ * @param offerTimeout  how long a caller waits for queue space before the command is rejected
+ */
+@ConfigurationProperties("ledger.lanes")
+public record LaneProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("16") int count,
+        @DefaultValue("1024") int queueCapacity,
+        @DefaultValue("1s") Duration offerTimeout) {
+}
@@ -0,0 +1,20 @@
+package com.d3rrick.ledgercore.application.service;
+
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * Decides which thread runs a mutation for a given loan. Commands must not re-enter the executor, and must carry
+ * their own transaction: an implementation may run them on another thread, outside any transaction of the caller.
+ */
+public interface LoanCommandExecutor {
+
+    <T> T execute(UUID userId, Supplier<T> command);
+
+    default void run(UUID userId, Runnable command) {
+        execute(userId, () -> {
+            command.run();
+            return null;
+        });
+    }
+}
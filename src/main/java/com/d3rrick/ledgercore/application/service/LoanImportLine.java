@@ -0,0 +1,7 @@
+package com.d3rrick.ledgercore.application.service;
+
+/**
+ * One raw line of an origination file, before any parsing. Missing or malformed fields are {@code null}.
+ */
+public record LoanImportLine(long lineNumber, String userId, String amount, String idempotencyKey) {
+}
@@ -0,0 +1,18 @@
+package com.d3rrick.ledgercore.application.service;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Outcome of a bulk origination. {@code rejections} holds at most {@code ledger.import.max-reported-rejects}
+ * entries; {@code rejected} is always the full count.
+ */
+public record LoanImportReport(long rowsRead, long imported, long rejected, List<Rejection> rejections, Duration elapsed) {
+
+    public record Rejection(long lineNumber, String reason) {}
+
+    /** Rows written per second; rejected rows cost a parse, not a write, so they would only flatter the rate. */
+    public double rowsPerSecond() {
+        return imported / Math.max(elapsed.toNanos() / 1_000_000_000.0, 1e-9);
+    }
+}
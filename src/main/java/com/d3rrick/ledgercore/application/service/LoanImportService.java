@@ -0,0 +1,151 @@
+package com.d3rrick.ledgercore.application.service;
+
+import com.d3rrick.ledgercore.application.port.BulkLoanWriter;
+import com.d3rrick.ledgercore.application.port.LoanOrigination;
+import com.d3rrick.ledgercore.domain.exception.DomainException;
+import com.d3rrick.ledgercore.domain.model.LoanAggregate;
+import com.d3rrick.ledgercore.domain.model.Money;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/**
+ * Streams an origination file into the ledger in chunks. Each row goes through the same rules as
+ * {@link LoanService#originateLoan} ({@code createNew(...).activate()} with a positive principal); valid rows are
+ * handed to {@link BulkLoanWriter} one chunk per transaction.
+ *
+ * <p>Committed chunks stay committed if a later one fails. Re-running the same file is safe: loans and
+ * idempotency keys that already exist are reported as rejects, not written twice.
+ */
+@Service
+@RequiredArgsConstructor
+public class LoanImportService {
+
+    private final BulkLoanWriter bulkLoanWriter;
+    private final ImportProperties properties;
+
+    public LoanImportReport importLoans(Stream<LoanImportLine> lines) {
+        var started = System.nanoTime();
+        var tally = new Tally(properties.maxReportedRejects());
+        var chunk = new Chunk(properties.chunkSize());
+
+        for (var iterator = lines.iterator(); iterator.hasNext(); ) {
+            var line = iterator.next();
+            tally.rowsRead++;
+            var reason = stage(line, chunk);
+            if (reason != null) {
+                tally.reject(line.lineNumber(), reason);
+            }
+            if (chunk.isFull()) {
+                flush(chunk, tally);
+            }
+        }
+        flush(chunk, tally);
+
+        return new LoanImportReport(tally.rowsRead, tally.imported, tally.rejected, List.copyOf(tally.rejections),
+                Duration.ofNanos(System.nanoTime() - started));
+    }
+
+    // Returns the rejection reason, or null when the row was added to the chunk
+    private String stage(LoanImportLine line, Chunk chunk) {
+        if (line.userId() == null || line.amount() == null || line.idempotencyKey() == null) {
+            return "Expected user_id, amount and idempotency_key";
+        }
+        UUID userId;
+        UUID idempotencyKey;
+        Money amount;
+        try {
+            userId = UUID.fromString(line.userId().strip());
+            idempotencyKey = UUID.fromString(line.idempotencyKey().strip());
+            amount = new Money(new BigDecimal(line.amount().strip()));
+        } catch (IllegalArgumentException | ArithmeticException ex) {
+            return "Malformed field: " + ex.getMessage();
+        }
+        if (!amount.isPositive()) {
+            return "Amount must be positive";
+        }
+        LoanAggregate loan;
+        try {
+            loan = LoanAggregate.createNew(userId, amount).activate();
+        } catch (DomainException ex) {
+            return ex.getMessage();
+        }
+        if (!chunk.userIds.add(userId)) {
+            return "Duplicate user_id within the same chunk";
+        }
+        if (!chunk.keys.add(idempotencyKey)) {
+            chunk.userIds.remove(userId);
+            return "Duplicate idempotency_key within the same chunk";
+        }
+        chunk.lineNumbers.add(line.lineNumber());
+        chunk.originations.add(new LoanOrigination(loan, idempotencyKey));
+        return null;
+    }
+
+    private void flush(Chunk chunk, Tally tally) {
+        if (chunk.originations.isEmpty()) {
+            return;
+        }
+        var skipped = bulkLoanWriter.originateAll(chunk.originations);
+        for (int i = 0; i < chunk.originations.size(); i++) {
+            if (skipped.contains(chunk.originations.get(i).loan().userId())) {
+                tally.reject(chunk.lineNumbers.get(i), "Loan or idempotency key already exists");
+            } else {
+                tally.imported++;
+            }
+        }
+        chunk.clear();
+    }
+
+    private static final class Chunk {
+        private final int capacity;
+        private final List<LoanOrigination> originations;
+        private final List<Long> lineNumbers;
+        private final Set<UUID> userIds = new HashSet<>();
+        private final Set<UUID> keys = new HashSet<>();
+
+        private Chunk(int capacity) {
+            this.capacity = capacity;
+            this.originations = new ArrayList<>(capacity);
+            this.lineNumbers = new ArrayList<>(capacity);
+        }
+
+        boolean isFull() {
+            return originations.size() >= capacity;
+        }
+
+        void clear() {
+            originations.clear();
+            lineNumbers.clear();
+            userIds.clear();
+            keys.clear();
+        }
+    }
+
+    private static final class Tally {
+        private final int maxReported;
+        private final List<LoanImportReport.Rejection> rejections = new ArrayList<>();
+        private long rowsRead;
+        private long imported;
+        private long rejected;
+
+        private Tally(int maxReported) {
+            this.maxReported = maxReported;
+        }
+
+        void reject(long lineNumber, String reason) {
+            rejected++;
+            if (rejections.size() < maxReported) {
+                rejections.add(new LoanImportReport.Rejection(lineNumber, reason));
+            }
+        }
+    }
+}
@@ -0,0 +1,198 @@
+package com.d3rrick.ledgercore.application.service;
+
+import com.d3rrick.ledgercore.application.port.LedgerRepository;
+import com.d3rrick.ledgercore.application.port.LoanSnapshotRepository;
+import com.d3rrick.ledgercore.domain.exception.DomainException;
+import com.d3rrick.ledgercore.domain.model.LedgerEntry;
+import com.d3rrick.ledgercore.domain.model.LoanAggregate;
+import com.d3rrick.ledgercore.domain.model.LoanHistory;
+import com.d3rrick.ledgercore.domain.model.LoanSnapshot;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * Rebuilds loans from {@code ledger_entry} alone: start from the newest {@code loan_snapshot} and replay only the
+ * entries after it through {@link LoanHistory}. Replays that run past {@code ledger.replay.snapshot-every} entries
+ * leave a fresh snapshot behind, so the tail stays short without touching the write path.
+ *
+ * <p>Entries are streamed in a read-only transaction (joining the caller's, if any). A checkpoint left by a rebuild
+ * is written afterwards: inline when the read transaction was the rebuild's own, otherwise by a single background
+ * writer, so a rebuild never needs a second pooled connection while its caller still holds one.
+ */
+@Slf4j
+@Service
+public class LoanRebuildService implements AutoCloseable {
+
+    // Checkpoints are an optimisation; past this backlog new ones are dropped rather than queued
+    private static final int CHECKPOINT_BACKLOG = 1_024;
+
+    private final LedgerRepository ledgerRepository;
+    private final LoanSnapshotRepository snapshotRepository;
+    private final ReplayProperties properties;
+    private final TransactionTemplate readOnly;
+    private final TransactionTemplate readWrite;
+    private final ExecutorService checkpointWriter;
+    private final DistributionSummary replayedEntries;
+    private final Counter droppedCheckpoints;
+
+    public LoanRebuildService(LedgerRepository ledgerRepository,
+                              LoanSnapshotRepository snapshotRepository,
+                              ReplayProperties properties,
+                              PlatformTransactionManager transactionManager,
+                              MeterRegistry meterRegistry) {
+        this.ledgerRepository = ledgerRepository;
+        this.snapshotRepository = snapshotRepository;
+        this.properties = properties;
+        this.readOnly = new TransactionTemplate(transactionManager);
+        this.readOnly.setReadOnly(true);
+        this.readWrite = new TransactionTemplate(transactionManager);
+        this.checkpointWriter = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(CHECKPOINT_BACKLOG), Thread.ofVirtual().name("replay-checkpoint").factory());
+        this.replayedEntries = DistributionSummary.builder("ledger.replay.entries")
+                .description("Ledger entries replayed per loan rebuild")
+                .register(meterRegistry);
+        this.droppedCheckpoints = Counter.builder("ledger.replay.checkpoints.dropped")
+                .description("Rebuild checkpoints not written because the background writer was behind")
+                .register(meterRegistry);
+    }
+
+    public boolean ledgerIsSourceOfTruth() {
+        return properties.readSource() == ReplayProperties.ReadSource.LEDGER;
+    }
+
+    /**
+     * @return the loan as its entries say it is now, or empty if it has none
+     */
+    public Optional<LoanAggregate> rebuild(UUID userId) {
+        var fold = readOnly.execute(status -> replay(userId, Long.MAX_VALUE, true));
+        if (!fold.checkpoints.isEmpty()) {
+            saveCheckpoint(fold.checkpoints.getLast());
+        }
+        return Optional.ofNullable(fold.state);
+    }
+
+    /*
+     * Inside a caller's transaction (GET /loan/{id} in ledger mode) the request still holds its connection. Writing
+     * there would take a second one, and with admission sized to the pool, concurrent reads could all end up waiting
+     * for each other's second connection. The background writer holds at most one connection, and nobody waits on it.
+     */
+    private void saveCheckpoint(LoanSnapshot checkpoint) {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            readWrite.executeWithoutResult(status -> snapshotRepository.save(checkpoint));
+            return;
+        }
+        try {
+            checkpointWriter.execute(() -> {
+                try {
+                    readWrite.executeWithoutResult(status -> snapshotRepository.save(checkpoint));
+                } catch (RuntimeException ex) {
+                    log.warn("Could not write rebuild checkpoint for loan {}", checkpoint.loan().userId(), ex);
+                }
+            });
+        } catch (RejectedExecutionException backlogFull) {
+            droppedCheckpoints.increment();
+        }
+    }
+
+    @Override
+    public void close() throws InterruptedException {
+        checkpointWriter.shutdown();
+        checkpointWriter.awaitTermination(5, TimeUnit.SECONDS);
+    }
+
+    /**
+     * @return the loan as it was right after entry {@code throughEntryId}; nothing is persisted
+     */
+    public Optional<LoanAggregate> rebuildAsOf(UUID userId, long throughEntryId) {
+        var fold = readOnly.execute(status -> replay(userId, throughEntryId, true));
+        return Optional.ofNullable(fold.state);
+    }
+
+    /**
+     * Throws away every snapshot of the loan and replays its whole history, checkpointing every
+     * {@code snapshot-every} entries. A history that breaks a domain rule rolls the repair back.
+     */
+    public Optional<LoanAggregate> repair(UUID userId) {
+        return Optional.ofNullable(replayFromScratch(userId).state);
+    }
+
+    /**
+     * Repairs many loans in parallel on virtual threads, {@code ledger.replay.parallelism} at a time.
+     */
+    public RebuildReport repairAll(Collection<UUID> userIds) {
+        var started = System.nanoTime();
+        var entries = new LongAdder();
+        var unreplayable = new ConcurrentLinkedQueue<UUID>();
+        ParallelTasks.forEach("replay", properties.parallelism(), userIds, userId -> {
+            try {
+                entries.add(replayFromScratch(userId).replayed);
+            } catch (DomainException ex) {
+                unreplayable.add(userId);
+            }
+        });
+        return new RebuildReport(userIds.size(), entries.sum(), List.copyOf(unreplayable), Duration.ofNanos(System.nanoTime() - started));
+    }
+
+    private Fold replayFromScratch(UUID userId) {
+        return readWrite.execute(status -> {
+            snapshotRepository.deleteAll(userId);
+            var fold = replay(userId, Long.MAX_VALUE, false);
+            fold.checkpoints.forEach(snapshotRepository::save);
+            return fold;
+        });
+    }
+
+    private Fold replay(UUID userId, long throughEntryId, boolean fromSnapshot) {
+        var start = fromSnapshot ? snapshotRepository.findLatest(userId, throughEntryId) : Optional.<LoanSnapshot>empty();
+        var fold = new Fold(start.orElse(null), properties.snapshotEvery());
+        ledgerRepository.forEachEntry(userId, fold.lastEntryId, throughEntryId, Integer.MAX_VALUE, fold);
+        replayedEntries.record(fold.replayed);
+        return fold;
+    }
+
+    private static final class Fold implements Consumer<LedgerEntry> {
+        private final int snapshotEvery;
+        private final List<LoanSnapshot> checkpoints = new ArrayList<>();
+        private LoanAggregate state;
+        private long lastEntryId;
+        private long replayed;
+
+        private Fold(LoanSnapshot start, int snapshotEvery) {
+            this.snapshotEvery = snapshotEvery;
+            if (start != null) {
+                this.state = start.loan();
+                this.lastEntryId = start.lastEntryId();
+            }
+        }
+
+        @Override
+        public void accept(LedgerEntry entry) {
+            state = LoanHistory.apply(state, entry);
+            lastEntryId = entry.id();
+            if (++replayed % snapshotEvery == 0) {
+                checkpoints.add(new LoanSnapshot(state, lastEntryId));
+            }
+        }
+    }
+}
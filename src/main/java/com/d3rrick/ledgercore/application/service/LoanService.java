@@ -1,24 +1,61 @@
 package com.d3rrick.ledgercore.application.service;
 
+import com.d3rrick.ledgercore.application.port.LedgerPosting;
 import com.d3rrick.ledgercore.application.port.LedgerRepository;
+import com.d3rrick.ledgercore.application.port.LoanUpdate;
+import com.d3rrick.ledgercore.domain.exception.DomainException;
+import com.d3rrick.ledgercore.domain.exception.DuplicateTransactionException;
 import com.d3rrick.ledgercore.domain.exception.EntityNotFoundException;
+import com.d3rrick.ledgercore.domain.model.LedgerEntry;
 import com.d3rrick.ledgercore.domain.model.LoanAggregate;
+import com.d3rrick.ledgercore.domain.model.LoanStatus;
 import com.d3rrick.ledgercore.domain.model.Money;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class LoanService {
 
     private final LedgerRepository ledgerRepository;
+    private final RepaymentProperties repaymentProperties;
+    private final ConflictRetryExecutor conflictRetryExecutor;
+    private final LoanCommandExecutor loanCommandExecutor;
+    private final IdempotencyKeyFilter idempotencyKeyFilter;
+    private final LoanRebuildService loanRebuildService;
+    private final LoanServiceMetrics metrics;
 
-    @Transactional
+    /**
+     * Deliberately not {@code @Transactional}: each attempt reads and writes in its own short transaction,
+     * so a conflict can be retried against fresh state without holding a pooled connection through the backoff.
+     */
     public void processRepayment(UUID userId, Money amount, UUID idempotencyKey) {
+        metrics.repayment.record(() -> {
+            rejectConfirmedDuplicate(idempotencyKey);
+            confirmingKey(idempotencyKey, () -> loanCommandExecutor.run(userId, () ->
+                    conflictRetryExecutor.run(() -> attemptRepayment(userId, amount, idempotencyKey))));
+        });
+    }
+
+    private void attemptRepayment(UUID userId, Money amount, UUID idempotencyKey) {
+        if (repaymentProperties.mode() == RepaymentProperties.Mode.SINGLE_STATEMENT) {
+            // Guard, entry and version bump in one round trip; the repository replays the domain rules
+            ledgerRepository.recordRepayment(userId, amount, idempotencyKey);
+            return;
+        }
+
         var loan = ledgerRepository.findByUserId(userId)
                 .orElseThrow(() -> new EntityNotFoundException("Loan not found: " + userId));
 
@@ -32,16 +69,151 @@ public class LoanService {
         );
     }
 
-    @Transactional
+    /**
+     * Applies many repayments with a fixed number of round trips: one duplicate pre-check, one read of every
+     * affected loan, and batched writes. Items are applied in order and never fail the batch as a whole.
+     *
+     * <p>Bypasses {@link LoanCommandExecutor}: the batch is one write across many loans, so with lanes enabled it
+     * races the lane writers on {@code LOAN.VERSION}, and a loan that lost comes back as {@code CONFLICT}.
+     */
+    public List<RepaymentResult> processRepaymentBatch(List<RepaymentCommand> commands) {
+        return metrics.repaymentBatch.record(() -> applyRepaymentBatch(commands));
+    }
+
+    private List<RepaymentResult> applyRepaymentBatch(List<RepaymentCommand> commands) {
+        var existingKeys = ledgerRepository.findExistingIdempotencyKeys(
+                commands.stream().map(RepaymentCommand::idempotencyKey).toList());
+        var loans = new HashMap<>(ledgerRepository.findAllByUserIds(
+                commands.stream().map(RepaymentCommand::userId).collect(Collectors.toSet())));
+
+        var results = new RepaymentResult[commands.size()];
+        // A key repeated within the batch shares the fate of the item that first posted it, known only after the write
+        var firstWithKey = new HashMap<UUID, Integer>();
+        var repeatOf = new int[commands.size()];
+        var postings = new LinkedHashMap<UUID, List<LedgerPosting>>();
+        for (int i = 0; i < commands.size(); i++) {
+            var command = commands.get(i);
+            var loan = loans.get(command.userId());
+            repeatOf[i] = -1;
+            if (existingKeys.contains(command.idempotencyKey())) {
+                results[i] = RepaymentResult.of(command, RepaymentResult.Outcome.DUPLICATE, "Duplicate transaction detected (Idempotency Key violation).");
+            } else if (firstWithKey.containsKey(command.idempotencyKey())) {
+                repeatOf[i] = firstWithKey.get(command.idempotencyKey());
+            } else if (loan == null) {
+                results[i] = RepaymentResult.of(command, RepaymentResult.Outcome.NOT_FOUND, "Loan not found: " + command.userId());
+            } else {
+                try {
+                    // The aggregate keeps the version that was read; the repository advances it per posting
+                    loans.put(command.userId(), loan.applyRepayment(command.amount()));
+                    postings.computeIfAbsent(command.userId(), id -> new ArrayList<>())
+                            .add(new LedgerPosting(command.userId(), command.amount().negate(), "REPAYMENT", command.idempotencyKey()));
+                    firstWithKey.put(command.idempotencyKey(), i);
+                } catch (DomainException ex) {
+                    results[i] = RepaymentResult.of(command, RepaymentResult.Outcome.REJECTED, ex.getMessage());
+                }
+            }
+        }
+
+        var updates = postings.entrySet().stream()
+                .map(entry -> new LoanUpdate(loans.get(entry.getKey()), entry.getValue()))
+                .toList();
+        var conflicted = ledgerRepository.recordTransactionBatch(updates);
+        var racedKeys = racedKeys(commands, results, repeatOf, conflicted);
+
+        for (int i = 0; i < results.length; i++) {
+            if (results[i] == null && repeatOf[i] < 0) {
+                var command = commands.get(i);
+                if (racedKeys.contains(command.idempotencyKey())) {
+                    results[i] = RepaymentResult.of(command, RepaymentResult.Outcome.DUPLICATE, "Duplicate transaction detected (Idempotency Key violation).");
+                } else if (conflicted.contains(command.userId())) {
+                    results[i] = RepaymentResult.of(command, RepaymentResult.Outcome.CONFLICT, "The record was updated by another request. Please retry.");
+                } else {
+                    results[i] = RepaymentResult.applied(command);
+                }
+            }
+        }
+        for (int i = 0; i < results.length; i++) {
+            if (repeatOf[i] >= 0) {
+                results[i] = repeatResult(commands.get(i), results[repeatOf[i]]);
+            }
+            // Only keys known to be committed: written here, or found by a lookup; a repeat's key may never have been
+            var key = results[i].idempotencyKey();
+            if (results[i].outcome() == RepaymentResult.Outcome.APPLIED || existingKeys.contains(key) || racedKeys.contains(key)) {
+                idempotencyKeyFilter.confirm(key);
+            }
+        }
+        return List.of(results);
+    }
+
+    // Once the first item committed the key a repeat is a duplicate of it; otherwise the repeat failed the same way
+    private static RepaymentResult repeatResult(RepaymentCommand command, RepaymentResult first) {
+        return first.outcome() == RepaymentResult.Outcome.APPLIED
+                ? RepaymentResult.of(command, RepaymentResult.Outcome.DUPLICATE, "Duplicate transaction detected (Idempotency Key violation).")
+                : RepaymentResult.of(command, first.outcome(), first.detail());
+    }
+
+    // A key claimed by another request after the pre-check also comes back as a conflict; it is a duplicate instead
+    private Set<UUID> racedKeys(List<RepaymentCommand> commands, RepaymentResult[] results, int[] repeatOf, Set<UUID> conflicted) {
+        var keys = new ArrayList<UUID>();
+        for (int i = 0; i < results.length; i++) {
+            if (results[i] == null && repeatOf[i] < 0 && conflicted.contains(commands.get(i).userId())) {
+                keys.add(commands.get(i).idempotencyKey());
+            }
+        }
+        return keys.isEmpty() ? Set.of() : ledgerRepository.findExistingIdempotencyKeys(keys);
+    }
+
+    // createInitialLoan is atomic on its own, so no outer transaction is held while a lane is busy
     public void originateLoan(UUID userId, Money amount, UUID idempotencyKey) {
-        // manual activation but there could be checks/bs rules before activation
-        var newLoan = LoanAggregate.createNew(userId, amount).activate();
+        metrics.origination.record(() -> {
+            // manual activation but there could be checks/bs rules before activation
+            var newLoan = LoanAggregate.createNew(userId, amount).activate();
 
-        ledgerRepository.createInitialLoan(newLoan, idempotencyKey);
+            rejectConfirmedDuplicate(idempotencyKey);
+            confirmingKey(idempotencyKey, () ->
+                    loanCommandExecutor.run(userId, () -> ledgerRepository.createInitialLoan(newLoan, idempotencyKey)));
+        });
+    }
+
+    private void rejectConfirmedDuplicate(UUID idempotencyKey) {
+        if (idempotencyKeyFilter.isConfirmedDuplicate(idempotencyKey)) {
+            throw new DuplicateTransactionException("Duplicate transaction detected (Idempotency Key violation).");
+        }
+    }
+
+    // Remember keys the database has settled either way, so the next retry of them never reaches it
+    private void confirmingKey(UUID idempotencyKey, Runnable write) {
+        try {
+            write.run();
+        } catch (DuplicateKeyException ex) {
+            idempotencyKeyFilter.confirm(idempotencyKey);
+            throw ex;
+        }
+        idempotencyKeyFilter.confirm(idempotencyKey);
     }
 
     @Transactional(readOnly = true)
     public Optional<LoanAggregate> getLoanDetails(UUID userId) {
-        return ledgerRepository.findByUserId(userId);
+        return metrics.loanDetails.record(() -> loanRebuildService.ledgerIsSourceOfTruth()
+                ? loanRebuildService.rebuild(userId)
+                : ledgerRepository.findByUserId(userId));
+    }
+
+    // A primary-key probe on the loan row, never a replay: callers only need to know the loan is there
+    @Transactional(readOnly = true)
+    public boolean loanExists(UUID userId) {
+        return ledgerRepository.findByUserId(userId).isPresent();
+    }
+
+    // The read-only transaction is what lets the driver use a cursor instead of buffering the whole page
+    @Transactional(readOnly = true)
+    public void streamEntries(UUID userId, long afterId, int limit, Consumer<LedgerEntry> consumer) {
+        metrics.entries.record(() -> ledgerRepository.forEachEntry(userId, afterId, Long.MAX_VALUE, limit, consumer));
+    }
+
+    // Read-only, so with replicas configured a portfolio walk never loads the primary
+    @Transactional(readOnly = true)
+    public void streamLoansByStatus(LoanStatus status, UUID afterUserId, int limit, Consumer<LoanAggregate> consumer) {
+        metrics.loansByStatus.record(() -> ledgerRepository.forEachLoanByStatus(status, afterUserId, limit, consumer));
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,37 @@
+package com.d3rrick.ledgercore.application.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+/**
+ * Pre-registered timers for the {@link LoanService} use cases, tagged by operation. Each covers the whole use case:
+ * lane wait, conflict retries and backoff included.
+ */
+@Component
+public class LoanServiceMetrics {
+
+    final Timer repayment;
+    final Timer repaymentBatch;
+    final Timer origination;
+    final Timer loanDetails;
+    final Timer entries;
+    final Timer loansByStatus;
+
+    public LoanServiceMetrics(MeterRegistry meterRegistry) {
+        this.repayment = timer(meterRegistry, "repayment");
+        this.repaymentBatch = timer(meterRegistry, "repaymentBatch");
+        this.origination = timer(meterRegistry, "origination");
+        this.loanDetails = timer(meterRegistry, "loanDetails");
+        this.entries = timer(meterRegistry, "entries");
+        this.loansByStatus = timer(meterRegistry, "loansByStatus");
+    }
+
+    private static Timer timer(MeterRegistry meterRegistry, String operation) {
+        return Timer.builder("ledger.service")
+                .description("LoanService use cases, including any failures")
+                .tag("operation", operation)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,50 @@
+package com.d3rrick.ledgercore.application.service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+
+/**
+ * Fans the ranges or loans of a bulk job out over virtual threads, at most {@code parallelism} tasks at a time, so the
+ * job never holds more pooled connections than that.
+ */
+final class ParallelTasks {
+
+    private ParallelTasks() {
+    }
+
+    /**
+     * Runs {@code task} once per item and returns when every run has ended. The first failure is rethrown after that,
+     * a {@link RuntimeException} as is and anything else wrapped.
+     *
+     * @param name names the worker threads and failures, e.g. {@code "interest"}
+     */
+    static <T> void forEach(String name, int parallelism, Collection<? extends T> items, Consumer<? super T> task) {
+        try (var workers = Executors.newFixedThreadPool(parallelism, Thread.ofVirtual().name(name + "-", 0).factory())) {
+            var futures = new ArrayList<Future<?>>(items.size());
+            for (var item : items) {
+                futures.add(workers.submit(() -> task.accept(item)));
+            }
+            for (var future : futures) {
+                await(name, future);
+            }
+        }
+    }
+
+    private static void await(String name, Future<?> future) {
+        try {
+            future.get();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for " + name + " workers", ex);
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IllegalStateException(name + " worker failed", ex.getCause());
+        }
+    }
+}
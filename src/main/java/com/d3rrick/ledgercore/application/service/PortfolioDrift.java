@@ -0,0 +1,10 @@
+package com.d3rrick.ledgercore.application.service;
+
+import com.d3rrick.ledgercore.application.port.PortfolioTotal;
+import com.d3rrick.ledgercore.domain.model.LoanStatus;
+
+/**
+ * A status whose incrementally kept totals disagree with a recompute from the {@code loan} table.
+ */
+public record PortfolioDrift(LoanStatus status, PortfolioTotal counted, PortfolioTotal recomputed) {
+}
@@ -0,0 +1,31 @@
+package com.d3rrick.ledgercore.application.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Periodic full recompute of the portfolio totals; any drift from the counters is logged and exported as a gauge.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "ledger.portfolio.drift-check-enabled", havingValue = "true")
+@RequiredArgsConstructor
+public class PortfolioDriftJob {
+
+    private final PortfolioService portfolioService;
+
+    @Scheduled(cron = "${ledger.portfolio.drift-check-cron:0 0 * * * *}")
+    public void run() {
+        var drifts = portfolioService.checkDrift();
+        drifts.forEach(drift -> log.error("Portfolio drift for {}: counters={} loans/{} recomputed={} loans/{}",
+                drift.status(),
+                drift.counted().loans(), drift.counted().outstanding().amount(),
+                drift.recomputed().loans(), drift.recomputed().outstanding().amount()));
+        if (drifts.isEmpty()) {
+            log.info("Portfolio counters match the loan table");
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.d3rrick.ledgercore.application.service;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Live portfolio totals, bound from {@code ledger.portfolio.*}.
+ *
+ * @param maxStaleness      how long this node serves the totals it last read before summing the counters again
+ * @param driftCheckEnabled compare the counters with a full recompute on {@code ledger.portfolio.drift-check-cron}
+ */
+@ConfigurationProperties("ledger.portfolio")
+public record PortfolioProperties(
+        @DefaultValue("1s") Duration maxStaleness,
+        @DefaultValue("false") boolean driftCheckEnabled) {
+}
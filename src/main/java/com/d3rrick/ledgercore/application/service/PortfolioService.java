@@ -0,0 +1,120 @@
+package com.d3rrick.ledgercore.application.service;
+
+import com.d3rrick.ledgercore.application.port.PortfolioRepository;
+import com.d3rrick.ledgercore.application.port.PortfolioTotal;
+import com.d3rrick.ledgercore.domain.model.LoanStatus;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Per-status loan count and outstanding balance without aggregating the loan table. The database keeps sharded
+ * counters current on every write (V8); this node serves the last sum of them for up to
+ * {@code ledger.portfolio.max-staleness}, so the endpoint costs at most one small query per interval. The gauges only
+ * read that cached sum, which a background refresh renews on the same interval, so a scrape never reaches the database.
+ *
+ * <p>{@link #checkDrift()} recomputes the totals from {@code loan} in the same snapshot as the counters, so any
+ * difference is real drift rather than a write that landed between two reads.
+ */
+@Service
+public class PortfolioService {
+
+    private final PortfolioRepository repository;
+    private final PortfolioProperties properties;
+    private final TransactionTemplate snapshot;
+    private final Map<LoanStatus, AtomicLong> driftedLoans = new EnumMap<>(LoanStatus.class);
+
+    private volatile PortfolioSnapshot cached;
+
+    public PortfolioService(PortfolioRepository repository,
+                            PortfolioProperties properties,
+                            PlatformTransactionManager transactionManager,
+                            MeterRegistry meterRegistry) {
+        this.repository = repository;
+        this.properties = properties;
+        this.snapshot = new TransactionTemplate(transactionManager);
+        this.snapshot.setReadOnly(true);
+        this.snapshot.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+        for (var status : LoanStatus.values()) {
+            Gauge.builder("ledger.portfolio.loans", this, s -> s.cached(status, PortfolioTotal::loans))
+                    .description("Loans currently in the status")
+                    .tag("status", status.name())
+                    .register(meterRegistry);
+            Gauge.builder("ledger.portfolio.outstanding", this, s -> s.cached(status, total -> total.outstanding().amount().doubleValue()))
+                    .description("Sum of current balances of the loans in the status")
+                    .tag("status", status.name())
+                    .register(meterRegistry);
+            var drifted = new AtomicLong();
+            driftedLoans.put(status, drifted);
+            Gauge.builder("ledger.portfolio.drift", drifted, AtomicLong::get)
+                    .description("Counted minus recomputed loans in the status at the last drift check")
+                    .tag("status", status.name())
+                    .register(meterRegistry);
+        }
+    }
+
+    /**
+     * @return totals for every status, at most {@code max-staleness} old
+     */
+    public PortfolioSnapshot totals() {
+        var totals = cached;
+        if (totals == null || totals.readAt().plus(properties.maxStaleness()).isBefore(Instant.now())) {
+            var counted = snapshot.execute(status -> repository.counterTotals());
+            totals = new PortfolioSnapshot(complete(counted), Instant.now());
+            cached = totals;
+        }
+        return totals;
+    }
+
+    @Scheduled(fixedDelayString = "${ledger.portfolio.max-staleness:1s}")
+    public void refresh() {
+        totals();
+    }
+
+    // NaN until the first refresh, so a scrape reports no data rather than a portfolio of zero
+    private double cached(LoanStatus status, ToDoubleFunction<PortfolioTotal> value) {
+        var totals = cached;
+        return totals == null ? Double.NaN : value.applyAsDouble(totals.byStatus().get(status));
+    }
+
+    /**
+     * @return the statuses whose counters disagree with the loan table; empty when they all match
+     */
+    public List<PortfolioDrift> checkDrift() {
+        var drifts = snapshot.execute(status -> {
+            var counted = complete(repository.counterTotals());
+            var recomputed = complete(repository.recomputeTotals());
+            var found = new ArrayList<PortfolioDrift>();
+            for (var loanStatus : LoanStatus.values()) {
+                var expected = recomputed.get(loanStatus);
+                var actual = counted.get(loanStatus);
+                driftedLoans.get(loanStatus).set(actual.loans() - expected.loans());
+                if (!actual.equals(expected)) {
+                    found.add(new PortfolioDrift(loanStatus, actual, expected));
+                }
+            }
+            return found;
+        });
+        return List.copyOf(drifts);
+    }
+
+    private static Map<LoanStatus, PortfolioTotal> complete(Map<LoanStatus, PortfolioTotal> totals) {
+        var all = new EnumMap<LoanStatus, PortfolioTotal>(LoanStatus.class);
+        for (var status : LoanStatus.values()) {
+            all.put(status, totals.getOrDefault(status, PortfolioTotal.empty(status)));
+        }
+        return all;
+    }
+}
@@ -0,0 +1,13 @@
+package com.d3rrick.ledgercore.application.service;
+
+import com.d3rrick.ledgercore.application.port.PortfolioTotal;
+import com.d3rrick.ledgercore.domain.model.LoanStatus;
+
+import java.time.Instant;
+import java.util.Map;
+
+/**
+ * Totals for every {@link LoanStatus}, as read from the counters at {@code readAt}.
+ */
+public record PortfolioSnapshot(Map<LoanStatus, PortfolioTotal> byStatus, Instant readAt) {
+}
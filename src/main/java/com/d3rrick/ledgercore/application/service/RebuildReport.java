@@ -0,0 +1,16 @@
+package com.d3rrick.ledgercore.application.service;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * @param unreplayable loans whose entries broke a domain rule on replay; their snapshots were left untouched
+ */
+public record RebuildReport(int loans, long entriesReplayed, List<UUID> unreplayable, Duration elapsed) {
+
+    public double entriesPerSecond() {
+        var seconds = elapsed.toNanos() / 1e9;
+        return seconds == 0 ? 0 : entriesReplayed / seconds;
+    }
+}
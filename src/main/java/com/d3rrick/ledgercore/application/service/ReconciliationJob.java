@@ -0,0 +1,28 @@
+package com.d3rrick.ledgercore.application.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Periodic incremental reconciliation; every mismatch is logged and counted.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "ledger.reconciliation.enabled", havingValue = "true")
+@RequiredArgsConstructor
+public class ReconciliationJob {
+
+    private final ReconciliationService reconciliationService;
+
+    @Scheduled(cron = "${ledger.reconciliation.cron:0 */15 * * * *}")
+    public void run() {
+        var report = reconciliationService.reconcile(ReconciliationService.Mode.INCREMENTAL, mismatch ->
+                log.error("Balance mismatch for loan {}: snapshot={} ledger={}",
+                        mismatch.userId(), mismatch.snapshotBalance().amount(), mismatch.ledgerBalance().amount()));
+        log.info("Reconciliation {} checked {} ranges since {} in {}: {} mismatches",
+                report.mode(), report.ranges(), report.changedSince(), report.elapsed(), report.mismatches());
+    }
+}
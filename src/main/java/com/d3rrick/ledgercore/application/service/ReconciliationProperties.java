@@ -0,0 +1,23 @@
+package com.d3rrick.ledgercore.application.service;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Ledger-vs-snapshot reconciliation, bound from {@code ledger.reconciliation.*}.
+ *
+ * @param enabled     run the incremental check on {@code ledger.reconciliation.cron}
+ * @param ranges      slices of the user_id keyspace checked independently
+ * @param parallelism ranges checked at once; each holds one pooled connection while it runs
+ * @param overlap     how far before the last watermark an incremental run starts, covering transactions that
+ *                    were still in flight when the previous run began
+ */
+@ConfigurationProperties("ledger.reconciliation")
+public record ReconciliationProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("64") int ranges,
+        @DefaultValue("4") int parallelism,
+        @DefaultValue("5m") Duration overlap) {
+}
@@ -0,0 +1,11 @@
+package com.d3rrick.ledgercore.application.service;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+
+/**
+ * @param changedSince lower bound on {@code updated_at} that was checked; {@code null} for a full run
+ */
+public record ReconciliationReport(ReconciliationService.Mode mode, OffsetDateTime changedSince, int ranges,
+                                   long mismatches, Duration elapsed) {
+}
@@ -0,0 +1,8 @@
+package com.d3rrick.ledgercore.application.service;
+
+import com.d3rrick.ledgercore.domain.model.Money;
+
+import java.util.UUID;
+
+public record RepaymentCommand(UUID userId, Money amount, UUID idempotencyKey) {
+}
@@ -0,0 +1,44 @@
+package com.d3rrick.ledgercore.application.service;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Tuning knobs for the repayment use case, bound from {@code ledger.repayment.*}.
+ */
+@ConfigurationProperties("ledger.repayment")
+public record RepaymentProperties(@DefaultValue("STANDARD") Mode mode, @DefaultValue Retry retry) {
+
+    public enum Mode {
+        /**
+         * Read the aggregate, apply the domain rules in memory, then write the entry and the versioned snapshot.
+         */
+        STANDARD,
+
+        /**
+         * Validate, append the entry and bump the version in one writable-CTE statement.
+         */
+        SINGLE_STATEMENT
+    }
+
+    /**
+     * Server-side retry of optimistic-lock conflicts.
+     *
+     * @param maxAttempts    total attempts including the first one
+     * @param initialBackoff upper bound of the jittered sleep before the first retry, doubled per retry
+     * @param maxBackoff     cap on the jittered sleep
+     * @param deadline       overall budget; a retry whose backoff would overrun it is not attempted
+     */
+    public record Retry(
+            @DefaultValue("3") int maxAttempts,
+            @DefaultValue("10ms") Duration initialBackoff,
+            @DefaultValue("200ms") Duration maxBackoff,
+            @DefaultValue("1s") Duration deadline) {
+
+        public static Retry none() {
+            return new Retry(1, Duration.ZERO, Duration.ZERO, Duration.ZERO);
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.d3rrick.ledgercore.application.service;
+
+import java.util.UUID;
+
+/**
+ * Per-item outcome of a batch repayment; {@code detail} carries the reason for anything but {@link Outcome#APPLIED}.
+ */
+public record RepaymentResult(UUID userId, UUID idempotencyKey, Outcome outcome, String detail) {
+
+    public enum Outcome {
+        APPLIED, DUPLICATE, CONFLICT, REJECTED, NOT_FOUND
+    }
+
+    static RepaymentResult applied(RepaymentCommand command) {
+        return new RepaymentResult(command.userId(), command.idempotencyKey(), Outcome.APPLIED, null);
+    }
+
+    static RepaymentResult of(RepaymentCommand command, Outcome outcome, String detail) {
+        return new RepaymentResult(command.userId(), command.idempotencyKey(), outcome, detail);
+    }
+}
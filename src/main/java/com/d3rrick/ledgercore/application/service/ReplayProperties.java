@@ -0,0 +1,20 @@
+package com.d3rrick.ledgercore.application.service;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Rebuilding loans from their ledger entries, bound from {@code ledger.replay.*}.
+ *
+ * @param readSource    where loan reads come from: the {@code loan} row, or a replay of {@code ledger_entry}
+ * @param snapshotEvery entries replayed between persisted snapshots
+ * @param parallelism   loans repaired at once by a bulk repair; each holds one pooled connection
+ */
+@ConfigurationProperties("ledger.replay")
+public record ReplayProperties(
+        @DefaultValue("loan-row") ReadSource readSource,
+        @DefaultValue("500") int snapshotEvery,
+        @DefaultValue("4") int parallelism) {
+
+    public enum ReadSource { LOAN_ROW, LEDGER }
+}
@@ -0,0 +1,140 @@
+package com.d3rrick.ledgercore.application.service;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Opt-in single-writer mode: every single-loan command for a userId is queued on one of N lanes, each drained by a
+ * single virtual thread. Commands for the same loan run one after another and never race each other on
+ * {@code LOAN.VERSION}, while loans on different lanes still proceed in parallel.
+ *
+ * <p>Only commands submitted here are serialized. Batch repayments ({@link LoanService#processRepaymentBatch}, and the
+ * repayment consumer built on it) and the bulk jobs write past the lanes, so a lane command can still lose the
+ * {@code LOAN.VERSION} check to them; it is then retried like any other conflict.
+ *
+ * <p>A lane thread never joins the caller's transaction, so a command submitted from inside one would commit on its
+ * own and survive the caller's rollback. Such calls are refused with an {@link IllegalStateException}.
+ *
+ * <p>Publishes {@code ledger.lanes.queue.depth} and {@code ledger.lanes.busy} (seconds spent executing) per
+ * lane; the rate of the latter is the lane's utilization.
+ */
+@Component
+@ConditionalOnProperty(name = "ledger.lanes.enabled", havingValue = "true")
+public class StripedLoanCommandLanes implements LoanCommandExecutor, AutoCloseable {
+
+    private final Lane[] lanes;
+    private final Duration offerTimeout;
+
+    public StripedLoanCommandLanes(LaneProperties properties, MeterRegistry meterRegistry) {
+        this.offerTimeout = properties.offerTimeout();
+        this.lanes = new Lane[properties.count()];
+
+        for (int i = 0; i < lanes.length; i++) {
+            var lane = new Lane(i, properties.queueCapacity());
+            var tag = String.valueOf(i);
+            Gauge.builder("ledger.lanes.queue.depth", lane.queue, BlockingQueue::size)
+                    .description("Commands waiting for their lane")
+                    .tag("lane", tag)
+                    .register(meterRegistry);
+            FunctionCounter.builder("ledger.lanes.busy", lane.busyNanos, busy -> busy.sum() / 1e9)
+                    .description("Time the lane spent executing commands")
+                    .baseUnit("seconds")
+                    .tag("lane", tag)
+                    .register(meterRegistry);
+            lanes[i] = lane;
+        }
+    }
+
+    @Override
+    public <T> T execute(UUID userId, Supplier<T> command) {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            throw new IllegalStateException("Loan commands run on a lane thread and cannot join the caller's transaction");
+        }
+        var lane = laneFor(userId);
+        var task = new FutureTask<T>(command::get);
+
+        try {
+            if (!lane.queue.offer(task, offerTimeout.toNanos(), TimeUnit.NANOSECONDS)) {
+                throw new RejectedExecutionException("Command lane " + lane.index + " is saturated");
+            }
+            return task.get();
+        } catch (InterruptedException ex) {
+            task.cancel(false);
+            Thread.currentThread().interrupt();
+            throw new RejectedExecutionException("Interrupted while waiting for command lane " + lane.index, ex);
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            if (ex.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException(ex.getCause());
+        }
+    }
+
+    int laneIndex(UUID userId) {
+        var hash = userId.hashCode();
+        return Math.floorMod(hash ^ (hash >>> 16), lanes.length);
+    }
+
+    private Lane laneFor(UUID userId) {
+        return lanes[laneIndex(userId)];
+    }
+
+    @Override
+    public void close() {
+        for (var lane : lanes) {
+            lane.worker.interrupt();
+            var pending = new ArrayList<Runnable>();
+            lane.queue.drainTo(pending);
+            pending.forEach(task -> ((FutureTask<?>) task).cancel(false));
+        }
+    }
+
+    private static final class Lane {
+        private final int index;
+        private final BlockingQueue<Runnable> queue;
+        private final LongAdder busyNanos = new LongAdder();
+        private final Thread worker;
+
+        private Lane(int index, int capacity) {
+            this.index = index;
+            this.queue = new ArrayBlockingQueue<>(capacity);
+            this.worker = Thread.ofVirtual().name("loan-lane-" + index).start(this::drain);
+        }
+
+        private void drain() {
+            while (!Thread.currentThread().isInterrupted()) {
+                Runnable task;
+                try {
+                    task = queue.take();
+                } catch (InterruptedException ex) {
+                    return;
+                }
+                var started = System.nanoTime();
+                try {
+                    task.run(); // FutureTask captures the outcome for the waiting caller
+                } finally {
+                    busyNanos.add(System.nanoTime() - started);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,7 @@
+package com.d3rrick.ledgercore.domain.exception;
+
+public class DuplicateTransactionException extends RuntimeException {
+    public DuplicateTransactionException(String message) {
+        super(message);
+    }
+}
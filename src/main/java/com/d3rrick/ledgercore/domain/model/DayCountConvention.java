@@ -0,0 +1,65 @@
+package com.d3rrick.ledgercore.domain.model;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.time.LocalDate;
+import java.time.Year;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * How many years of interest a span of calendar days is worth.
+ */
+public enum DayCountConvention {
+
+    /** Actual days over a 360-day year. */
+    ACT_360 {
+        @Override
+        public BigDecimal yearFraction(LocalDate start, LocalDate end) {
+            return days(start, end).divide(BigDecimal.valueOf(360), MathContext.DECIMAL64);
+        }
+    },
+
+    /** Actual days over a 365-day year, leap years included. */
+    ACT_365_FIXED {
+        @Override
+        public BigDecimal yearFraction(LocalDate start, LocalDate end) {
+            return days(start, end).divide(BigDecimal.valueOf(365), MathContext.DECIMAL64);
+        }
+    },
+
+    /** Actual days, each counted against the length of the year it falls in (ISDA). */
+    ACT_ACT_ISDA {
+        @Override
+        public BigDecimal yearFraction(LocalDate start, LocalDate end) {
+            var fraction = BigDecimal.ZERO;
+            var from = start;
+            while (from.isBefore(end)) {
+                var nextYear = LocalDate.of(from.getYear() + 1, 1, 1);
+                var to = end.isBefore(nextYear) ? end : nextYear;
+                fraction = fraction.add(days(from, to).divide(BigDecimal.valueOf(Year.of(from.getYear()).length()), MathContext.DECIMAL64));
+                from = to;
+            }
+            return fraction;
+        }
+    },
+
+    /** Every month has 30 days and the year 360 (30/360 bond basis). */
+    THIRTY_360 {
+        @Override
+        public BigDecimal yearFraction(LocalDate start, LocalDate end) {
+            var d1 = Math.min(start.getDayOfMonth(), 30);
+            var d2 = d1 == 30 ? Math.min(end.getDayOfMonth(), 30) : end.getDayOfMonth();
+            var days = 360 * (end.getYear() - start.getYear()) + 30 * (end.getMonthValue() - start.getMonthValue()) + (d2 - d1);
+            return BigDecimal.valueOf(days).divide(BigDecimal.valueOf(360), MathContext.DECIMAL64);
+        }
+    };
+
+    /**
+     * @return the year fraction of {@code [start, end)}
+     */
+    public abstract BigDecimal yearFraction(LocalDate start, LocalDate end);
+
+    private static BigDecimal days(LocalDate start, LocalDate end) {
+        return BigDecimal.valueOf(ChronoUnit.DAYS.between(start, end));
+    }
+}
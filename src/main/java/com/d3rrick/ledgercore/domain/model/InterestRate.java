@@ -0,0 +1,44 @@
+package com.d3rrick.ledgercore.domain.model;
+
+import com.d3rrick.ledgercore.domain.exception.DomainException;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+
+/**
+ * Nominal annual rate (0.12 = 12%) applied through a {@link DayCountConvention}.
+ */
+public record InterestRate(BigDecimal annualRate, DayCountConvention dayCount) {
+
+    /** Digits kept of the sub-cent remainder carried between days; matches {@code interest_carry.carry}. */
+    public static final int CARRY_SCALE = 10;
+
+    public InterestRate {
+        if (annualRate.signum() < 0) {
+            throw new DomainException("Interest rate cannot be negative: " + annualRate);
+        }
+    }
+
+    /**
+     * Simple interest on {@code balance} for the single day {@code day}, plus the {@code carry} left over from earlier
+     * days, split into whole cents to post now (rounded half-even) and the remainder to carry into the next day. Since
+     * every remainder is carried forward, interest posted to date never differs from interest earned by more than
+     * half a cent, and a balance too small to earn a cent in one day still accrues over several.
+     */
+    public DailyAccrual accrue(Money balance, BigDecimal carry, LocalDate day) {
+        var earned = balance.amount()
+                .multiply(annualRate)
+                .multiply(dayCount.yearFraction(day, day.plusDays(1)))
+                .add(carry);
+        var posted = earned.setScale(2, RoundingMode.HALF_EVEN);
+        return new DailyAccrual(new Money(posted), earned.subtract(posted).setScale(CARRY_SCALE, RoundingMode.HALF_EVEN));
+    }
+
+    /**
+     * @param interest the whole cents to post for the day; may be zero
+     * @param carry    earned but not yet posted, within half a cent either way
+     */
+    public record DailyAccrual(Money interest, BigDecimal carry) {
+    }
+}
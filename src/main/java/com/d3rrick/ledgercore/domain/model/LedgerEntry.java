@@ -0,0 +1,16 @@
+package com.d3rrick.ledgercore.domain.model;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+/**
+ * One immutable line of a loan's history. Entries are append-only; {@code id} orders them per loan.
+ */
+public record LedgerEntry(
+        long id,
+        UUID userId,
+        Money amountDelta,
+        String entryType,
+        UUID idempotencyKey,
+        OffsetDateTime createdAt) {
+}
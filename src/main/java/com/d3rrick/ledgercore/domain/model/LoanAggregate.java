@@ -1,7 +1,6 @@
 package com.d3rrick.ledgercore.domain.model;
 
 import com.d3rrick.ledgercore.domain.exception.DomainException;
-import java.math.BigDecimal;
 import java.util.UUID;
 
 /**
@@ -44,7 +43,7 @@ public record LoanAggregate(
         var newBalance = this.currentBalance.subtract(repayment);
 
         // State Machine Rule: Balance of zero forces CLOSED status
-        var nextStatus = (newBalance.amount().compareTo(BigDecimal.ZERO) == 0)
+        var nextStatus = newBalance.isZero()
                 ? LoanStatus.CLOSED
                 : this.status;
 
@@ -59,6 +58,17 @@ public record LoanAggregate(
         return new LoanAggregate(userId, principalAmount, currentBalance, LoanStatus.DEFAULTED, version);
     }
 
+    /**
+     * Transition: ACTIVE -> ACTIVE with {@code interest} added to the balance
+     */
+    public LoanAggregate accrueInterest(Money interest) {
+        ensureStatus(LoanStatus.ACTIVE, "accrue interest on");
+        if (!interest.isPositive()) {
+            throw new DomainException("Accrued interest must be positive");
+        }
+        return new LoanAggregate(userId, principalAmount, currentBalance.add(interest), status, version);
+    }
+
     // Helper Methods
     private void ensureStatus(LoanStatus expected, String action) {
         if (this.status != expected) {
@@ -67,10 +77,10 @@ public record LoanAggregate(
     }
 
     private void validateRepaymentAmount(Money amount) {
-        if (amount.amount().compareTo(BigDecimal.ZERO) <= 0) {
+        if (!amount.isPositive()) {
             throw new DomainException("Repayment amount must be positive");
         }
-        if (amount.amount().compareTo(this.currentBalance.amount()) > 0) {
+        if (amount.compareTo(this.currentBalance) > 0) {
             throw new DomainException("Repayment exceeds outstanding balance of " + currentBalance.amount());
         }
     }
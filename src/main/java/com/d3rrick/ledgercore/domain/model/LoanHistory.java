@@ -0,0 +1,36 @@
+package com.d3rrick.ledgercore.domain.model;
+
+import com.d3rrick.ledgercore.domain.exception.DomainException;
+
+/**
+ * Folds ledger entries back into a {@link LoanAggregate}. Every entry goes through the same transition the write
+ * path used, so a replay cannot reach a state the live system would have refused.
+ *
+ * <p>Writers advance {@code version} by one per entry after the disbursement, and the version check serializes
+ * them per loan, so entry id order is the order the transitions were committed in.
+ */
+public final class LoanHistory {
+
+    private LoanHistory() {
+    }
+
+    /**
+     * @param state the loan before {@code entry}, or {@code null} when {@code entry} opens its history
+     */
+    public static LoanAggregate apply(LoanAggregate state, LedgerEntry entry) {
+        if (state == null) {
+            if (!"DISBURSEMENT".equals(entry.entryType())) {
+                throw new DomainException("History of loan " + entry.userId() + " starts with " + entry.entryType() + " instead of DISBURSEMENT");
+            }
+            return LoanAggregate.createNew(entry.userId(), entry.amountDelta()).activate();
+        }
+
+        var next = switch (entry.entryType()) {
+            case "REPAYMENT" -> state.applyRepayment(entry.amountDelta().negate());
+            case "DEFAULT" -> state.markAsDefaulted();
+            case "INTEREST_ACCRUAL" -> state.accrueInterest(entry.amountDelta());
+            default -> throw new DomainException("Cannot replay entry " + entry.id() + " of type " + entry.entryType());
+        };
+        return new LoanAggregate(next.userId(), next.principalAmount(), next.currentBalance(), next.status(), state.version() + 1);
+    }
+}
@@ -0,0 +1,7 @@
+package com.d3rrick.ledgercore.domain.model;
+
+/**
+ * A loan's state immediately after the entry {@code lastEntryId} was applied.
+ */
+public record LoanSnapshot(LoanAggregate loan, long lastEntryId) {
+}
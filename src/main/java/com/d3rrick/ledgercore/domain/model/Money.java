@@ -5,17 +5,50 @@ import jakarta.annotation.Nonnull;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 
-public record Money(@Nonnull BigDecimal amount) {
-    public Money {
+/**
+ * Fixed-point amount held as a {@code long} count of minor units (cents).
+ *
+ * <p>Arithmetic and comparison never allocate and fail with {@link ArithmeticException} instead of wrapping.
+ * {@link BigDecimal} only appears at the web and jOOQ boundary, through {@link #Money(BigDecimal)} and
+ * {@link #amount()}.
+ */
+public record Money(long minorUnits) implements Comparable<Money> {
+
+    private static final int SCALE = 2;
+
+    public static final Money ZERO = new Money(0L);
+
+    public Money(@Nonnull BigDecimal amount) {
         // Standardize to 2 decimal places
-        amount = amount.setScale(2, RoundingMode.HALF_UP);
+        this(amount.setScale(SCALE, RoundingMode.HALF_UP).unscaledValue().longValueExact());
+    }
+
+    public BigDecimal amount() {
+        return BigDecimal.valueOf(minorUnits, SCALE);
+    }
+
+    public Money add(Money other) {
+        return new Money(Math.addExact(minorUnits, other.minorUnits));
     }
 
     public Money subtract(Money other) {
-        return new Money(this.amount().subtract(other.amount()));
+        return new Money(Math.subtractExact(minorUnits, other.minorUnits));
     }
 
     public Money negate() {
-        return new Money(this.amount.negate());
+        return new Money(Math.negateExact(minorUnits));
+    }
+
+    public boolean isZero() {
+        return minorUnits == 0;
+    }
+
+    public boolean isPositive() {
+        return minorUnits > 0;
+    }
+
+    @Override
+    public int compareTo(Money other) {
+        return Long.compare(minorUnits, other.minorUnits);
     }
 }
@@ -28,8 +28,7 @@ public class Keys {
     // UNIQUE and PRIMARY KEY definitions
     // -------------------------------------------------------------------------
 
-    public static final UniqueKey<LedgerEntryRecord> LEDGER_ENTRY_IDEMPOTENCY_KEY_KEY = Internal.createUniqueKey(LedgerEntry.LEDGER_ENTRY, DSL.name("ledger_entry_idempotency_key_key"), new TableField[] { LedgerEntry.LEDGER_ENTRY.IDEMPOTENCY_KEY }, true);
-    public static final UniqueKey<LedgerEntryRecord> LEDGER_ENTRY_PKEY = Internal.createUniqueKey(LedgerEntry.LEDGER_ENTRY, DSL.name("ledger_entry_pkey"), new TableField[] { LedgerEntry.LEDGER_ENTRY.ID }, true);
+    public static final UniqueKey<LedgerEntryRecord> LEDGER_ENTRY_PKEY = Internal.createUniqueKey(LedgerEntry.LEDGER_ENTRY, DSL.name("ledger_entry_pkey"), new TableField[] { LedgerEntry.LEDGER_ENTRY.ID, LedgerEntry.LEDGER_ENTRY.CREATED_AT }, true);
     public static final UniqueKey<LoanRecord> LOAN_PKEY = Internal.createUniqueKey(Loan.LOAN, DSL.name("loan_pkey"), new TableField[] { Loan.LOAN.USER_ID }, true);
 
     // -------------------------------------------------------------------------
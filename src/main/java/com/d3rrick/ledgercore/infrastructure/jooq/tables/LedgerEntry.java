@@ -88,7 +88,7 @@ public class LedgerEntry extends TableImpl<LedgerEntryRecord> {
     /**
      * The column <code>public.ledger_entry.created_at</code>.
      */
-    public final TableField<LedgerEntryRecord, OffsetDateTime> CREATED_AT = createField(DSL.name("created_at"), SQLDataType.TIMESTAMPWITHTIMEZONE(6).defaultValue(DSL.field(DSL.raw("CURRENT_TIMESTAMP"), SQLDataType.TIMESTAMPWITHTIMEZONE)), this, "");
+    public final TableField<LedgerEntryRecord, OffsetDateTime> CREATED_AT = createField(DSL.name("created_at"), SQLDataType.TIMESTAMPWITHTIMEZONE(6).nullable(false).defaultValue(DSL.field(DSL.raw("CURRENT_TIMESTAMP"), SQLDataType.TIMESTAMPWITHTIMEZONE)), this, "");
 
     private LedgerEntry(Name alias, Table<LedgerEntryRecord> aliased) {
         this(alias, aliased, (Field<?>[]) null, null);
@@ -167,11 +167,6 @@ public class LedgerEntry extends TableImpl<LedgerEntryRecord> {
         return Keys.LEDGER_ENTRY_PKEY;
     }
 
-    @Override
-    public List<UniqueKey<LedgerEntryRecord>> getUniqueKeys() {
-        return Arrays.asList(Keys.LEDGER_ENTRY_IDEMPOTENCY_KEY_KEY);
-    }
-
     @Override
     public List<ForeignKey<LedgerEntryRecord, ?>> getReferences() {
         return Arrays.asList(Keys.LEDGER_ENTRY__LEDGER_ENTRY_USER_ID_FKEY);
@@ -10,7 +10,7 @@ import java.math.BigDecimal;
 import java.time.OffsetDateTime;
 import java.util.UUID;
 
-import org.jooq.Record1;
+import org.jooq.Record2;
 import org.jooq.impl.UpdatableRecordImpl;
 
 
@@ -111,8 +111,8 @@ public class LedgerEntryRecord extends UpdatableRecordImpl<LedgerEntryRecord> {
     // -------------------------------------------------------------------------
 
     @Override
-    public Record1<Long> key() {
-        return (Record1) super.key();
+    public Record2<Long, OffsetDateTime> key() {
+        return (Record2) super.key();
     }
 
     // -------------------------------------------------------------------------
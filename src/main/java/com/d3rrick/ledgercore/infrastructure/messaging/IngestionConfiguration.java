@@ -0,0 +1,22 @@
+package com.d3rrick.ledgercore.infrastructure.messaging;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.listener.CommonErrorHandler;
+import org.springframework.kafka.listener.DefaultErrorHandler;
+import org.springframework.util.backoff.FixedBackOff;
+
+/**
+ * Boot wires this handler into the default listener container factory.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(name = "ledger.ingestion.enabled", havingValue = "true")
+class IngestionConfiguration {
+
+    // Never give up on a batch: skipping it would commit offsets for repayments that were never applied
+    @Bean
+    CommonErrorHandler ingestionErrorHandler(IngestionProperties properties) {
+        return new DefaultErrorHandler(new FixedBackOff(properties.redeliveryBackoff().toMillis(), FixedBackOff.UNLIMITED_ATTEMPTS));
+    }
+}
@@ -0,0 +1,24 @@
+package com.d3rrick.ledgercore.infrastructure.messaging;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Repayment ingestion from Kafka, bound from {@code ledger.ingestion.*}.
+ *
+ * @param enabled        consume {@code topic} on this node
+ * @param topic          repayment commands, keyed by userId so a loan's commands share a partition
+ * @param concurrency    listener containers; useful up to the topic's partition count
+ * @param conflictRetries times a poll batch's version conflicts are re-applied before the batch is redelivered
+ * @param redeliveryBackoff pause before a failed poll batch is redelivered
+ */
+@ConfigurationProperties("ledger.ingestion")
+public record IngestionProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("loan.repayments") String topic,
+        @DefaultValue("3") int concurrency,
+        @DefaultValue("3") int conflictRetries,
+        @DefaultValue("1s") Duration redeliveryBackoff) {
+}
@@ -0,0 +1,47 @@
+package com.d3rrick.ledgercore.infrastructure.messaging;
+
+import com.d3rrick.ledgercore.application.port.LedgerEventPublisher;
+import com.d3rrick.ledgercore.domain.model.LedgerEntry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Component;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Sends a batch without waiting per record, so the producer can pack it into compressed broker batches, then waits
+ * for all acknowledgements at once. Keying by userId keeps each loan's entries on one partition, in order.
+ */
+@Component
+@ConditionalOnProperty(name = "ledger.outbox.enabled", havingValue = "true")
+@RequiredArgsConstructor
+class KafkaLedgerEventPublisher implements LedgerEventPublisher {
+
+    private final KafkaTemplate<String, String> kafkaTemplate;
+    private final JsonMapper jsonMapper;
+    private final OutboxProperties properties;
+
+    @Override
+    public void publish(List<LedgerEntry> entries) {
+        var sends = new CompletableFuture<?>[entries.size()];
+        for (int i = 0; i < entries.size(); i++) {
+            var entry = entries.get(i);
+            sends[i] = kafkaTemplate.send(properties.topic(), entry.userId().toString(),
+                    jsonMapper.writeValueAsString(LedgerEntryMessage.of(entry)));
+        }
+        try {
+            CompletableFuture.allOf(sends).get(properties.sendTimeout().toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while publishing ledger entries", ex);
+        } catch (ExecutionException | TimeoutException ex) {
+            throw new IllegalStateException("Ledger entries were not acknowledged by the broker", ex);
+        }
+    }
+}
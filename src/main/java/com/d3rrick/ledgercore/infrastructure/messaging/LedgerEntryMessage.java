@@ -0,0 +1,24 @@
+package com.d3rrick.ledgercore.infrastructure.messaging;
+
+import com.d3rrick.ledgercore.domain.model.LedgerEntry;
+
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+/**
+ * Wire format of a published ledger entry.
+ */
+record LedgerEntryMessage(
+        long entryId,
+        UUID userId,
+        BigDecimal amountDelta,
+        String entryType,
+        UUID idempotencyKey,
+        OffsetDateTime createdAt) {
+
+    static LedgerEntryMessage of(LedgerEntry entry) {
+        return new LedgerEntryMessage(entry.id(), entry.userId(), entry.amountDelta().amount(),
+                entry.entryType(), entry.idempotencyKey(), entry.createdAt());
+    }
+}
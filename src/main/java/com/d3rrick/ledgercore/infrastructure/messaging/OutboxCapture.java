@@ -0,0 +1,40 @@
+package com.d3rrick.ledgercore.infrastructure.messaging;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.jooq.DSLContext;
+import org.jooq.Field;
+import org.jooq.Table;
+import org.jooq.impl.DSL;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.stereotype.Component;
+
+/**
+ * Applies {@code ledger.outbox.capture} to the outbox trigger on {@code ledger_entry} (see V11). Runs once all beans
+ * exist and before the web server or any listener starts, so no write of this node races the switch.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+class OutboxCapture implements SmartInitializingSingleton {
+
+    private static final Table<?> SETTING = DSL.table(DSL.name("ledger_outbox_setting"));
+    private static final Field<Boolean> CAPTURE = DSL.field(DSL.name("capture"), Boolean.class);
+
+    private final DSLContext dsl;
+    private final OutboxProperties properties;
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        if (properties.enabled() && !properties.capture()) {
+            throw new IllegalStateException("ledger.outbox.enabled requires ledger.outbox.capture: the relay would have nothing to publish");
+        }
+        var changed = dsl.update(SETTING)
+                .set(CAPTURE, properties.capture())
+                .where(CAPTURE.ne(properties.capture()))
+                .execute();
+        if (changed > 0) {
+            log.info("Ledger outbox capture turned {}", properties.capture() ? "on" : "off");
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.d3rrick.ledgercore.infrastructure.messaging;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Ledger outbox relay, bound from {@code ledger.outbox.*}.
+ *
+ * @param capture      queue every ledger entry in {@code ledger_outbox}; deployment-wide, so set it the same on every
+ *                     node. Turning it off stops the queueing but leaves queued rows behind: drain them with a relay
+ *                     first, or {@code TRUNCATE ledger_outbox} if nothing will publish them
+ * @param enabled      run the relay on this node; any number of nodes may, and each requires {@code capture}
+ * @param topic        Kafka topic ledger entries are published to, keyed by userId
+ * @param batchSize    outbox rows claimed, published and deleted per transaction
+ * @param pollInterval pause between passes over the shards
+ * @param sendTimeout  how long a batch may wait for broker acknowledgements before it is retried
+ */
+@ConfigurationProperties("ledger.outbox")
+public record OutboxProperties(
+        @DefaultValue("false") boolean capture,
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("ledger.entries") String topic,
+        @DefaultValue("500") int batchSize,
+        @DefaultValue("200ms") Duration pollInterval,
+        @DefaultValue("10s") Duration sendTimeout) {
+}
@@ -0,0 +1,148 @@
+package com.d3rrick.ledgercore.infrastructure.messaging;
+
+import com.d3rrick.ledgercore.application.port.LedgerEventPublisher;
+import com.d3rrick.ledgercore.domain.model.LedgerEntry;
+import com.d3rrick.ledgercore.domain.model.Money;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.jooq.DSLContext;
+import org.jooq.Field;
+import org.jooq.Record;
+import org.jooq.Table;
+import org.jooq.impl.DSL;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Drains {@code ledger_outbox} (filled by a trigger on {@code ledger_entry} while {@code ledger.outbox.capture} is on,
+ * see V6 and {@link OutboxCapture}) to a {@link LedgerEventPublisher}.
+ *
+ * <p>Each transaction claims one shard with {@code FOR UPDATE SKIP LOCKED}, publishes up to a batch of its rows
+ * in entry order and deletes them. Other nodes skip the claimed shard and take the next, so the work spreads across
+ * relays while every loan's events still leave in order. A crash between publish and commit republishes the batch.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "ledger.outbox.enabled", havingValue = "true")
+public class OutboxRelay {
+
+    private static final Table<?> OUTBOX = DSL.table(DSL.name("ledger_outbox"));
+    private static final Table<?> SHARDS = DSL.table(DSL.name("ledger_outbox_shard"));
+    private static final Field<Long> ENTRY_ID = DSL.field(DSL.name("entry_id"), Long.class);
+    private static final Field<Short> SHARD = DSL.field(DSL.name("shard"), Short.class);
+    private static final Field<UUID> USER_ID = DSL.field(DSL.name("user_id"), UUID.class);
+    private static final Field<BigDecimal> AMOUNT_DELTA = DSL.field(DSL.name("amount_delta"), BigDecimal.class);
+    private static final Field<String> ENTRY_TYPE = DSL.field(DSL.name("entry_type"), String.class);
+    private static final Field<UUID> IDEMPOTENCY_KEY = DSL.field(DSL.name("idempotency_key"), UUID.class);
+    private static final Field<OffsetDateTime> CREATED_AT = DSL.field(DSL.name("created_at"), OffsetDateTime.class);
+
+    private final DSLContext dsl;
+    private final LedgerEventPublisher publisher;
+    private final OutboxProperties properties;
+    private final Counter published;
+    private final Timer publishTimer;
+    private final AtomicLong lagMillis = new AtomicLong();
+
+    public OutboxRelay(DSLContext dsl, LedgerEventPublisher publisher, OutboxProperties properties, MeterRegistry meterRegistry) {
+        this.dsl = dsl;
+        this.publisher = publisher;
+        this.properties = properties;
+        this.published = Counter.builder("ledger.outbox.published")
+                .description("Ledger entries relayed from the outbox to the broker")
+                .register(meterRegistry);
+        this.publishTimer = Timer.builder("ledger.outbox.publish")
+                .description("Time to publish one outbox batch and have it acknowledged")
+                .register(meterRegistry);
+        Gauge.builder("ledger.outbox.lag", lagMillis, lag -> lag.get() / 1e3)
+                .description("Age of the oldest entry in the most recent relay pass")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${ledger.outbox.poll-interval:200ms}")
+    public void relay() {
+        try {
+            drain();
+        } catch (RuntimeException ex) {
+            // The claimed rows were rolled back and are picked up again next pass
+            log.warn("Outbox relay pass failed", ex);
+        }
+    }
+
+    /**
+     * One pass over every shard this node can claim, draining each until it is empty.
+     *
+     * @return entries published
+     */
+    public int drain() {
+        var started = OffsetDateTime.now();
+        var oldest = started;
+        var total = 0;
+        for (var shard : dsl.select(SHARD).from(SHARDS).orderBy(SHARD).fetch(SHARD)) {
+            List<LedgerEntry> batch;
+            do {
+                batch = drainBatch(shard);
+                published.increment(batch.size());
+                total += batch.size();
+                if (!batch.isEmpty() && batch.getFirst().createdAt().isBefore(oldest)) {
+                    oldest = batch.getFirst().createdAt();
+                }
+            } while (batch.size() == properties.batchSize());
+        }
+        lagMillis.set(Duration.between(oldest, started).toMillis());
+        return total;
+    }
+
+    private List<LedgerEntry> drainBatch(short shard) {
+        return dsl.transactionResult(configuration -> {
+            var ctx = configuration.dsl();
+            var claimed = ctx.select(SHARD)
+                    .from(SHARDS)
+                    .where(SHARD.eq(shard))
+                    .forUpdate()
+                    .skipLocked()
+                    .fetchOptional();
+            if (claimed.isEmpty()) {
+                return List.of();
+            }
+
+            var batch = ctx.select(ENTRY_ID, USER_ID, AMOUNT_DELTA, ENTRY_TYPE, IDEMPOTENCY_KEY, CREATED_AT)
+                    .from(OUTBOX)
+                    .where(SHARD.eq(shard))
+                    .orderBy(ENTRY_ID)
+                    .limit(properties.batchSize())
+                    .fetch(OutboxRelay::toEntry);
+            if (batch.isEmpty()) {
+                return batch;
+            }
+
+            publishTimer.record(() -> publisher.publish(batch));
+            // By id, not by range: a lower id may still be in flight and must not be deleted unpublished
+            ctx.deleteFrom(OUTBOX)
+                    .where(ENTRY_ID.eq(DSL.any(batch.stream().map(LedgerEntry::id).toArray(Long[]::new))))
+                    .execute();
+            return batch;
+        });
+    }
+
+    private static LedgerEntry toEntry(Record r) {
+        return new LedgerEntry(
+                r.get(ENTRY_ID),
+                r.get(USER_ID),
+                new Money(r.get(AMOUNT_DELTA)),
+                r.get(ENTRY_TYPE),
+                r.get(IDEMPOTENCY_KEY),
+                r.get(CREATED_AT));
+    }
+}
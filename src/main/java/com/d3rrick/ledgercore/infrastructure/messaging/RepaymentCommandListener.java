@@ -0,0 +1,126 @@
+package com.d3rrick.ledgercore.infrastructure.messaging;
+
+import com.d3rrick.ledgercore.application.service.LoanService;
+import com.d3rrick.ledgercore.application.service.RepaymentCommand;
+import com.d3rrick.ledgercore.application.service.RepaymentResult;
+import com.d3rrick.ledgercore.domain.model.Money;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Component;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * Applies repayment commands from Kafka one poll batch at a time through
+ * {@link LoanService#processRepaymentBatch}, which writes the whole batch in a single transaction.
+ *
+ * <p>Offsets are committed by the container only after this method returns, i.e. after that commit. If anything
+ * fails the batch is redelivered as a whole; commands that already landed come back as DUPLICATE thanks to their
+ * idempotency keys. Version conflicts with other writers are re-applied here, in partition order.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "ledger.ingestion.enabled", havingValue = "true")
+public class RepaymentCommandListener {
+
+    private final LoanService loanService;
+    private final JsonMapper jsonMapper;
+    private final IngestionProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final Counter malformed;
+    private final AtomicLong lagMillis = new AtomicLong();
+
+    public RepaymentCommandListener(LoanService loanService, JsonMapper jsonMapper, IngestionProperties properties,
+                                    MeterRegistry meterRegistry) {
+        this.loanService = loanService;
+        this.jsonMapper = jsonMapper;
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.malformed = Counter.builder("ledger.ingestion.malformed")
+                .description("Repayment messages that could not be parsed and were skipped")
+                .register(meterRegistry);
+        Gauge.builder("ledger.ingestion.lag", lagMillis, lag -> lag.get() / 1e3)
+                .description("Time between the newest consumed repayment being produced and it being applied")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    @KafkaListener(
+            id = "repayment-ingestion",
+            topics = "${ledger.ingestion.topic:loan.repayments}",
+            concurrency = "${ledger.ingestion.concurrency:3}",
+            batch = "true")
+    public void onBatch(List<ConsumerRecord<String, String>> records) {
+        var commands = new ArrayList<RepaymentCommand>(records.size());
+        for (var record : records) {
+            var command = parse(record);
+            if (command != null) {
+                commands.add(command);
+            }
+        }
+
+        var pending = List.copyOf(commands);
+        for (int attempt = 0; !pending.isEmpty(); attempt++) {
+            if (attempt > properties.conflictRetries()) {
+                throw new IllegalStateException(pending.size() + " repayments still conflict after " + attempt + " attempts");
+            }
+            var results = loanService.processRepaymentBatch(pending);
+            record(results);
+            pending = retryable(pending, results);
+        }
+
+        if (!records.isEmpty()) {
+            lagMillis.set(System.currentTimeMillis() - records.getLast().timestamp());
+        }
+    }
+
+    private RepaymentCommand parse(ConsumerRecord<String, String> record) {
+        try {
+            var message = jsonMapper.readValue(record.value(), RepaymentMessage.class);
+            if (message.userId() == null || message.amount() == null || message.idempotencyKey() == null) {
+                throw new IllegalArgumentException("userId, amount and idempotencyKey are required");
+            }
+            return new RepaymentCommand(message.userId(), new Money(message.amount()), message.idempotencyKey());
+        } catch (JacksonException | IllegalArgumentException | ArithmeticException ex) {
+            // A poison message must not stall its partition; redelivering it would fail the same way
+            malformed.increment();
+            log.warn("Skipping malformed repayment at {}-{}@{}: {}", record.topic(), record.partition(), record.offset(), ex.getMessage());
+            return null;
+        }
+    }
+
+    private void record(List<RepaymentResult> results) {
+        results.stream()
+                .collect(Collectors.groupingBy(RepaymentResult::outcome, Collectors.counting()))
+                .forEach((outcome, count) -> meterRegistry.counter("ledger.ingestion.repayments", "outcome", outcome.name()).increment(count));
+        results.stream()
+                .filter(result -> result.outcome() == RepaymentResult.Outcome.REJECTED || result.outcome() == RepaymentResult.Outcome.NOT_FOUND)
+                .forEach(result -> log.warn("Repayment {} for loan {} not applied: {}", result.idempotencyKey(), result.userId(), result.detail()));
+    }
+
+    // A conflicted loan had none of its postings written, so all of its commands go round again, still in order
+    private static List<RepaymentCommand> retryable(List<RepaymentCommand> commands, List<RepaymentResult> results) {
+        var conflicted = new ArrayList<RepaymentCommand>();
+        for (int i = 0; i < commands.size(); i++) {
+            if (results.get(i).outcome() == RepaymentResult.Outcome.CONFLICT) {
+                conflicted.add(commands.get(i));
+            }
+        }
+        return conflicted;
+    }
+
+    private record RepaymentMessage(UUID userId, BigDecimal amount, UUID idempotencyKey) {}
+}
@@ -0,0 +1,158 @@
+package com.d3rrick.ledgercore.infrastructure.persistence;
+
+import com.d3rrick.ledgercore.application.port.LedgerRepository;
+import com.d3rrick.ledgercore.application.port.LoanUpdate;
+import com.d3rrick.ledgercore.domain.model.LedgerEntry;
+import com.d3rrick.ledgercore.domain.model.LoanAggregate;
+import com.d3rrick.ledgercore.domain.model.LoanStatus;
+import com.d3rrick.ledgercore.domain.model.Money;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * Bounded read-through cache of {@link LoanAggregate} snapshots keyed by userId.
+ *
+ * <p>Entries only ever move forward in {@code version}: a successful write publishes the post-write snapshot,
+ * and a load never replaces a newer entry. A lost version check evicts the entry, so the conflict retry in
+ * {@code LoanService} re-reads the database instead of the cache. Writes made inside a caller's transaction are
+ * published after commit and dropped on rollback.
+ */
+class CachingLedgerRepository implements LedgerRepository, AutoCloseable {
+
+    private final LedgerRepository delegate;
+    private final Cache<UUID, LoanAggregate> loans;
+
+    CachingLedgerRepository(LedgerRepository delegate, LoanCacheProperties properties, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.loans = Caffeine.newBuilder()
+                .maximumSize(properties.maxSize())
+                .expireAfterWrite(properties.ttl())
+                .recordStats()
+                .build();
+        // cache.gets{result=hit|miss}, cache.evictions, cache.size
+        CaffeineCacheMetrics.monitor(meterRegistry, loans, "ledger.loans");
+    }
+
+    @Override
+    public Optional<LoanAggregate> findByUserId(UUID userId) {
+        var cached = loans.getIfPresent(userId);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        var loaded = delegate.findByUserId(userId);
+        loaded.ifPresent(this::putIfNewer);
+        return loaded;
+    }
+
+    @Override
+    public Map<UUID, LoanAggregate> findAllByUserIds(Collection<UUID> userIds) {
+        var found = new HashMap<>(loans.getAllPresent(userIds));
+        var missing = userIds.stream().filter(id -> !found.containsKey(id)).toList();
+        if (!missing.isEmpty()) {
+            var loaded = delegate.findAllByUserIds(missing);
+            loaded.values().forEach(this::putIfNewer);
+            found.putAll(loaded);
+        }
+        return found;
+    }
+
+    @Override
+    public void recordTransaction(LoanAggregate loan, Money delta, String type, UUID idempotencyKey) {
+        try {
+            delegate.recordTransaction(loan, delta, type, idempotencyKey);
+        } catch (ConcurrentModificationException ex) {
+            loans.invalidate(loan.userId());
+            throw ex;
+        }
+        publish(withVersion(loan, loan.version() + 1));
+    }
+
+    @Override
+    public LoanAggregate recordRepayment(UUID userId, Money amount, UUID idempotencyKey) {
+        var persisted = delegate.recordRepayment(userId, amount, idempotencyKey);
+        publish(persisted);
+        return persisted;
+    }
+
+    @Override
+    public Set<UUID> recordTransactionBatch(List<LoanUpdate> updates) {
+        var conflicted = delegate.recordTransactionBatch(updates);
+        for (var update : updates) {
+            var loan = update.loan();
+            if (conflicted.contains(loan.userId())) {
+                loans.invalidate(loan.userId());
+            } else {
+                publish(withVersion(loan, loan.version() + update.postings().size()));
+            }
+        }
+        return conflicted;
+    }
+
+    @Override
+    public void createInitialLoan(LoanAggregate loan, UUID idempotencyKey) {
+        delegate.createInitialLoan(loan, idempotencyKey);
+        publish(withVersion(loan, 1L));
+    }
+
+    @Override
+    public Set<UUID> findExistingIdempotencyKeys(Collection<UUID> idempotencyKeys) {
+        return delegate.findExistingIdempotencyKeys(idempotencyKeys);
+    }
+
+    @Override
+    public void forEachEntry(UUID userId, long afterId, long throughId, int limit, Consumer<LedgerEntry> consumer) {
+        delegate.forEachEntry(userId, afterId, throughId, limit, consumer);
+    }
+
+    @Override
+    public void forEachLoanByStatus(LoanStatus status, UUID afterUserId, int limit, Consumer<LoanAggregate> consumer) {
+        delegate.forEachLoanByStatus(status, afterUserId, limit, consumer);
+    }
+
+    @Override
+    public void close() throws Exception {
+        if (delegate instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+
+    private void publish(LoanAggregate persisted) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            putIfNewer(persisted);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_COMMITTED) {
+                    putIfNewer(persisted);
+                } else {
+                    loans.invalidate(persisted.userId());
+                }
+            }
+        });
+    }
+
+    private void putIfNewer(LoanAggregate loan) {
+        loans.asMap().merge(loan.userId(), loan,
+                (cached, fresh) -> fresh.version() >= cached.version() ? fresh : cached);
+    }
+
+    private static LoanAggregate withVersion(LoanAggregate loan, long version) {
+        return new LoanAggregate(loan.userId(), loan.principalAmount(), loan.currentBalance(), loan.status(), version);
+    }
+}
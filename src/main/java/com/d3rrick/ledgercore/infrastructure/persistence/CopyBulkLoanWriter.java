@@ -0,0 +1,129 @@
+package com.d3rrick.ledgercore.infrastructure.persistence;
+
+import com.d3rrick.ledgercore.application.port.BulkLoanWriter;
+import com.d3rrick.ledgercore.application.port.LoanOrigination;
+import lombok.RequiredArgsConstructor;
+import org.jooq.DSLContext;
+import org.jooq.impl.DSL;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.stereotype.Repository;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Bulk origination through PostgreSQL {@code COPY}: rows are streamed into a session-local staging table, then
+ * merged into {@code loan} and {@code ledger_entry} by one statement. Per row that is a few bytes on the wire
+ * instead of two INSERT round trips and a commit.
+ */
+@Repository
+@RequiredArgsConstructor
+class CopyBulkLoanWriter implements BulkLoanWriter {
+
+    private static final String STAGING_DDL = """
+            CREATE TEMP TABLE IF NOT EXISTS loan_import_staging (
+              user_id UUID NOT NULL,
+              principal_amount NUMERIC(19, 2) NOT NULL,
+              current_balance NUMERIC(19, 2) NOT NULL,
+              status VARCHAR(50) NOT NULL,
+              idempotency_key UUID NOT NULL
+            ) ON COMMIT DELETE ROWS
+            """;
+
+    /*
+     * `fresh` drops rows whose idempotency key is already claimed, `new_loans` inserts the rest unless the loan
+     * exists, and `entries` writes a disbursement only for loans actually inserted. The final SELECT reports every
+     * staged user that did not make it in.
+     */
+    private static final String MERGE_SQL = """
+            WITH fresh AS (
+                SELECT s.*
+                FROM loan_import_staging s
+                WHERE NOT EXISTS (SELECT 1 FROM ledger_idempotency_key k WHERE k.idempotency_key = s.idempotency_key)
+            ), new_loans AS (
+                INSERT INTO loan (user_id, principal_amount, current_balance, status, version)
+                SELECT user_id, principal_amount, current_balance, status, 1
+                FROM fresh
+                ON CONFLICT (user_id) DO NOTHING
+                RETURNING user_id
+            ), entries AS (
+                INSERT INTO ledger_entry (user_id, amount_delta, entry_type, idempotency_key)
+                SELECT fresh.user_id, fresh.principal_amount, {0}, fresh.idempotency_key
+                FROM fresh
+                JOIN new_loans USING (user_id)
+            )
+            SELECT s.user_id
+            FROM loan_import_staging s
+            LEFT JOIN new_loans n USING (user_id)
+            WHERE n.user_id IS NULL
+            """;
+
+    // Flush COPY data in ~64 KiB messages rather than one per row
+    private static final int COPY_BUFFER_CHARS = 64 * 1024;
+    private static final int MAX_ATTEMPTS = 3;
+
+    private final DSLContext dsl;
+
+    @Override
+    public Set<UUID> originateAll(List<LoanOrigination> originations) {
+        if (originations.isEmpty()) {
+            return Set.of();
+        }
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return dsl.transactionResult(configuration -> merge(configuration.dsl(), originations));
+            } catch (DuplicateKeyException raced) {
+                // Another writer claimed a key between `fresh` and the insert. Its claim has committed by now, so the
+                // next attempt filters the key out and reports the row as already applied, like any existing key.
+                if (attempt == MAX_ATTEMPTS) {
+                    throw raced;
+                }
+            }
+        }
+    }
+
+    private static Set<UUID> merge(DSLContext ctx, List<LoanOrigination> originations) {
+        ctx.execute(STAGING_DDL);
+        // ON COMMIT clears it, but a caller's outer transaction may already have used it
+        ctx.execute("TRUNCATE loan_import_staging");
+        ctx.connection(connection -> copy(connection, originations));
+        return ctx.resultQuery(MERGE_SQL, DSL.val("DISBURSEMENT")).fetchSet(0, UUID.class);
+    }
+
+    private static void copy(Connection connection, List<LoanOrigination> originations) throws SQLException {
+        var copyIn = connection.unwrap(PGConnection.class).getCopyAPI()
+                .copyIn("COPY loan_import_staging (user_id, principal_amount, current_balance, status, idempotency_key) FROM STDIN (FORMAT csv)");
+        try {
+            var buffer = new StringBuilder(COPY_BUFFER_CHARS + 256);
+            for (var origination : originations) {
+                var loan = origination.loan();
+                buffer.append(loan.userId()).append(',')
+                        .append(loan.principalAmount().amount().toPlainString()).append(',')
+                        .append(loan.currentBalance().amount().toPlainString()).append(',')
+                        .append(loan.status().name()).append(',')
+                        .append(origination.idempotencyKey()).append('\n');
+                if (buffer.length() >= COPY_BUFFER_CHARS) {
+                    write(copyIn, buffer);
+                }
+            }
+            write(copyIn, buffer);
+            copyIn.endCopy();
+        } finally {
+            if (copyIn.isActive()) {
+                copyIn.cancelCopy();
+            }
+        }
+    }
+
+    private static void write(CopyIn copyIn, StringBuilder buffer) throws SQLException {
+        var bytes = buffer.toString().getBytes(StandardCharsets.UTF_8);
+        copyIn.writeToCopy(bytes, 0, bytes.length);
+        buffer.setLength(0);
+    }
+}
@@ -0,0 +1,243 @@
+package com.d3rrick.ledgercore.infrastructure.persistence;
+
+import com.d3rrick.ledgercore.application.port.LedgerRepository;
+import com.d3rrick.ledgercore.application.port.LoanUpdate;
+import com.d3rrick.ledgercore.domain.model.LedgerEntry;
+import com.d3rrick.ledgercore.domain.model.LoanAggregate;
+import com.d3rrick.ledgercore.domain.model.LoanStatus;
+import com.d3rrick.ledgercore.domain.model.Money;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.PessimisticLockingFailureException;
+import org.springframework.transaction.support.TransactionOperations;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Pipeline stage in front of {@link LedgerRepository#recordTransaction}: concurrent writes are collected for up
+ * to one window (or until the batch is full) and committed together, so they share a single commit and WAL flush.
+ *
+ * <p>Each write still runs the delegate's own {@code dsl.transaction}, which nests as a savepoint inside the
+ * group transaction. A duplicate key or lost version check therefore rolls back only that write, and its caller
+ * gets the same exception it would have received without grouping. Callers are released only after the commit.
+ * Should the group transaction fail as a whole, its surviving writes are run again one by one, so a deadlock or
+ * lock timeout is never passed on to every caller of the group.
+ *
+ * <p>{@code ledger.group-commit.flushers} queues are flushed independently, so one slow commit does not stall every
+ * writer. Writes are routed by a hash of the loan's userId.
+ */
+@Slf4j
+class GroupCommitLedgerRepository implements LedgerRepository, AutoCloseable {
+
+    private final LedgerRepository delegate;
+    private final TransactionOperations transactionOperations;
+    private final GroupCommitProperties properties;
+    private final List<BlockingQueue<PendingWrite>> queues;
+    private final List<Thread> flushers;
+    private final DistributionSummary batchSize;
+    private final Timer flushTimer;
+    private final Counter fallbacks;
+
+    GroupCommitLedgerRepository(LedgerRepository delegate,
+                                TransactionOperations transactionOperations,
+                                GroupCommitProperties properties,
+                                MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.transactionOperations = transactionOperations;
+        this.properties = properties;
+        this.batchSize = DistributionSummary.builder("ledger.group-commit.batch.size")
+                .description("Writes committed together per group transaction")
+                .register(meterRegistry);
+        this.flushTimer = Timer.builder("ledger.group-commit.flush")
+                .description("Time to run and commit one group transaction")
+                .register(meterRegistry);
+        this.fallbacks = Counter.builder("ledger.group-commit.fallbacks")
+                .description("Group transactions that failed as a whole and were rerun write by write")
+                .register(meterRegistry);
+        Gauge.builder("ledger.group-commit.window", properties, p -> p.window().toNanos() / 1e9)
+                .baseUnit("seconds")
+                .register(meterRegistry);
+        Gauge.builder("ledger.group-commit.max.batch", properties, GroupCommitProperties::maxBatch)
+                .register(meterRegistry);
+        this.queues = new ArrayList<>(properties.flushers());
+        this.flushers = new ArrayList<>(properties.flushers());
+        for (int i = 0; i < properties.flushers(); i++) {
+            var queue = new LinkedBlockingQueue<PendingWrite>();
+            queues.add(queue);
+            flushers.add(Thread.ofVirtual().name("ledger-group-commit-" + i).start(() -> run(queue)));
+        }
+        Gauge.builder("ledger.group-commit.queue.depth", queues, qs -> qs.stream().mapToInt(BlockingQueue::size).sum())
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void recordTransaction(LoanAggregate loan, Money delta, String type, UUID idempotencyKey) {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            // The caller already owns a transaction; deferring to another thread would break its atomicity
+            delegate.recordTransaction(loan, delta, type, idempotencyKey);
+            return;
+        }
+
+        var write = new PendingWrite(loan, delta, type, idempotencyKey, new CompletableFuture<>());
+        queueFor(loan.userId()).add(write);
+        try {
+            write.result().join();
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw ex;
+        }
+    }
+
+    private BlockingQueue<PendingWrite> queueFor(UUID userId) {
+        var hash = userId.hashCode();
+        return queues.get(Math.floorMod(hash ^ (hash >>> 16), queues.size()));
+    }
+
+    private void run(BlockingQueue<PendingWrite> queue) {
+        var batch = new ArrayList<PendingWrite>(properties.maxBatch());
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                batch.add(queue.take());
+                var deadline = System.nanoTime() + properties.window().toNanos();
+                while (batch.size() < properties.maxBatch()) {
+                    var next = queue.poll(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+            } catch (InterruptedException ex) {
+                batch.forEach(write -> write.result().completeExceptionally(new IllegalStateException("Group commit stopped")));
+                return;
+            }
+            flush(batch);
+            batch.clear();
+        }
+    }
+
+    private void flush(List<PendingWrite> batch) {
+        batchSize.record(batch.size());
+        // One lock order for every group, so two of them (on this node or another) never deadlock each other.
+        // The sort is stable: writes to the same loan keep their arrival order.
+        batch.sort(Comparator.comparing(write -> write.loan().userId()));
+        var failures = new RuntimeException[batch.size()];
+        var lockLosers = new ArrayList<Integer>();
+        try {
+            flushTimer.record(() -> transactionOperations.executeWithoutResult(status -> {
+                for (int i = 0; i < batch.size(); i++) {
+                    var write = batch.get(i);
+                    try {
+                        delegate.recordTransaction(write.loan(), write.delta(), write.type(), write.idempotencyKey());
+                    } catch (PessimisticLockingFailureException ex) {
+                        // Lost a lock inside its savepoint: nothing wrong with the write itself, so it gets its own turn
+                        lockLosers.add(i);
+                    } catch (RuntimeException ex) {
+                        failures[i] = ex;
+                    }
+                }
+            }));
+            for (var i : lockLosers) {
+                failures[i] = runAlone(batch.get(i));
+            }
+        } catch (RuntimeException groupFailure) {
+            // Nothing of the group was kept, typically because it lost a deadlock or lock wait as a whole. Its callers
+            // must not share that failure: each write that had succeeded inside the group is run again on its own.
+            fallbacks.increment();
+            log.warn("Group commit of {} writes failed; running them one by one", batch.size(), groupFailure);
+            for (int i = 0; i < batch.size(); i++) {
+                if (failures[i] == null) {
+                    failures[i] = runAlone(batch.get(i));
+                }
+            }
+        }
+
+        for (int i = 0; i < batch.size(); i++) {
+            if (failures[i] == null) {
+                batch.get(i).result().complete(null);
+            } else {
+                batch.get(i).result().completeExceptionally(failures[i]);
+            }
+        }
+    }
+
+    private RuntimeException runAlone(PendingWrite write) {
+        try {
+            delegate.recordTransaction(write.loan(), write.delta(), write.type(), write.idempotencyKey());
+            return null;
+        } catch (RuntimeException ex) {
+            return ex;
+        }
+    }
+
+    @Override
+    public void close() {
+        flushers.forEach(Thread::interrupt);
+        var pending = new ArrayList<PendingWrite>();
+        queues.forEach(queue -> queue.drainTo(pending));
+        pending.forEach(write -> write.result().completeExceptionally(new IllegalStateException("Group commit stopped")));
+    }
+
+    @Override
+    public LoanAggregate recordRepayment(UUID userId, Money amount, UUID idempotencyKey) {
+        return delegate.recordRepayment(userId, amount, idempotencyKey);
+    }
+
+    @Override
+    public Set<UUID> recordTransactionBatch(List<LoanUpdate> updates) {
+        return delegate.recordTransactionBatch(updates);
+    }
+
+    @Override
+    public Optional<LoanAggregate> findByUserId(UUID userId) {
+        return delegate.findByUserId(userId);
+    }
+
+    @Override
+    public Map<UUID, LoanAggregate> findAllByUserIds(Collection<UUID> userIds) {
+        return delegate.findAllByUserIds(userIds);
+    }
+
+    @Override
+    public Set<UUID> findExistingIdempotencyKeys(Collection<UUID> idempotencyKeys) {
+        return delegate.findExistingIdempotencyKeys(idempotencyKeys);
+    }
+
+    @Override
+    public void forEachEntry(UUID userId, long afterId, long throughId, int limit, Consumer<LedgerEntry> consumer) {
+        delegate.forEachEntry(userId, afterId, throughId, limit, consumer);
+    }
+
+    @Override
+    public void forEachLoanByStatus(LoanStatus status, UUID afterUserId, int limit, Consumer<LoanAggregate> consumer) {
+        delegate.forEachLoanByStatus(status, afterUserId, limit, consumer);
+    }
+
+    @Override
+    public void createInitialLoan(LoanAggregate loan, UUID idempotencyKey) {
+        delegate.createInitialLoan(loan, idempotencyKey);
+    }
+
+    private record PendingWrite(LoanAggregate loan, Money delta, String type, UUID idempotencyKey,
+                                CompletableFuture<Void> result) {
+    }
+}
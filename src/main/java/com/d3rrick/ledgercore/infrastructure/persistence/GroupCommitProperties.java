@@ -0,0 +1,23 @@
+package com.d3rrick.ledgercore.infrastructure.persistence;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Group commit for {@code recordTransaction}, bound from {@code ledger.group-commit.*}.
+ *
+ * @param enabled  put {@link GroupCommitLedgerRepository} in front of the jOOQ adapter
+ * @param window   how long the first write of a batch waits for company before the batch is flushed
+ * @param maxBatch flush as soon as this many writes are queued, even inside the window
+ * @param flushers independent queues, each with its own flusher and group transaction; a loan always maps to the
+ *                 same one, so its writes keep their order and no two groups wait on the same loan row
+ */
+@ConfigurationProperties("ledger.group-commit")
+public record GroupCommitProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("2ms") Duration window,
+        @DefaultValue("64") int maxBatch,
+        @DefaultValue("4") int flushers) {
+}
@@ -0,0 +1,47 @@
+package com.d3rrick.ledgercore.infrastructure.persistence;
+
+import com.d3rrick.ledgercore.application.port.DelinquencyRepository;
+import com.d3rrick.ledgercore.application.port.UuidRange;
+import com.d3rrick.ledgercore.domain.model.LoanAggregate;
+import com.d3rrick.ledgercore.domain.model.LoanStatus;
+import lombok.RequiredArgsConstructor;
+import org.jooq.DSLContext;
+import org.jooq.impl.DSL;
+import org.springframework.stereotype.Repository;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static com.d3rrick.ledgercore.infrastructure.jooq.Tables.LEDGER_ENTRY;
+import static com.d3rrick.ledgercore.infrastructure.jooq.Tables.LOAN;
+import static com.d3rrick.ledgercore.infrastructure.persistence.UuidRangeConditions.inRange;
+
+@Repository
+@RequiredArgsConstructor
+class JooqDelinquencyRepository implements DelinquencyRepository {
+
+    private final DSLContext dsl;
+
+    /*
+     * Walks the ACTIVE partial index (V7) in userId order. The anti-join probes (user_id, id) per candidate and
+     * only reaches the partitions at or after the cutoff.
+     */
+    @Override
+    public List<LoanAggregate> findDelinquent(UuidRange range, UUID afterUserId, OffsetDateTime noPaymentSince, int limit) {
+        var condition = LOAN.STATUS.eq(DSL.inline(LoanStatus.ACTIVE.name())).and(inRange(LOAN.USER_ID, range));
+        if (afterUserId != null) {
+            condition = condition.and(LOAN.USER_ID.gt(afterUserId));
+        }
+        return dsl.selectFrom(LOAN)
+                .where(condition)
+                .andNotExists(DSL.selectOne()
+                        .from(LEDGER_ENTRY)
+                        .where(LEDGER_ENTRY.USER_ID.eq(LOAN.USER_ID))
+                        .and(LEDGER_ENTRY.ENTRY_TYPE.in("DISBURSEMENT", "REPAYMENT"))
+                        .and(LEDGER_ENTRY.CREATED_AT.ge(noPaymentSince)))
+                .orderBy(LOAN.USER_ID)
+                .limit(limit)
+                .fetch(LoanRecords::toAggregate);
+    }
+}
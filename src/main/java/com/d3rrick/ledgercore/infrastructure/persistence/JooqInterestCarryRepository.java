@@ -0,0 +1,60 @@
+package com.d3rrick.ledgercore.infrastructure.persistence;
+
+import com.d3rrick.ledgercore.application.port.InterestCarry;
+import com.d3rrick.ledgercore.application.port.InterestCarryRepository;
+import lombok.RequiredArgsConstructor;
+import org.jooq.DSLContext;
+import org.jooq.Field;
+import org.jooq.Table;
+import org.jooq.impl.DSL;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+
+@Repository
+@RequiredArgsConstructor
+class JooqInterestCarryRepository implements InterestCarryRepository {
+
+    private static final Table<?> INTEREST_CARRY = DSL.table(DSL.name("interest_carry"));
+    private static final Field<UUID> USER_ID = DSL.field(DSL.name("user_id"), UUID.class);
+    private static final Field<BigDecimal> CARRY = DSL.field(DSL.name("carry"), BigDecimal.class);
+    private static final Field<LocalDate> ACCRUED_THROUGH = DSL.field(DSL.name("accrued_through"), LocalDate.class);
+    private static final Field<LocalDate> STORED_ACCRUED_THROUGH =
+            DSL.field(DSL.name("interest_carry", "accrued_through"), LocalDate.class);
+
+    private final DSLContext dsl;
+
+    @Override
+    public Map<UUID, InterestCarry> findAll(Collection<UUID> userIds) {
+        if (userIds.isEmpty()) {
+            return Map.of();
+        }
+        return dsl.select(USER_ID, CARRY, ACCRUED_THROUGH)
+                .from(INTEREST_CARRY)
+                .where(USER_ID.in(userIds))
+                .fetchMap(USER_ID, r -> new InterestCarry(r.value2(), r.value3()));
+    }
+
+    @Override
+    public void saveAll(Map<UUID, BigDecimal> carries, LocalDate accruedThrough) {
+        if (carries.isEmpty()) {
+            return;
+        }
+        // userId order, so two chunks touching the same rows always lock them in the same order
+        var insert = dsl.insertInto(INTEREST_CARRY, USER_ID, CARRY, ACCRUED_THROUGH);
+        for (var carry : new TreeMap<>(carries).entrySet()) {
+            insert = insert.values(carry.getKey(), carry.getValue(), accruedThrough);
+        }
+        insert.onConflict(USER_ID)
+                .doUpdate()
+                .set(CARRY, DSL.excluded(CARRY))
+                .set(ACCRUED_THROUGH, DSL.excluded(ACCRUED_THROUGH))
+                .where(STORED_ACCRUED_THROUGH.lt(DSL.excluded(ACCRUED_THROUGH)))
+                .execute();
+    }
+}
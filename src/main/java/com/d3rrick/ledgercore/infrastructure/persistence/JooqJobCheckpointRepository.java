@@ -0,0 +1,59 @@
+package com.d3rrick.ledgercore.infrastructure.persistence;
+
+import com.d3rrick.ledgercore.application.port.JobCheckpoint;
+import com.d3rrick.ledgercore.application.port.JobCheckpointRepository;
+import lombok.RequiredArgsConstructor;
+import org.jooq.DSLContext;
+import org.jooq.Field;
+import org.jooq.Table;
+import org.jooq.impl.DSL;
+import org.springframework.stereotype.Repository;
+
+import java.time.OffsetDateTime;
+import java.util.Map;
+import java.util.UUID;
+
+@Repository
+@RequiredArgsConstructor
+class JooqJobCheckpointRepository implements JobCheckpointRepository {
+
+    private static final Table<?> CHECKPOINTS = DSL.table(DSL.name("bulk_job_checkpoint"));
+    private static final Field<String> RUN = DSL.field(DSL.name("run"), String.class);
+    private static final Field<Integer> RANGE_INDEX = DSL.field(DSL.name("range_index"), Integer.class);
+    private static final Field<UUID> LAST_USER_ID = DSL.field(DSL.name("last_user_id"), UUID.class);
+    private static final Field<Boolean> COMPLETED = DSL.field(DSL.name("completed"), Boolean.class);
+    private static final Field<OffsetDateTime> UPDATED_AT = DSL.field(DSL.name("updated_at"), OffsetDateTime.class);
+
+    private final DSLContext dsl;
+
+    @Override
+    public Map<Integer, JobCheckpoint> findAll(String run) {
+        return dsl.select(RANGE_INDEX, LAST_USER_ID, COMPLETED)
+                .from(CHECKPOINTS)
+                .where(RUN.eq(run))
+                .fetchMap(RANGE_INDEX, r -> new JobCheckpoint(r.value1(), r.value2(), r.value3()));
+    }
+
+    @Override
+    public Map<String, Integer> countCompleted(String runPrefix) {
+        var completed = DSL.count().filterWhere(COMPLETED.isTrue());
+        return dsl.select(RUN, completed)
+                .from(CHECKPOINTS)
+                .where(RUN.startsWith(runPrefix))
+                .groupBy(RUN)
+                .fetchMap(RUN, completed);
+    }
+
+    @Override
+    public void save(String run, int rangeIndex, UUID lastUserId, boolean completed) {
+        var now = OffsetDateTime.now();
+        dsl.insertInto(CHECKPOINTS, RUN, RANGE_INDEX, LAST_USER_ID, COMPLETED, UPDATED_AT)
+                .values(run, rangeIndex, lastUserId, completed, now)
+                .onConflict(RUN, RANGE_INDEX)
+                .doUpdate()
+                .set(LAST_USER_ID, lastUserId)
+                .set(COMPLETED, completed)
+                .set(UPDATED_AT, now)
+                .execute();
+    }
+}
@@ -1,17 +1,34 @@
 package com.d3rrick.ledgercore.infrastructure.persistence;
 
+import com.d3rrick.ledgercore.application.port.LedgerPosting;
 import com.d3rrick.ledgercore.application.port.LedgerRepository;
+import com.d3rrick.ledgercore.application.port.LoanUpdate;
+import com.d3rrick.ledgercore.domain.exception.EntityNotFoundException;
+import com.d3rrick.ledgercore.domain.model.LedgerEntry;
 import com.d3rrick.ledgercore.domain.model.LoanAggregate;
 import com.d3rrick.ledgercore.domain.model.LoanStatus;
 import com.d3rrick.ledgercore.domain.model.Money;
 import lombok.RequiredArgsConstructor;
 import org.jooq.DSLContext;
+import org.jooq.Field;
+import org.jooq.Row5;
+import org.jooq.Table;
+import org.jooq.impl.DSL;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Repository;
 
+import java.math.BigDecimal;
 import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.ConcurrentModificationException;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 import static com.d3rrick.ledgercore.infrastructure.jooq.Tables.LEDGER_ENTRY;
 import static com.d3rrick.ledgercore.infrastructure.jooq.Tables.LOAN;
@@ -20,6 +37,50 @@ import static com.d3rrick.ledgercore.infrastructure.jooq.Tables.LOAN;
 @RequiredArgsConstructor
 class JooqLedgerRepository implements LedgerRepository {
 
+    /*
+     * Single-statement repayment. `locked` takes the row lock and yields the latest committed pre-image,
+     * `updated` only fires when the same guard as LoanAggregate.applyRepayment holds, and `entry` only
+     * inserts when `updated` produced a row. The pre-image is always returned so the caller can replay it.
+     */
+    private static final String REPAYMENT_SQL = """
+            WITH locked AS (
+                SELECT user_id, principal_amount, current_balance, status, version
+                FROM loan
+                WHERE user_id = {0}::uuid
+                FOR UPDATE
+            ), updated AS (
+                UPDATE loan l
+                SET current_balance = l.current_balance - {1}::numeric,
+                    status = CASE WHEN l.current_balance - {1}::numeric = 0 THEN {3} ELSE l.status END,
+                    version = l.version + 1,
+                    updated_at = CURRENT_TIMESTAMP
+                FROM locked
+                WHERE l.user_id = locked.user_id
+                  AND locked.status IN ({4}, {5})
+                  AND {1}::numeric > 0
+                  AND {1}::numeric <= locked.current_balance
+                RETURNING l.current_balance, l.status, l.version
+            ), entry AS (
+                INSERT INTO ledger_entry (user_id, amount_delta, entry_type, idempotency_key)
+                SELECT locked.user_id, -{1}::numeric, {6}, {2}::uuid
+                FROM locked, updated
+            )
+            SELECT locked.principal_amount, locked.current_balance, locked.status, locked.version,
+                   updated.current_balance AS new_balance, updated.status AS new_status, updated.version AS new_version
+            FROM locked
+            LEFT JOIN updated ON TRUE
+            """;
+
+    // Keeps multi-row statements well below PostgreSQL's 65535 bind-parameter limit
+    private static final int MAX_ROWS_PER_STATEMENT = 2_000;
+
+    // Rows per round trip when streaming history or a status walk; bounds heap use regardless of the page size
+    private static final int STREAM_FETCH_SIZE = 500;
+
+    // Maintained by trigger on ledger_entry (V2); not part of the generated schema classes
+    private static final Table<?> IDEMPOTENCY_KEYS = DSL.table(DSL.name("ledger_idempotency_key"));
+    private static final Field<UUID> IDEMPOTENCY_KEY = DSL.field(DSL.name("ledger_idempotency_key", "idempotency_key"), UUID.class);
+
     private final DSLContext dsl;
 
     @Override
@@ -41,6 +102,7 @@ class JooqLedgerRepository implements LedgerRepository {
             // We only update if the version in DB matches the version in our Java Object
             int updatedRows = ctx.update(LOAN)
                     .set(LOAN.CURRENT_BALANCE, loan.currentBalance().amount())
+                    .set(LOAN.STATUS, loan.status().name())
                     .set(LOAN.VERSION, loan.version() + 1) // Increment version
                     .set(LOAN.UPDATED_AT, OffsetDateTime.now())
                     .where(LOAN.USER_ID.eq(loan.userId()))
@@ -57,18 +119,205 @@ class JooqLedgerRepository implements LedgerRepository {
         });
     }
 
+    @Override
+    public LoanAggregate recordRepayment(UUID userId, Money amount, UUID idempotencyKey) {
+        return dsl.transactionResult(configuration -> {
+            var row = configuration.dsl()
+                    .resultQuery(REPAYMENT_SQL,
+                            DSL.val(userId),
+                            DSL.val(amount.amount()),
+                            DSL.val(idempotencyKey),
+                            DSL.val(LoanStatus.CLOSED.name()),
+                            DSL.val(LoanStatus.ACTIVE.name()),
+                            DSL.val(LoanStatus.DEFAULTED.name()),
+                            DSL.val("REPAYMENT"))
+                    .fetchOptional()
+                    .orElseThrow(() -> new EntityNotFoundException("Loan not found: " + userId));
+
+            var principal = new Money(row.get("principal_amount", BigDecimal.class));
+            var before = new LoanAggregate(
+                    userId,
+                    principal,
+                    new Money(row.get("current_balance", BigDecimal.class)),
+                    LoanStatus.valueOf(row.get("status", String.class)),
+                    row.get("version", Long.class)
+            );
+
+            // The domain has the final word: a refused guard surfaces as the same DomainException
+            // the standard path would throw, and any disagreement rolls the statement back.
+            var expected = before.applyRepayment(amount);
+            var newVersion = row.get("new_version", Long.class);
+            if (newVersion == null) {
+                throw new IllegalStateException("Repayment guard refused a repayment the domain accepts for loan " + userId);
+            }
+
+            var persisted = new LoanAggregate(
+                    userId,
+                    principal,
+                    new Money(row.get("new_balance", BigDecimal.class)),
+                    LoanStatus.valueOf(row.get("new_status", String.class)),
+                    newVersion
+            );
+            if (!persisted.equals(new LoanAggregate(userId, principal, expected.currentBalance(), expected.status(), before.version() + 1))) {
+                throw new IllegalStateException("Repayment statement diverged from domain rules for loan " + userId);
+            }
+            return persisted;
+        });
+    }
+
+    @Override
+    public Set<UUID> recordTransactionBatch(List<LoanUpdate> updates) {
+        if (updates.isEmpty()) {
+            return Set.of();
+        }
+        try {
+            return dsl.transactionResult(configuration -> writeBatch(configuration.dsl(), updates));
+        } catch (DataIntegrityViolationException raced) {
+            // An idempotency key was claimed after the caller's pre-check. Replay loan by loan inside
+            // savepoints so only the loans carrying the raced key are reported back as conflicts.
+            return dsl.transactionResult(configuration -> {
+                var conflicted = new HashSet<UUID>();
+                for (var update : updates) {
+                    try {
+                        conflicted.addAll(configuration.dsl().transactionResult(nested -> writeBatch(nested.dsl(), List.of(update))));
+                    } catch (DataIntegrityViolationException duplicate) {
+                        conflicted.add(update.loan().userId());
+                    }
+                }
+                return conflicted;
+            });
+        }
+    }
+
+    private Set<UUID> writeBatch(DSLContext ctx, List<LoanUpdate> updates) {
+        var now = OffsetDateTime.now();
+
+        // 1. Versioned snapshot updates, one UPDATE ... FROM (VALUES ...) per chunk
+        var applied = new HashSet<UUID>();
+        for (var chunk : chunks(updates)) {
+            @SuppressWarnings("unchecked")
+            Row5<UUID, BigDecimal, String, Long, Long>[] rows = chunk.stream()
+                    .map(u -> DSL.row(
+                            u.loan().userId(),
+                            u.loan().currentBalance().amount(),
+                            u.loan().status().name(),
+                            u.loan().version(),
+                            u.loan().version() + u.postings().size()))
+                    .toArray(Row5[]::new);
+            var v = DSL.values(rows).as("v", "user_id", "current_balance", "status", "expected_version", "next_version");
+
+            applied.addAll(ctx.update(LOAN)
+                    .set(LOAN.CURRENT_BALANCE, v.field("current_balance", BigDecimal.class))
+                    .set(LOAN.STATUS, v.field("status", String.class))
+                    .set(LOAN.VERSION, v.field("next_version", Long.class))
+                    .set(LOAN.UPDATED_AT, now)
+                    .from(v)
+                    .where(LOAN.USER_ID.eq(v.field("user_id", UUID.class)))
+                    .and(LOAN.VERSION.eq(v.field("expected_version", Long.class)))
+                    .returning(LOAN.USER_ID)
+                    .fetchSet(LOAN.USER_ID));
+        }
+
+        // 2. Entries only for loans whose snapshot moved, as multi-row inserts
+        var postings = updates.stream()
+                .filter(u -> applied.contains(u.loan().userId()))
+                .flatMap(u -> u.postings().stream())
+                .toList();
+        for (var chunk : chunks(postings)) {
+            var insert = ctx.insertInto(LEDGER_ENTRY,
+                    LEDGER_ENTRY.USER_ID, LEDGER_ENTRY.AMOUNT_DELTA, LEDGER_ENTRY.ENTRY_TYPE, LEDGER_ENTRY.IDEMPOTENCY_KEY);
+            for (LedgerPosting posting : chunk) {
+                insert = insert.values(posting.userId(), posting.delta().amount(), posting.type(), posting.idempotencyKey());
+            }
+            insert.execute();
+        }
+
+        var conflicted = new HashSet<UUID>();
+        updates.forEach(u -> {
+            if (!applied.contains(u.loan().userId())) {
+                conflicted.add(u.loan().userId());
+            }
+        });
+        return conflicted;
+    }
+
+    private static <T> List<List<T>> chunks(List<T> items) {
+        var chunks = new ArrayList<List<T>>();
+        for (int from = 0; from < items.size(); from += MAX_ROWS_PER_STATEMENT) {
+            chunks.add(items.subList(from, Math.min(from + MAX_ROWS_PER_STATEMENT, items.size())));
+        }
+        return chunks;
+    }
+
     @Override
     public Optional<LoanAggregate> findByUserId(UUID userId) {
         return dsl.selectFrom(LOAN)
                 .where(LOAN.USER_ID.eq(userId))
                 .fetchOptional()
-                .map(r -> new LoanAggregate(
-                        r.getUserId(),
-                        new Money(r.getPrincipalAmount()),
-                        new Money(r.getCurrentBalance()),
-                        LoanStatus.valueOf(r.getStatus()),
-                        r.getVersion()
-                ));
+                .map(LoanRecords::toAggregate);
+    }
+
+    @Override
+    public Map<UUID, LoanAggregate> findAllByUserIds(Collection<UUID> userIds) {
+        if (userIds.isEmpty()) {
+            return Map.of();
+        }
+        return dsl.selectFrom(LOAN)
+                .where(LOAN.USER_ID.eq(DSL.any(userIds.toArray(UUID[]::new))))
+                .fetchMap(LOAN.USER_ID, LoanRecords::toAggregate);
+    }
+
+    @Override
+    public Set<UUID> findExistingIdempotencyKeys(Collection<UUID> idempotencyKeys) {
+        if (idempotencyKeys.isEmpty()) {
+            return Set.of();
+        }
+        // Primary-key probes on the global registry instead of one index probe per ledger_entry partition
+        return dsl.select(IDEMPOTENCY_KEY)
+                .from(IDEMPOTENCY_KEYS)
+                .where(IDEMPOTENCY_KEY.eq(DSL.any(idempotencyKeys.toArray(UUID[]::new))))
+                .fetchSet(IDEMPOTENCY_KEY);
+    }
+
+    @Override
+    public void forEachEntry(UUID userId, long afterId, long throughId, int limit, Consumer<LedgerEntry> consumer) {
+        // No created_at bound, so no partition pruning: created_at is the writing transaction's start time, and a
+        // transaction that started earlier can commit a higher id, so an id cursor (or a snapshot's lastEntryId)
+        // implies no safe created_at floor. Every partition answers from its (user_id, id) index instead (V3).
+        try (var entries = dsl.selectFrom(LEDGER_ENTRY)
+                .where(LEDGER_ENTRY.USER_ID.eq(userId))
+                .and(LEDGER_ENTRY.ID.gt(afterId))
+                .and(LEDGER_ENTRY.ID.le(throughId))
+                .orderBy(LEDGER_ENTRY.ID)
+                .limit(limit)
+                .fetchSize(STREAM_FETCH_SIZE)
+                .stream()) {
+            entries.map(r -> new LedgerEntry(
+                            r.getId(),
+                            r.getUserId(),
+                            new Money(r.getAmountDelta()),
+                            r.getEntryType(),
+                            r.getIdempotencyKey(),
+                            r.getCreatedAt()))
+                    .forEach(consumer);
+        }
+    }
+
+    @Override
+    public void forEachLoanByStatus(LoanStatus status, UUID afterUserId, int limit, Consumer<LoanAggregate> consumer) {
+        // The status is inlined so the planner can match it to that status's partial index
+        var condition = LOAN.STATUS.eq(DSL.inline(status.name()));
+        if (afterUserId != null) {
+            condition = condition.and(LOAN.USER_ID.gt(afterUserId));
+        }
+        try (var loans = dsl.selectFrom(LOAN)
+                .where(condition)
+                .orderBy(LOAN.USER_ID)
+                .limit(limit)
+                .fetchSize(STREAM_FETCH_SIZE)
+                .stream()) {
+            loans.map(LoanRecords::toAggregate).forEach(consumer);
+        }
     }
 
     @Override
@@ -0,0 +1,37 @@
+package com.d3rrick.ledgercore.infrastructure.persistence;
+
+import com.d3rrick.ledgercore.application.port.LoanBookRepository;
+import com.d3rrick.ledgercore.application.port.UuidRange;
+import com.d3rrick.ledgercore.domain.model.LoanAggregate;
+import com.d3rrick.ledgercore.domain.model.LoanStatus;
+import lombok.RequiredArgsConstructor;
+import org.jooq.DSLContext;
+import org.jooq.impl.DSL;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.UUID;
+
+import static com.d3rrick.ledgercore.infrastructure.jooq.Tables.LOAN;
+import static com.d3rrick.ledgercore.infrastructure.persistence.UuidRangeConditions.inRange;
+
+@Repository
+@RequiredArgsConstructor
+class JooqLoanBookRepository implements LoanBookRepository {
+
+    private final DSLContext dsl;
+
+    // A range scan of the ACTIVE partial index (V7)
+    @Override
+    public List<LoanAggregate> findActive(UuidRange range, UUID afterUserId, int limit) {
+        var condition = LOAN.STATUS.eq(DSL.inline(LoanStatus.ACTIVE.name())).and(inRange(LOAN.USER_ID, range));
+        if (afterUserId != null) {
+            condition = condition.and(LOAN.USER_ID.gt(afterUserId));
+        }
+        return dsl.selectFrom(LOAN)
+                .where(condition)
+                .orderBy(LOAN.USER_ID)
+                .limit(limit)
+                .fetch(LoanRecords::toAggregate);
+    }
+}
@@ -0,0 +1,71 @@
+package com.d3rrick.ledgercore.infrastructure.persistence;
+
+import com.d3rrick.ledgercore.application.port.LoanSnapshotRepository;
+import com.d3rrick.ledgercore.domain.model.LoanAggregate;
+import com.d3rrick.ledgercore.domain.model.LoanSnapshot;
+import com.d3rrick.ledgercore.domain.model.LoanStatus;
+import com.d3rrick.ledgercore.domain.model.Money;
+import lombok.RequiredArgsConstructor;
+import org.jooq.DSLContext;
+import org.jooq.Field;
+import org.jooq.Record;
+import org.jooq.Table;
+import org.jooq.impl.DSL;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+@RequiredArgsConstructor
+class JooqLoanSnapshotRepository implements LoanSnapshotRepository {
+
+    private static final Table<?> LOAN_SNAPSHOT = DSL.table(DSL.name("loan_snapshot"));
+    private static final Field<UUID> USER_ID = DSL.field(DSL.name("user_id"), UUID.class);
+    private static final Field<Long> LAST_ENTRY_ID = DSL.field(DSL.name("last_entry_id"), Long.class);
+    private static final Field<BigDecimal> PRINCIPAL_AMOUNT = DSL.field(DSL.name("principal_amount"), BigDecimal.class);
+    private static final Field<BigDecimal> CURRENT_BALANCE = DSL.field(DSL.name("current_balance"), BigDecimal.class);
+    private static final Field<String> STATUS = DSL.field(DSL.name("status"), String.class);
+    private static final Field<Long> VERSION = DSL.field(DSL.name("version"), Long.class);
+
+    private final DSLContext dsl;
+
+    @Override
+    public Optional<LoanSnapshot> findLatest(UUID userId, long throughEntryId) {
+        return dsl.select(USER_ID, LAST_ENTRY_ID, PRINCIPAL_AMOUNT, CURRENT_BALANCE, STATUS, VERSION)
+                .from(LOAN_SNAPSHOT)
+                .where(USER_ID.eq(userId))
+                .and(LAST_ENTRY_ID.le(throughEntryId))
+                .orderBy(LAST_ENTRY_ID.desc())
+                .limit(1)
+                .fetchOptional(this::toSnapshot);
+    }
+
+    @Override
+    public void save(LoanSnapshot snapshot) {
+        var loan = snapshot.loan();
+        dsl.insertInto(LOAN_SNAPSHOT, USER_ID, LAST_ENTRY_ID, PRINCIPAL_AMOUNT, CURRENT_BALANCE, STATUS, VERSION)
+                .values(loan.userId(), snapshot.lastEntryId(), loan.principalAmount().amount(),
+                        loan.currentBalance().amount(), loan.status().name(), loan.version())
+                .onConflictDoNothing()
+                .execute();
+    }
+
+    @Override
+    public void deleteAll(UUID userId) {
+        dsl.deleteFrom(LOAN_SNAPSHOT)
+                .where(USER_ID.eq(userId))
+                .execute();
+    }
+
+    private LoanSnapshot toSnapshot(Record r) {
+        var loan = new LoanAggregate(
+                r.get(USER_ID),
+                new Money(r.get(PRINCIPAL_AMOUNT)),
+                new Money(r.get(CURRENT_BALANCE)),
+                LoanStatus.valueOf(r.get(STATUS)),
+                r.get(VERSION));
+        return new LoanSnapshot(loan, r.get(LAST_ENTRY_ID));
+    }
+}
@@ -0,0 +1,56 @@
+package com.d3rrick.ledgercore.infrastructure.persistence;
+
+import com.d3rrick.ledgercore.application.port.PortfolioRepository;
+import com.d3rrick.ledgercore.application.port.PortfolioTotal;
+import com.d3rrick.ledgercore.domain.model.LoanStatus;
+import com.d3rrick.ledgercore.domain.model.Money;
+import lombok.RequiredArgsConstructor;
+import org.jooq.DSLContext;
+import org.jooq.Field;
+import org.jooq.Record3;
+import org.jooq.ResultQuery;
+import org.jooq.Table;
+import org.jooq.impl.DSL;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.util.EnumMap;
+import java.util.Map;
+
+import static com.d3rrick.ledgercore.infrastructure.jooq.Tables.LOAN;
+
+@Repository
+@RequiredArgsConstructor
+class JooqPortfolioRepository implements PortfolioRepository {
+
+    // Maintained by trigger on loan (V8); not part of the generated schema classes
+    private static final Table<?> COUNTERS = DSL.table(DSL.name("portfolio_counter"));
+    private static final Field<String> STATUS = DSL.field(DSL.name("status"), String.class);
+    private static final Field<Long> LOAN_COUNT = DSL.field(DSL.name("loan_count"), Long.class);
+    private static final Field<BigDecimal> OUTSTANDING = DSL.field(DSL.name("outstanding"), BigDecimal.class);
+
+    private final DSLContext dsl;
+
+    @Override
+    public Map<LoanStatus, PortfolioTotal> counterTotals() {
+        return totals(dsl.select(STATUS, DSL.sum(LOAN_COUNT).cast(Long.class), DSL.sum(OUTSTANDING))
+                .from(COUNTERS)
+                .groupBy(STATUS));
+    }
+
+    @Override
+    public Map<LoanStatus, PortfolioTotal> recomputeTotals() {
+        return totals(dsl.select(LOAN.STATUS, DSL.count().cast(Long.class), DSL.sum(LOAN.CURRENT_BALANCE))
+                .from(LOAN)
+                .groupBy(LOAN.STATUS));
+    }
+
+    private static Map<LoanStatus, PortfolioTotal> totals(ResultQuery<Record3<String, Long, BigDecimal>> query) {
+        var totals = new EnumMap<LoanStatus, PortfolioTotal>(LoanStatus.class);
+        for (var row : query.fetch()) {
+            var status = LoanStatus.valueOf(row.value1());
+            totals.put(status, new PortfolioTotal(status, row.value2(), new Money(row.value3())));
+        }
+        return totals;
+    }
+}
@@ -0,0 +1,110 @@
+package com.d3rrick.ledgercore.infrastructure.persistence;
+
+import com.d3rrick.ledgercore.application.port.BalanceMismatch;
+import com.d3rrick.ledgercore.application.port.ReconciliationRepository;
+import com.d3rrick.ledgercore.application.port.UuidRange;
+import com.d3rrick.ledgercore.domain.model.Money;
+import lombok.RequiredArgsConstructor;
+import org.jooq.DSLContext;
+import org.jooq.Field;
+import org.jooq.Record;
+import org.jooq.ResultQuery;
+import org.jooq.Table;
+import org.jooq.impl.DSL;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+import static com.d3rrick.ledgercore.infrastructure.jooq.Tables.LEDGER_ENTRY;
+import static com.d3rrick.ledgercore.infrastructure.jooq.Tables.LOAN;
+import static com.d3rrick.ledgercore.infrastructure.persistence.UuidRangeConditions.inRange;
+
+@Repository
+@RequiredArgsConstructor
+class JooqReconciliationRepository implements ReconciliationRepository {
+
+    private static final int FETCH_SIZE = 1_000;
+
+    private static final Table<?> WATERMARKS = DSL.table(DSL.name("reconciliation_watermark"));
+    private static final Field<String> WATERMARK_NAME = DSL.field(DSL.name("name"), String.class);
+    private static final Field<OffsetDateTime> WATERMARK = DSL.field(DSL.name("watermark"), OffsetDateTime.class);
+
+    private final DSLContext dsl;
+
+    /*
+     * Full range: one grouped range scan of ledger_entry joined to the range of loans, so each side is read once.
+     * Incremental: a per-loan lateral sum for the few loans that changed. Either way loan and entries are read
+     * in the same statement snapshot, so in-flight writes never show up as false mismatches.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public void scanMismatches(UuidRange range, OffsetDateTime changedSince, Consumer<BalanceMismatch> sink) {
+        var ledgerBalance = DSL.field(DSL.name("ledger_balance"), BigDecimal.class);
+        var query = changedSince == null
+                ? fullRangeQuery(range, ledgerBalance)
+                : changedSinceQuery(range, changedSince, ledgerBalance);
+
+        try (var rows = query.fetchSize(FETCH_SIZE).stream()) {
+            rows.forEach(row -> sink.accept(new BalanceMismatch(
+                    row.get(LOAN.USER_ID),
+                    new Money(row.get(LOAN.CURRENT_BALANCE)),
+                    new Money(row.get(ledgerBalance)))));
+        }
+    }
+
+    private ResultQuery<? extends Record> fullRangeQuery(UuidRange range, Field<BigDecimal> ledgerBalance) {
+        var sums = DSL.select(LEDGER_ENTRY.USER_ID, DSL.sum(LEDGER_ENTRY.AMOUNT_DELTA).as(ledgerBalance.getName()))
+                .from(LEDGER_ENTRY)
+                .where(inRange(LEDGER_ENTRY.USER_ID, range))
+                .groupBy(LEDGER_ENTRY.USER_ID)
+                .asTable("sums");
+        var total = DSL.coalesce(sums.field(ledgerBalance), BigDecimal.ZERO);
+        return dsl.select(LOAN.USER_ID, LOAN.CURRENT_BALANCE, total.as(ledgerBalance))
+                .from(LOAN)
+                .leftJoin(sums).on(sums.field(LEDGER_ENTRY.USER_ID).eq(LOAN.USER_ID))
+                .where(inRange(LOAN.USER_ID, range))
+                .and(LOAN.CURRENT_BALANCE.ne(total));
+    }
+
+    private ResultQuery<? extends Record> changedSinceQuery(UuidRange range, OffsetDateTime changedSince,
+                                                                    Field<BigDecimal> ledgerBalance) {
+        var sums = DSL.lateral(DSL.select(DSL.sum(LEDGER_ENTRY.AMOUNT_DELTA).as(ledgerBalance.getName()))
+                .from(LEDGER_ENTRY)
+                .where(LEDGER_ENTRY.USER_ID.eq(LOAN.USER_ID))
+                .asTable("sums"));
+        var total = DSL.coalesce(sums.field(ledgerBalance), BigDecimal.ZERO);
+        return dsl.select(LOAN.USER_ID, LOAN.CURRENT_BALANCE, total.as(ledgerBalance))
+                .from(LOAN)
+                .crossJoin(sums)
+                .where(inRange(LOAN.USER_ID, range))
+                .and(LOAN.UPDATED_AT.ge(changedSince))
+                .and(LOAN.CURRENT_BALANCE.ne(total));
+    }
+
+    @Override
+    public Optional<OffsetDateTime> findWatermark(String name) {
+        return dsl.select(WATERMARK)
+                .from(WATERMARKS)
+                .where(WATERMARK_NAME.eq(name))
+                .fetchOptional(WATERMARK);
+    }
+
+    @Override
+    public void saveWatermark(String name, OffsetDateTime watermark) {
+        dsl.insertInto(WATERMARKS, WATERMARK_NAME, WATERMARK)
+                .values(name, watermark)
+                .onConflict(WATERMARK_NAME)
+                .doUpdate()
+                .set(WATERMARK, watermark)
+                .execute();
+    }
+
+    @Override
+    public OffsetDateTime databaseNow() {
+        return dsl.select(DSL.currentOffsetDateTime()).fetchSingle().value1();
+    }
+}
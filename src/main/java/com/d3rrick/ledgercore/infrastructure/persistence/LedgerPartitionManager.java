@@ -0,0 +1,176 @@
+package com.d3rrick.ledgercore.infrastructure.persistence;
+
+import com.d3rrick.ledgercore.application.service.ReconciliationProperties;
+import com.d3rrick.ledgercore.application.service.ReplayProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.jooq.DSLContext;
+import org.jooq.impl.DSL;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Keeps the monthly partitions of {@code ledger_entry} (see V2) created ahead of time and applies the retention
+ * policy. Every node may run it: each pass holds a transaction-scoped advisory lock, so the DDL never races.
+ *
+ * <p>Partitions are named {@code ledger_entry_pYYYY_MM} and bounded in UTC. Lookups that carry a
+ * {@code created_at} range touch only the matching partitions; today that is the delinquency scan, whose cutoff is
+ * a {@code created_at} bound, and it is the only read that partition pruning speeds up. Per-loan history is keyed on
+ * {@code id}, and no caller holds a {@code created_at} bound for it (see {@code JooqLedgerRepository#forEachEntry}),
+ * so it, the reconciliation sums and loan rebuilds cost one {@code (user_id, id)} index probe per attached partition,
+ * one more every month. Idempotency checks go through the global {@code ledger_idempotency_key} registry and do not
+ * depend on partitions at all.
+ *
+ * <p>Retention removes the oldest entries of long-lived loans, after which their ledger no longer sums to their
+ * balance nor replays from their disbursement. It is therefore refused at startup while reconciliation or the
+ * ledger read source is enabled.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "ledger.partitions.enabled", havingValue = "true", matchIfMissing = true)
+public class LedgerPartitionManager {
+
+    private static final String PREFIX = "ledger_entry_p";
+    private static final DateTimeFormatter SUFFIX = DateTimeFormatter.ofPattern("yyyy_MM");
+    // Arbitrary but stable key for pg_advisory_xact_lock
+    private static final long LOCK_KEY = 0x6c65646765720001L;
+
+    private final DSLContext dsl;
+    private final PartitionProperties properties;
+    private final Clock clock = Clock.systemUTC();
+
+    public LedgerPartitionManager(DSLContext dsl, PartitionProperties properties,
+                                  ReconciliationProperties reconciliationProperties, ReplayProperties replayProperties) {
+        if (properties.retentionMonths() > 0 && reconciliationProperties.enabled()) {
+            throw new IllegalStateException("ledger.partitions.retention-months requires ledger.reconciliation.enabled=false: "
+                    + "loans older than the retained months would all be reported as mismatches");
+        }
+        if (properties.retentionMonths() > 0 && replayProperties.readSource() == ReplayProperties.ReadSource.LEDGER) {
+            throw new IllegalStateException("ledger.partitions.retention-months requires ledger.replay.read-source=loan-row: "
+                    + "loans older than the retained months could no longer be replayed");
+        }
+        this.dsl = dsl;
+        this.properties = properties;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${ledger.partitions.cron:0 15 2 * * *}", zone = "UTC")
+    public void maintain() {
+        var today = LocalDate.now(clock);
+        ensurePartitions(today);
+        applyRetention(today);
+    }
+
+    /**
+     * @return names of the partitions this call created
+     */
+    public List<String> ensurePartitions(LocalDate today) {
+        return dsl.transactionResult(configuration -> {
+            var ctx = configuration.dsl();
+            lock(ctx);
+            var created = new ArrayList<String>();
+            var current = YearMonth.from(today);
+            for (int i = 0; i <= properties.premakeMonths(); i++) {
+                var month = current.plusMonths(i);
+                var name = partitionName(month);
+                if (exists(ctx, name)) {
+                    continue;
+                }
+                try {
+                    // DDL takes no bind parameters, hence inline bounds. Savepoint: rows already sitting in the
+                    // default partition for this month make the DDL fail; that month is skipped, not the rest.
+                    ctx.transaction(nested -> nested.dsl().execute(
+                            "CREATE TABLE {0} PARTITION OF ledger_entry FOR VALUES FROM ({1}) TO ({2})",
+                            DSL.name(name), DSL.inline(start(month)), DSL.inline(start(month.plusMonths(1)))));
+                    created.add(name);
+                } catch (DataAccessException ex) {
+                    log.warn("Could not create partition {}; move its rows out of ledger_entry_default first", name, ex);
+                }
+            }
+            return created;
+        });
+    }
+
+    /**
+     * Detaches or drops partitions that ended more than {@code retentionMonths} before the current month.
+     *
+     * @return names of the partitions this call detached or dropped
+     */
+    public List<String> applyRetention(LocalDate today) {
+        if (properties.retentionMonths() <= 0) {
+            return List.of();
+        }
+        var oldestKept = YearMonth.from(today).minusMonths(properties.retentionMonths());
+        return dsl.transactionResult(configuration -> {
+            var ctx = configuration.dsl();
+            lock(ctx);
+            var removed = new ArrayList<String>();
+            for (var name : attachedPartitions(ctx)) {
+                var month = monthOf(name);
+                if (month.isEmpty() || !month.get().isBefore(oldestKept)) {
+                    continue;
+                }
+                if (properties.retentionAction() == PartitionProperties.RetentionAction.DROP) {
+                    ctx.execute("DROP TABLE {0}", DSL.name(name));
+                } else {
+                    ctx.execute("ALTER TABLE ledger_entry DETACH PARTITION {0}", DSL.name(name));
+                }
+                removed.add(name);
+            }
+            return removed;
+        });
+    }
+
+    static String partitionName(YearMonth month) {
+        return PREFIX + month.format(SUFFIX);
+    }
+
+    static Optional<YearMonth> monthOf(String partitionName) {
+        if (!partitionName.startsWith(PREFIX)) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(YearMonth.parse(partitionName.substring(PREFIX.length()), SUFFIX));
+        } catch (RuntimeException ex) {
+            return Optional.empty();
+        }
+    }
+
+    private static OffsetDateTime start(YearMonth month) {
+        return month.atDay(1).atStartOfDay().atOffset(ZoneOffset.UTC);
+    }
+
+    private static void lock(DSLContext ctx) {
+        ctx.execute("SELECT pg_advisory_xact_lock({0})", DSL.val(LOCK_KEY));
+    }
+
+    private static boolean exists(DSLContext ctx, String name) {
+        return ctx.fetchExists(DSL.selectOne()
+                .from(DSL.table("pg_class"))
+                .where(DSL.field("relname").eq(name)));
+    }
+
+    private static List<String> attachedPartitions(DSLContext ctx) {
+        return ctx.fetch("""
+                        SELECT c.relname
+                        FROM pg_inherits i
+                        JOIN pg_class c ON c.oid = i.inhrelid
+                        WHERE i.inhparent = 'ledger_entry'::regclass
+                        ORDER BY c.relname
+                        """)
+                .getValues(0, String.class);
+    }
+}
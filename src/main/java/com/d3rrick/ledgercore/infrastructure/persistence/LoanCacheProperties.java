@@ -0,0 +1,20 @@
+package com.d3rrick.ledgercore.infrastructure.persistence;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Read-through loan cache, bound from {@code ledger.cache.*}.
+ *
+ * @param enabled put {@link CachingLedgerRepository} in front of the write pipeline
+ * @param maxSize loans kept before the least valuable ones are evicted
+ * @param ttl     upper bound on how long an entry written by another node can stay stale
+ */
+@ConfigurationProperties("ledger.cache")
+public record LoanCacheProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("100000") long maxSize,
+        @DefaultValue("30s") Duration ttl) {
+}
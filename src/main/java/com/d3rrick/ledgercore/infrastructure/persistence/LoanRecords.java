@@ -0,0 +1,22 @@
+package com.d3rrick.ledgercore.infrastructure.persistence;
+
+import com.d3rrick.ledgercore.domain.model.LoanAggregate;
+import com.d3rrick.ledgercore.domain.model.LoanStatus;
+import com.d3rrick.ledgercore.domain.model.Money;
+import com.d3rrick.ledgercore.infrastructure.jooq.tables.records.LoanRecord;
+
+final class LoanRecords {
+
+    private LoanRecords() {
+    }
+
+    static LoanAggregate toAggregate(LoanRecord r) {
+        return new LoanAggregate(
+                r.getUserId(),
+                new Money(r.getPrincipalAmount()),
+                new Money(r.getCurrentBalance()),
+                LoanStatus.valueOf(r.getStatus()),
+                r.getVersion()
+        );
+    }
+}
@@ -0,0 +1,110 @@
+package com.d3rrick.ledgercore.infrastructure.persistence;
+
+import com.d3rrick.ledgercore.application.port.LedgerRepository;
+import com.d3rrick.ledgercore.application.port.LoanUpdate;
+import com.d3rrick.ledgercore.domain.model.LedgerEntry;
+import com.d3rrick.ledgercore.domain.model.LoanAggregate;
+import com.d3rrick.ledgercore.domain.model.LoanStatus;
+import com.d3rrick.ledgercore.domain.model.Money;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * Times every {@link LedgerRepository} call as the application sees it, cache hits and group-commit waits
+ * included. Timers are registered once up front, so a call costs two clock reads and a histogram update.
+ */
+class MeteredLedgerRepository implements LedgerRepository, AutoCloseable {
+
+    private final LedgerRepository delegate;
+    private final Timer recordTransaction;
+    private final Timer recordRepayment;
+    private final Timer recordTransactionBatch;
+    private final Timer findByUserId;
+    private final Timer findAllByUserIds;
+    private final Timer findExistingIdempotencyKeys;
+    private final Timer forEachEntry;
+    private final Timer forEachLoanByStatus;
+    private final Timer createInitialLoan;
+
+    MeteredLedgerRepository(LedgerRepository delegate, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.recordTransaction = timer(meterRegistry, "recordTransaction");
+        this.recordRepayment = timer(meterRegistry, "recordRepayment");
+        this.recordTransactionBatch = timer(meterRegistry, "recordTransactionBatch");
+        this.findByUserId = timer(meterRegistry, "findByUserId");
+        this.findAllByUserIds = timer(meterRegistry, "findAllByUserIds");
+        this.findExistingIdempotencyKeys = timer(meterRegistry, "findExistingIdempotencyKeys");
+        this.forEachEntry = timer(meterRegistry, "forEachEntry");
+        this.forEachLoanByStatus = timer(meterRegistry, "forEachLoanByStatus");
+        this.createInitialLoan = timer(meterRegistry, "createInitialLoan");
+    }
+
+    private static Timer timer(MeterRegistry meterRegistry, String method) {
+        return Timer.builder("ledger.repository")
+                .description("LedgerRepository calls, including any failures")
+                .tag("method", method)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void recordTransaction(LoanAggregate loan, Money delta, String type, UUID idempotencyKey) {
+        recordTransaction.record(() -> delegate.recordTransaction(loan, delta, type, idempotencyKey));
+    }
+
+    @Override
+    public LoanAggregate recordRepayment(UUID userId, Money amount, UUID idempotencyKey) {
+        return recordRepayment.record(() -> delegate.recordRepayment(userId, amount, idempotencyKey));
+    }
+
+    @Override
+    public Set<UUID> recordTransactionBatch(List<LoanUpdate> updates) {
+        return recordTransactionBatch.record(() -> delegate.recordTransactionBatch(updates));
+    }
+
+    @Override
+    public Optional<LoanAggregate> findByUserId(UUID userId) {
+        return findByUserId.record(() -> delegate.findByUserId(userId));
+    }
+
+    @Override
+    public Map<UUID, LoanAggregate> findAllByUserIds(Collection<UUID> userIds) {
+        return findAllByUserIds.record(() -> delegate.findAllByUserIds(userIds));
+    }
+
+    @Override
+    public Set<UUID> findExistingIdempotencyKeys(Collection<UUID> idempotencyKeys) {
+        return findExistingIdempotencyKeys.record(() -> delegate.findExistingIdempotencyKeys(idempotencyKeys));
+    }
+
+    @Override
+    public void forEachEntry(UUID userId, long afterId, long throughId, int limit, Consumer<LedgerEntry> consumer) {
+        forEachEntry.record(() -> delegate.forEachEntry(userId, afterId, throughId, limit, consumer));
+    }
+
+    @Override
+    public void forEachLoanByStatus(LoanStatus status, UUID afterUserId, int limit, Consumer<LoanAggregate> consumer) {
+        forEachLoanByStatus.record(() -> delegate.forEachLoanByStatus(status, afterUserId, limit, consumer));
+    }
+
+    @Override
+    public void createInitialLoan(LoanAggregate loan, UUID idempotencyKey) {
+        createInitialLoan.record(() -> delegate.createInitialLoan(loan, idempotencyKey));
+    }
+
+    // Spring only destroys the outermost wrapper, so shutdown is passed down to the stages it wraps
+    @Override
+    public void close() throws Exception {
+        if (delegate instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+}
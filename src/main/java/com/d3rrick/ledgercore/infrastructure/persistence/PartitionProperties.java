@@ -0,0 +1,28 @@
+package com.d3rrick.ledgercore.infrastructure.persistence;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Monthly {@code ledger_entry} partition maintenance, bound from {@code ledger.partitions.*}.
+ *
+ * @param enabled         run {@link LedgerPartitionManager} at startup and on {@code ledger.partitions.cron}
+ * @param premakeMonths   months ahead of the current one that must already have a partition
+ * @param retentionMonths months of partitions kept attached behind the current one; {@code 0} keeps everything, and
+ *                        is required while reconciliation or the ledger read source is enabled
+ * @param retentionAction what happens to a partition once it falls out of retention
+ */
+@ConfigurationProperties("ledger.partitions")
+public record PartitionProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("3") int premakeMonths,
+        @DefaultValue("0") int retentionMonths,
+        @DefaultValue("DETACH") RetentionAction retentionAction) {
+
+    public enum RetentionAction {
+        /** Detach and keep the table, e.g. for archiving or a cheaper tablespace. */
+        DETACH,
+        /** Drop the partition and its rows. */
+        DROP
+    }
+}
@@ -0,0 +1,35 @@
+package com.d3rrick.ledgercore.infrastructure.persistence;
+
+import com.d3rrick.ledgercore.application.port.LedgerRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Assembles the {@link LedgerRepository} the application sees: the jOOQ adapter, wrapped by whichever
+ * optional stages are switched on, and timed on the outside.
+ */
+@Configuration(proxyBeanMethods = false)
+class PersistenceConfiguration {
+
+    @Bean
+    @Primary
+    LedgerRepository ledgerRepository(@Qualifier("jooqLedgerRepository") LedgerRepository jooqLedgerRepository,
+                                      GroupCommitProperties groupCommitProperties,
+                                      LoanCacheProperties loanCacheProperties,
+                                      TransactionTemplate transactionTemplate,
+                                      MeterRegistry meterRegistry) {
+        LedgerRepository repository = jooqLedgerRepository;
+        if (groupCommitProperties.enabled()) {
+            repository = new GroupCommitLedgerRepository(repository, transactionTemplate, groupCommitProperties, meterRegistry);
+        }
+        if (loanCacheProperties.enabled()) {
+            // Outermost, so it only ever sees writes that have finished (and, with group commit, committed)
+            repository = new CachingLedgerRepository(repository, loanCacheProperties, meterRegistry);
+        }
+        return new MeteredLedgerRepository(repository, meterRegistry);
+    }
+}
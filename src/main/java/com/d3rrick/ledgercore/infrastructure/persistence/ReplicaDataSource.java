@@ -0,0 +1,140 @@
+package com.d3rrick.ledgercore.infrastructure.persistence;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Connection source for read-only transactions: round-robin over the replicas that are reachable and within
+ * {@code maxLag} of the primary, falling back to the primary when none is. Health is probed in the background,
+ * and a replica that fails to hand out a connection is taken out of rotation until its next good probe.
+ *
+ * <p>The staleness bound is on replay lag only: a read-only transaction may not see a write the same client
+ * committed a moment ago.
+ */
+@Slf4j
+class ReplicaDataSource extends AbstractDataSource implements AutoCloseable {
+
+    // A replica that has replayed everything it received is current, however old its last transaction is
+    private static final String LAG_SQL = """
+            SELECT CASE
+                     WHEN NOT pg_is_in_recovery() OR pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0
+                     ELSE COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()), 0)
+                   END""";
+
+    private final DataSource primary;
+    private final List<Replica> replicas;
+    private final Duration maxLag;
+    private final AtomicInteger next = new AtomicInteger();
+    private ScheduledExecutorService prober;
+
+    ReplicaDataSource(DataSource primary, Map<String, DataSource> replicas, Duration maxLag, MeterRegistry meterRegistry) {
+        this.primary = primary;
+        this.maxLag = maxLag;
+        this.replicas = new ArrayList<>(replicas.size());
+        replicas.forEach((name, dataSource) -> {
+            var replica = new Replica(name, dataSource);
+            this.replicas.add(replica);
+            Gauge.builder("ledger.replica.lag", replica, r -> r.lagSeconds)
+                    .description("Replay lag of the replica at its last probe")
+                    .baseUnit("seconds")
+                    .tag("replica", name)
+                    .register(meterRegistry);
+            Gauge.builder("ledger.replica.healthy", replica, r -> r.healthy ? 1 : 0)
+                    .description("1 while the replica receives read-only transactions")
+                    .tag("replica", name)
+                    .register(meterRegistry);
+        });
+    }
+
+    /** Probes once right away, so no read goes to a replica before it has been checked, then on a fixed delay. */
+    void start(Duration checkInterval) {
+        checkReplicas();
+        prober = Executors.newSingleThreadScheduledExecutor(Thread.ofVirtual().name("replica-probe").factory());
+        prober.scheduleWithFixedDelay(this::checkReplicas, checkInterval.toMillis(), checkInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    void checkReplicas() {
+        for (var replica : replicas) {
+            try (var connection = replica.dataSource.getConnection();
+                 var statement = connection.createStatement();
+                 var lag = statement.executeQuery(LAG_SQL)) {
+                lag.next();
+                replica.lagSeconds = lag.getDouble(1);
+                replica.healthy = replica.lagSeconds <= maxLag.toNanos() / 1e9;
+            } catch (SQLException ex) {
+                replica.healthy = false;
+                log.warn("Replica {} failed its health probe", replica.name, ex);
+            }
+        }
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return connect(DataSource::getConnection);
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return connect(dataSource -> dataSource.getConnection(username, password));
+    }
+
+    private Connection connect(ConnectionSource source) throws SQLException {
+        var start = Math.floorMod(next.getAndIncrement(), Math.max(replicas.size(), 1));
+        for (int i = 0; i < replicas.size(); i++) {
+            var replica = replicas.get((start + i) % replicas.size());
+            if (!replica.healthy) {
+                continue;
+            }
+            try {
+                return source.connect(replica.dataSource);
+            } catch (SQLException ex) {
+                replica.healthy = false;
+                log.warn("Replica {} refused a connection, reading from the next one", replica.name, ex);
+            }
+        }
+        return source.connect(primary);
+    }
+
+    @Override
+    public void close() throws Exception {
+        if (prober != null) {
+            prober.shutdownNow();
+        }
+        for (var replica : replicas) {
+            if (replica.dataSource instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+    }
+
+    private static final class Replica {
+        private final String name;
+        private final DataSource dataSource;
+        private volatile boolean healthy;
+        private volatile double lagSeconds;
+
+        private Replica(String name, DataSource dataSource) {
+            this.name = name;
+            this.dataSource = dataSource;
+        }
+    }
+
+    @FunctionalInterface
+    private interface ConnectionSource {
+        Connection connect(DataSource dataSource) throws SQLException;
+    }
+}
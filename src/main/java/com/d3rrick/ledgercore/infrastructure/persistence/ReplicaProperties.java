@@ -0,0 +1,25 @@
+package com.d3rrick.ledgercore.infrastructure.persistence;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Read replicas for read-only transactions, bound from {@code ledger.datasource.*}. With no replicas configured
+ * every query goes to {@code spring.datasource}.
+ *
+ * @param replicas      streaming replicas of the primary
+ * @param maxLag        replay lag beyond which a replica stops receiving reads until it catches up
+ * @param checkInterval how often each replica's health and lag are probed
+ */
+@ConfigurationProperties("ledger.datasource")
+public record ReplicaProperties(
+        @DefaultValue List<Replica> replicas,
+        @DefaultValue("5s") Duration maxLag,
+        @DefaultValue("2s") Duration checkInterval) {
+
+    public record Replica(String url, String username, String password, @DefaultValue("10") int maximumPoolSize) {
+    }
+}
@@ -0,0 +1,25 @@
+package com.d3rrick.ledgercore.infrastructure.persistence;
+
+import com.d3rrick.ledgercore.application.port.UuidRange;
+import org.jooq.Condition;
+import org.jooq.Field;
+import org.jooq.impl.DSL;
+
+import java.util.UUID;
+
+final class UuidRangeConditions {
+
+    private UuidRangeConditions() {
+    }
+
+    static Condition inRange(Field<UUID> field, UuidRange range) {
+        var condition = DSL.noCondition();
+        if (range.from() != null) {
+            condition = condition.and(field.ge(range.from()));
+        }
+        if (range.to() != null) {
+            condition = condition.and(field.lt(range.to()));
+        }
+        return condition;
+    }
+}
@@ -0,0 +1,45 @@
+package com.d3rrick.ledgercore.infrastructure.web;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+
+/**
+ * Registers {@link AdmissionControlInterceptor}. Unless {@code max-concurrent} is set, the limit is the Hikari
+ * pool size: every admitted request can get a connection without queuing for one.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(name = "ledger.admission.enabled", havingValue = "true")
+class AdmissionConfiguration implements WebMvcConfigurer {
+
+    private static final int FALLBACK_LIMIT = 10;
+
+    private final AdmissionControlInterceptor interceptor;
+
+    AdmissionConfiguration(AdmissionProperties properties, DataSource dataSource, MeterRegistry meterRegistry) {
+        var limit = properties.maxConcurrent() > 0 ? properties.maxConcurrent() : connectionPoolSize(dataSource);
+        this.interceptor = new AdmissionControlInterceptor(limit, properties.acquireTimeout(), meterRegistry);
+    }
+
+    private static int connectionPoolSize(DataSource dataSource) {
+        try {
+            if (dataSource.isWrapperFor(HikariDataSource.class)) {
+                return dataSource.unwrap(HikariDataSource.class).getMaximumPoolSize();
+            }
+        } catch (SQLException ignored) {
+            // not a Hikari pool; fall through
+        }
+        return FALLBACK_LIMIT;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(interceptor).addPathPatterns("/api/**");
+    }
+}
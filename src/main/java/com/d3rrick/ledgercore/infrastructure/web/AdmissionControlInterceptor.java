@@ -0,0 +1,102 @@
+package com.d3rrick.ledgercore.infrastructure.web;
+
+import com.d3rrick.ledgercore.infrastructure.web.exceptions.AdmissionRejectedException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Caps the number of requests doing work at once. With virtual threads Tomcat no longer bounds concurrency,
+ * so without this thousands of requests would queue inside Hikari instead of being turned away quickly.
+ *
+ * <p>The permit is held from {@code preHandle} until the request completes. For async requests (the streaming
+ * endpoints) that is when the async context completes, not when the handler returns, so a streamed response keeps
+ * its permit for as long as it holds a connection; the async re-dispatch reuses the permit rather than taking another.
+ * A request that cannot get one within the timeout fails with {@link AdmissionRejectedException}, i.e. a 503.
+ */
+class AdmissionControlInterceptor implements AsyncHandlerInterceptor {
+
+    private static final String PERMIT = AdmissionControlInterceptor.class.getName() + ".PERMIT";
+
+    private final Semaphore permits;
+    private final Duration acquireTimeout;
+    private final Counter rejected;
+
+    AdmissionControlInterceptor(int maxConcurrent, Duration acquireTimeout, MeterRegistry meterRegistry) {
+        this.permits = new Semaphore(maxConcurrent, true);
+        this.acquireTimeout = acquireTimeout;
+        Gauge.builder("ledger.admission.available", permits, Semaphore::availablePermits)
+                .description("Request permits currently free")
+                .register(meterRegistry);
+        Gauge.builder("ledger.admission.limit", () -> maxConcurrent)
+                .register(meterRegistry);
+        this.rejected = Counter.builder("ledger.admission.rejected")
+                .description("Requests turned away because every permit stayed taken for the whole timeout")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (request.getAttribute(PERMIT) != null) {
+            return true;
+        }
+        try {
+            if (!permits.tryAcquire(acquireTimeout.toNanos(), TimeUnit.NANOSECONDS)) {
+                rejected.increment();
+                throw new AdmissionRejectedException("Too many requests in flight");
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new AdmissionRejectedException("Interrupted while waiting for admission");
+        }
+        request.setAttribute(PERMIT, new AtomicBoolean(true));
+        return true;
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        // onComplete also follows a timeout, an error or a dropped client, whether or not a re-dispatch happens
+        request.getAsyncContext().addListener(new AsyncListener() {
+            @Override
+            public void onComplete(AsyncEvent event) {
+                release(request);
+            }
+
+            @Override
+            public void onTimeout(AsyncEvent event) {
+            }
+
+            @Override
+            public void onError(AsyncEvent event) {
+            }
+
+            @Override
+            public void onStartAsync(AsyncEvent event) {
+            }
+        });
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        if (!request.isAsyncStarted()) {
+            release(request);
+        }
+    }
+
+    // The async listener and the re-dispatch may both get here, on different threads
+    private void release(HttpServletRequest request) {
+        if (request.getAttribute(PERMIT) instanceof AtomicBoolean held && held.compareAndSet(true, false)) {
+            permits.release();
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.d3rrick.ledgercore.infrastructure.web;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Request admission in front of the API, bound from {@code ledger.admission.*}.
+ *
+ * @param enabled        register {@link AdmissionControlInterceptor} for {@code /api/**}
+ * @param maxConcurrent  requests allowed in flight at once; {@code 0} sizes it to the connection pool
+ * @param acquireTimeout how long a request may wait for a permit before it is answered with 503
+ */
+@ConfigurationProperties("ledger.admission")
+public record AdmissionProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("0") int maxConcurrent,
+        @DefaultValue("250ms") Duration acquireTimeout) {
+}
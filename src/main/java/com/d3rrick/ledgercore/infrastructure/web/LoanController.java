@@ -1,15 +1,23 @@
 package com.d3rrick.ledgercore.infrastructure.web;
 
 import com.d3rrick.ledgercore.application.service.LoanService;
+import com.d3rrick.ledgercore.application.service.RepaymentCommand;
+import com.d3rrick.ledgercore.domain.model.LoanStatus;
 import com.d3rrick.ledgercore.domain.model.Money;
+import com.d3rrick.ledgercore.infrastructure.web.request.BatchRepaymentRequest;
 import com.d3rrick.ledgercore.infrastructure.web.request.LoanRequest;
 import com.d3rrick.ledgercore.infrastructure.web.request.RepaymentRequest;
+import com.d3rrick.ledgercore.infrastructure.web.response.BatchRepaymentResponse;
+import com.d3rrick.ledgercore.infrastructure.web.response.LedgerEntryResponse;
 import com.d3rrick.ledgercore.infrastructure.web.response.LoanResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import tools.jackson.databind.json.JsonMapper;
 
 import java.util.UUID;
 
@@ -18,7 +26,11 @@ import java.util.UUID;
 @RequiredArgsConstructor
 public class LoanController {
 
+    private static final int MAX_ENTRIES_PAGE = 10_000;
+    private static final int MAX_LOANS_PAGE = 10_000;
+
     private final LoanService loanService;
+    private final JsonMapper jsonMapper;
 
     @PostMapping("/{userId}/repayment")
     public ResponseEntity<Void> postRepayment(
@@ -34,6 +46,15 @@ public class LoanController {
         return ResponseEntity.accepted().build();
     }
 
+    @PostMapping("/repayments/batch")
+    public ResponseEntity<BatchRepaymentResponse> postRepaymentBatch(@RequestBody @Valid BatchRepaymentRequest request) {
+        var commands = request.items().stream()
+                .map(item -> new RepaymentCommand(item.userId(), new Money(item.amount()), item.idempotencyKey()))
+                .toList();
+
+        return ResponseEntity.ok(BatchRepaymentResponse.fromResults(loanService.processRepaymentBatch(commands)));
+    }
+
     @GetMapping("/{userId}")
     public ResponseEntity<LoanResponse> getLoan(@PathVariable UUID userId) {
         return loanService.getLoanDetails(userId)
@@ -42,6 +63,80 @@ public class LoanController {
                 .orElse(ResponseEntity.notFound().build());
     }
 
+    /**
+     * Keyset page of a loan's entries: {@code {"entries":[...],"nextAfter":<id|null>}}. Rows are written to the
+     * response as the cursor yields them; pass {@code nextAfter} back as {@code after} for the next page.
+     */
+    @GetMapping("/{userId}/entries")
+    public ResponseEntity<StreamingResponseBody> getEntries(
+            @PathVariable UUID userId,
+            @RequestParam(defaultValue = "0") long after,
+            @RequestParam(defaultValue = "500") int limit) {
+
+        if (!loanService.loanExists(userId)) {
+            return ResponseEntity.notFound().build();
+        }
+        var pageSize = Math.clamp(limit, 1, MAX_ENTRIES_PAGE);
+
+        StreamingResponseBody body = out -> {
+            try (var generator = jsonMapper.createGenerator(out)) {
+                var written = new long[]{0, after};
+                generator.writeStartObject();
+                generator.writeName("entries");
+                generator.writeStartArray();
+                loanService.streamEntries(userId, after, pageSize, entry -> {
+                    generator.writePOJO(LedgerEntryResponse.fromEntry(entry));
+                    written[0]++;
+                    written[1] = entry.id();
+                });
+                generator.writeEndArray();
+                if (written[0] == pageSize) {
+                    generator.writeNumberProperty("nextAfter", written[1]);
+                } else {
+                    generator.writeNullProperty("nextAfter");
+                }
+                generator.writeEndObject();
+            }
+        };
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(body);
+    }
+
+    /**
+     * Keyset page of the loans in one status, in userId order: {@code {"loans":[...],"nextAfter":<userId|null>}}.
+     * Streamed like {@link #getEntries}, so a collections or reporting job can walk the whole book page by page.
+     */
+    @GetMapping
+    public ResponseEntity<StreamingResponseBody> getLoansByStatus(
+            @RequestParam LoanStatus status,
+            @RequestParam(required = false) UUID after,
+            @RequestParam(defaultValue = "1000") int limit) {
+
+        var pageSize = Math.clamp(limit, 1, MAX_LOANS_PAGE);
+
+        StreamingResponseBody body = out -> {
+            try (var generator = jsonMapper.createGenerator(out)) {
+                var written = new int[]{0};
+                var last = new UUID[]{after};
+                generator.writeStartObject();
+                generator.writeName("loans");
+                generator.writeStartArray();
+                loanService.streamLoansByStatus(status, after, pageSize, loan -> {
+                    generator.writePOJO(LoanResponse.fromAggregate(loan));
+                    written[0]++;
+                    last[0] = loan.userId();
+                });
+                generator.writeEndArray();
+                if (written[0] == pageSize) {
+                    generator.writeStringProperty("nextAfter", last[0].toString());
+                } else {
+                    generator.writeNullProperty("nextAfter");
+                }
+                generator.writeEndObject();
+            }
+        };
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(body);
+    }
+
     @PostMapping
     public ResponseEntity<Void> createLoan(@RequestBody @Valid LoanRequest request) {
         loanService.originateLoan(
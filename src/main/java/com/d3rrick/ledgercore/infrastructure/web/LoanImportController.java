@@ -0,0 +1,46 @@
+package com.d3rrick.ledgercore.infrastructure.web;
+
+import com.d3rrick.ledgercore.application.service.LoanImportLine;
+import com.d3rrick.ledgercore.application.service.LoanImportService;
+import com.d3rrick.ledgercore.infrastructure.web.response.LoanImportResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+@RestController
+@RequestMapping("/api/v1/loan/imports")
+@RequiredArgsConstructor
+public class LoanImportController {
+
+    private final LoanImportService loanImportService;
+    private final JsonMapper jsonMapper;
+
+    @PostMapping(consumes = "text/csv")
+    public ResponseEntity<LoanImportResponse> importCsv(InputStream body) throws IOException {
+        return importFrom(body, LoanImportReader::csv);
+    }
+
+    @PostMapping(consumes = "application/x-ndjson")
+    public ResponseEntity<LoanImportResponse> importNdjson(InputStream body) throws IOException {
+        return importFrom(body, reader -> LoanImportReader.ndjson(reader, jsonMapper));
+    }
+
+    private ResponseEntity<LoanImportResponse> importFrom(InputStream body,
+                                                          Function<BufferedReader, Stream<LoanImportLine>> parser) throws IOException {
+        try (var reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8));
+             var lines = parser.apply(reader)) {
+            return ResponseEntity.ok(LoanImportResponse.fromReport(loanImportService.importLoans(lines)));
+        }
+    }
+}
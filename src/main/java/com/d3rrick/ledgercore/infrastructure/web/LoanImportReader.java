@@ -0,0 +1,64 @@
+package com.d3rrick.ledgercore.infrastructure.web;
+
+import com.d3rrick.ledgercore.application.service.LoanImportLine;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.BufferedReader;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * Turns an upload into a lazy stream of {@link LoanImportLine}s, one per non-blank line, so the file is never
+ * held in memory. Line numbers are 1-based and count blank lines and the CSV header.
+ */
+final class LoanImportReader {
+
+    private static final String CSV_HEADER = "user_id";
+
+    private LoanImportReader() {
+    }
+
+    /** {@code user_id,amount,idempotency_key}, with or without a header row. */
+    static Stream<LoanImportLine> csv(BufferedReader reader) {
+        var lineNumber = new AtomicLong();
+        return reader.lines()
+                .map(text -> parseCsv(lineNumber.incrementAndGet(), text))
+                .filter(Objects::nonNull);
+    }
+
+    /** One {@code {"userId":..,"amount":..,"idempotencyKey":..}} object per line. */
+    static Stream<LoanImportLine> ndjson(BufferedReader reader, JsonMapper jsonMapper) {
+        var lineNumber = new AtomicLong();
+        return reader.lines()
+                .map(text -> parseJson(lineNumber.incrementAndGet(), text, jsonMapper))
+                .filter(Objects::nonNull);
+    }
+
+    private static LoanImportLine parseCsv(long lineNumber, String text) {
+        if (text.isBlank() || (lineNumber == 1 && text.strip().startsWith(CSV_HEADER))) {
+            return null;
+        }
+        var fields = text.split(",", -1);
+        if (fields.length != 3) {
+            return new LoanImportLine(lineNumber, null, null, null);
+        }
+        return new LoanImportLine(lineNumber, fields[0], fields[1], fields[2]);
+    }
+
+    private static LoanImportLine parseJson(long lineNumber, String text, JsonMapper jsonMapper) {
+        if (text.isBlank()) {
+            return null;
+        }
+        try {
+            // String targets keep the amount's literal text, so no double rounding sneaks in
+            var row = jsonMapper.readValue(text, JsonRow.class);
+            return new LoanImportLine(lineNumber, row.userId(), row.amount(), row.idempotencyKey());
+        } catch (JacksonException ex) {
+            return new LoanImportLine(lineNumber, null, null, null);
+        }
+    }
+
+    private record JsonRow(String userId, String amount, String idempotencyKey) {}
+}
@@ -0,0 +1,23 @@
+package com.d3rrick.ledgercore.infrastructure.web;
+
+import com.d3rrick.ledgercore.application.service.PortfolioService;
+import com.d3rrick.ledgercore.infrastructure.web.response.PortfolioResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/v1/portfolio")
+@RequiredArgsConstructor
+public class PortfolioController {
+
+    private final PortfolioService portfolioService;
+
+    @GetMapping
+    public ResponseEntity<PortfolioResponse> getTotals() {
+        var totals = portfolioService.totals();
+        return ResponseEntity.ok(PortfolioResponse.fromTotals(totals.byStatus().values(), totals.readAt()));
+    }
+}
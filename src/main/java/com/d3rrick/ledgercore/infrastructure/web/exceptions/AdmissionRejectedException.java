@@ -0,0 +1,13 @@
+package com.d3rrick.ledgercore.infrastructure.web.exceptions;
+
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * The API is at its concurrency limit. A {@link RejectedExecutionException} so anything that already treats
+ * saturation as retryable keeps doing so.
+ */
+public class AdmissionRejectedException extends RejectedExecutionException {
+    public AdmissionRejectedException(String message) {
+        super(message);
+    }
+}
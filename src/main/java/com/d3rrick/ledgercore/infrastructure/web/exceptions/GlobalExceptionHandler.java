@@ -1,21 +1,54 @@
 package com.d3rrick.ledgercore.infrastructure.web.exceptions;
 
 import com.d3rrick.ledgercore.domain.exception.DomainException;
+import com.d3rrick.ledgercore.domain.exception.DuplicateTransactionException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ProblemDetail;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 import org.springframework.web.servlet.mvc.method.annotation.ResponseEntityExceptionHandler;
 
 import java.net.URI;
 import java.util.ConcurrentModificationException;
+import java.util.concurrent.RejectedExecutionException;
 
 @RestControllerAdvice
 public class GlobalExceptionHandler extends ResponseEntityExceptionHandler {
 
+    private final MeterRegistry meterRegistry;
+    private final Counter domainRejections;
+    private final Counter conflicts;
+    private final Counter databaseDuplicates;
+    private final Counter prefilterDuplicates;
+    private final Counter laneRejections;
+    private final Counter admissionRejections;
+
+    public GlobalExceptionHandler(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        this.domainRejections = errors(meterRegistry, DomainException.class, "rejection");
+        this.conflicts = errors(meterRegistry, ConcurrentModificationException.class, "conflict");
+        this.databaseDuplicates = errors(meterRegistry, org.springframework.dao.DataIntegrityViolationException.class, "duplicate");
+        this.prefilterDuplicates = errors(meterRegistry, DuplicateTransactionException.class, "duplicate");
+        this.laneRejections = errors(meterRegistry, RejectedExecutionException.class, "busy");
+        this.admissionRejections = errors(meterRegistry, AdmissionRejectedException.class, "busy");
+    }
+
+    private static Counter errors(MeterRegistry meterRegistry, Class<? extends Exception> type, String kind) {
+        return Counter.builder("ledger.api.errors")
+                .description("Requests answered with an error, by handled exception type")
+                .tag("exception", type.getSimpleName())
+                .tag("kind", kind)
+                .register(meterRegistry);
+    }
+
     // 1. Handle Business Rule Violations (e.g., "Loan is not active")
     @ExceptionHandler(DomainException.class)
     public ProblemDetail handleDomainException(DomainException ex) {
+        domainRejections.increment();
         var problem = ProblemDetail.forStatusAndDetail(HttpStatus.BAD_REQUEST, ex.getMessage());
         problem.setTitle("Business Rule Violation");
         problem.setType(URI.create("https://ledger-core.com/errors/business-rule"));
@@ -25,6 +58,7 @@ public class GlobalExceptionHandler extends ResponseEntityExceptionHandler {
     // 2. Handle Optimistic Locking Failures (Concurrency)
     @ExceptionHandler(ConcurrentModificationException.class)
     public ProblemDetail handleConcurrencyException(ConcurrentModificationException ex) {
+        conflicts.increment();
         var problem = ProblemDetail.forStatusAndDetail(HttpStatus.CONFLICT, "The record was updated by another request. Please retry.");
         problem.setTitle("Edit Conflict");
         return problem;
@@ -34,14 +68,48 @@ public class GlobalExceptionHandler extends ResponseEntityExceptionHandler {
     @ExceptionHandler(org.springframework.dao.DataIntegrityViolationException.class)
     public ProblemDetail handleDataIntegrity(org.springframework.dao.DataIntegrityViolationException ex) {
         // We assume it's an idempotency failure if it's a unique constraint on ledger_entry
+        databaseDuplicates.increment();
+        return duplicateRequest();
+    }
+
+    // 3b. Duplicates answered by the in-memory pre-filter look exactly like the database ones
+    @ExceptionHandler(DuplicateTransactionException.class)
+    public ProblemDetail handleDuplicateTransaction(DuplicateTransactionException ex) {
+        prefilterDuplicates.increment();
+        return duplicateRequest();
+    }
+
+    private ProblemDetail duplicateRequest() {
         var problem = ProblemDetail.forStatusAndDetail(HttpStatus.CONFLICT, "Duplicate transaction detected (Idempotency Key violation).");
         problem.setTitle("Duplicate Request");
         return problem;
     }
 
-    // 4. Fallback for everything else
+    // 4. Handle Back-Pressure from the per-loan command lanes
+    @ExceptionHandler(RejectedExecutionException.class)
+    public ProblemDetail handleRejectedExecution(RejectedExecutionException ex) {
+        laneRejections.increment();
+        var problem = ProblemDetail.forStatusAndDetail(HttpStatus.SERVICE_UNAVAILABLE, "The loan is busy processing other requests. Please retry.");
+        problem.setTitle("Service Busy");
+        return problem;
+    }
+
+    // 4b. Admission control: the whole API is at capacity, not one loan
+    @ExceptionHandler(AdmissionRejectedException.class)
+    public ResponseEntity<ProblemDetail> handleAdmissionRejected(AdmissionRejectedException ex) {
+        admissionRejections.increment();
+        var problem = ProblemDetail.forStatusAndDetail(HttpStatus.SERVICE_UNAVAILABLE, "The service is at capacity. Please retry.");
+        problem.setTitle("Service Busy");
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(problem);
+    }
+
+    // 5. Fallback for everything else
     @ExceptionHandler(Exception.class)
     public ProblemDetail handleGenericException(Exception ex) {
+        // Off the hot path by definition, so the counter is looked up per call
+        meterRegistry.counter("ledger.api.errors", "exception", ex.getClass().getSimpleName(), "kind", "error").increment();
         var problem = ProblemDetail.forStatusAndDetail(HttpStatus.INTERNAL_SERVER_ERROR, "An unexpected error occurred.");
         problem.setTitle("Server Error");
         return problem;
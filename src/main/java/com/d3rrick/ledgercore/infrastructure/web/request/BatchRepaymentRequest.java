@@ -0,0 +1,25 @@
+package com.d3rrick.ledgercore.infrastructure.web.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Digits;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+
+public record BatchRepaymentRequest(
+        @NotEmpty
+        @Size(max = 5000, message = "A batch may contain at most 5000 repayments")
+        List<@Valid Item> items
+) {
+    // Amounts are checked by the domain per item, so one bad row is rejected without failing the file; only an
+    // amount that cannot be represented as Money at all fails the request
+    public record Item(
+            @NotNull UUID userId,
+            @NotNull @Digits(integer = 16, fraction = 2, message = "Amount must have at most 16 integer digits and 2 decimals") BigDecimal amount,
+            @NotNull UUID idempotencyKey
+    ) {}
+}
@@ -1,6 +1,7 @@
 package com.d3rrick.ledgercore.infrastructure.web.request;
 
 import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Digits;
 import jakarta.validation.constraints.NotNull;
 import java.math.BigDecimal;
 
@@ -10,6 +11,7 @@ public record LoanRequest(
 
         @NotNull
         @DecimalMin(value = "0.01", message = "Amount must be positive")
+        @Digits(integer = 16, fraction = 2, message = "Amount must have at most 16 integer digits and 2 decimals")
         BigDecimal amount,
 
         @NotNull
@@ -1,11 +1,16 @@
 package com.d3rrick.ledgercore.infrastructure.web.request;
 
+import jakarta.validation.constraints.Digits;
 import jakarta.validation.constraints.NotNull;
 
 import java.math.BigDecimal;
 import java.util.UUID;
 
 public record RepaymentRequest(
-        @NotNull BigDecimal amount,
+        // Bounded so the amount always fits Money's long count of cents
+        @NotNull
+        @Digits(integer = 16, fraction = 2, message = "Amount must have at most 16 integer digits and 2 decimals")
+        BigDecimal amount,
+
         @NotNull UUID idempotencyKey // Can also be sent via X-Idempotency-Key header
-) {}
\ No newline at end of file
+) {}
@@ -0,0 +1,17 @@
+package com.d3rrick.ledgercore.infrastructure.web.response;
+
+import com.d3rrick.ledgercore.application.service.RepaymentResult;
+
+import java.util.List;
+import java.util.UUID;
+
+public record BatchRepaymentResponse(List<Item> results) {
+
+    public record Item(UUID userId, UUID idempotencyKey, String outcome, String detail) {}
+
+    public static BatchRepaymentResponse fromResults(List<RepaymentResult> results) {
+        return new BatchRepaymentResponse(results.stream()
+                .map(r -> new Item(r.userId(), r.idempotencyKey(), r.outcome().name(), r.detail()))
+                .toList());
+    }
+}
@@ -0,0 +1,19 @@
+package com.d3rrick.ledgercore.infrastructure.web.response;
+
+import com.d3rrick.ledgercore.domain.model.LedgerEntry;
+
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+public record LedgerEntryResponse(long id, BigDecimal amountDelta, String entryType, UUID idempotencyKey, OffsetDateTime createdAt) {
+    public static LedgerEntryResponse fromEntry(LedgerEntry entry) {
+        return new LedgerEntryResponse(
+                entry.id(),
+                entry.amountDelta().amount(),
+                entry.entryType(),
+                entry.idempotencyKey(),
+                entry.createdAt()
+        );
+    }
+}
@@ -0,0 +1,21 @@
+package com.d3rrick.ledgercore.infrastructure.web.response;
+
+import com.d3rrick.ledgercore.application.service.LoanImportReport;
+
+import java.util.List;
+
+public record LoanImportResponse(long rowsRead, long imported, long rejected, double rowsPerSecond, List<Rejection> rejections) {
+
+    public record Rejection(long line, String reason) {}
+
+    public static LoanImportResponse fromReport(LoanImportReport report) {
+        return new LoanImportResponse(
+                report.rowsRead(),
+                report.imported(),
+                report.rejected(),
+                report.rowsPerSecond(),
+                report.rejections().stream()
+                        .map(r -> new Rejection(r.lineNumber(), r.reason()))
+                        .toList());
+    }
+}
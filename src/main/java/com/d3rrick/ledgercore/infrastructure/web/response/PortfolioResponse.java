@@ -0,0 +1,23 @@
+package com.d3rrick.ledgercore.infrastructure.web.response;
+
+import com.d3rrick.ledgercore.application.port.PortfolioTotal;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+public record PortfolioResponse(List<StatusTotal> statuses, Instant asOf) {
+
+    public record StatusTotal(String status, long loans, BigDecimal outstanding) {
+    }
+
+    public static PortfolioResponse fromTotals(Collection<PortfolioTotal> totals, Instant asOf) {
+        return new PortfolioResponse(
+                totals.stream()
+                        .map(total -> new StatusTotal(total.status().name(), total.loans(), total.outstanding().amount()))
+                        .toList(),
+                asOf
+        );
+    }
+}
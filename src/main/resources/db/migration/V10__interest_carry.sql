@@ -0,0 +1,8 @@
+-- Interest earned but not yet posted: the sub-cent remainder of each day's accrual, carried into the next day so
+-- rounding to the cent never accumulates. Written in the same transaction as the day's entries; accrued_through
+-- also marks loans whose day posted no whole cent, which leave no entry behind to find by idempotency key.
+CREATE TABLE interest_carry (
+  user_id UUID PRIMARY KEY,
+  carry NUMERIC(19, 10) NOT NULL,
+  accrued_through DATE NOT NULL
+);
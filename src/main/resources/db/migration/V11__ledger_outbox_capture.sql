@@ -0,0 +1,20 @@
+-- Whether ledger writes are queued for the outbox relay at all. A deployment-wide switch owned by the application:
+-- every node writes ledger.outbox.capture here at startup (see OutboxCapture). Off, the trigger does one lookup in
+-- this single-row table and nothing else, so deployments that never publish neither pay for the outbox nor grow it.
+CREATE TABLE ledger_outbox_setting (
+  id BOOLEAN PRIMARY KEY DEFAULT TRUE CHECK (id),
+  capture BOOLEAN NOT NULL
+);
+
+INSERT INTO ledger_outbox_setting (capture) VALUES (FALSE);
+
+CREATE OR REPLACE FUNCTION enqueue_ledger_outbox() RETURNS TRIGGER AS $$
+BEGIN
+  IF (SELECT capture FROM ledger_outbox_setting) THEN
+    INSERT INTO ledger_outbox (entry_id, shard, user_id, amount_delta, entry_type, idempotency_key, created_at)
+    VALUES (NEW.id, ((hashtext(NEW.user_id::text) % 16) + 16) % 16, NEW.user_id, NEW.amount_delta, NEW.entry_type,
+            NEW.idempotency_key, NEW.created_at);
+  END IF;
+  RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
@@ -0,0 +1,69 @@
+-- ledger_entry becomes a RANGE(created_at) partitioned table with monthly partitions.
+-- LedgerPartitionManager keeps partitions created ahead of time and applies the retention policy.
+
+-- Partition bounds and names are computed in UTC regardless of the server default
+SET LOCAL TIME ZONE 'UTC';
+
+-- Unique indexes on a partitioned table must contain the partition key, so idempotency keys
+-- get their own global registry. A row trigger claims the key before each entry is written.
+CREATE TABLE ledger_idempotency_key (
+  idempotency_key UUID PRIMARY KEY,
+  created_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+ALTER TABLE ledger_entry RENAME TO ledger_entry_unpartitioned;
+ALTER SEQUENCE ledger_entry_id_seq OWNED BY NONE;
+
+CREATE TABLE ledger_entry (
+  id BIGINT NOT NULL DEFAULT nextval('ledger_entry_id_seq'),
+  user_id UUID NOT NULL REFERENCES loan(user_id),
+  amount_delta NUMERIC(19, 2) NOT NULL,
+  entry_type VARCHAR(50) NOT NULL,
+  idempotency_key UUID NOT NULL,
+  created_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP,
+  PRIMARY KEY (id, created_at)
+) PARTITION BY RANGE (created_at);
+
+ALTER SEQUENCE ledger_entry_id_seq OWNED BY ledger_entry.id;
+
+CREATE INDEX idx_ledger_entry_user_created ON ledger_entry (user_id, created_at);
+
+-- Catches rows outside every monthly partition; the partition manager keeps it empty in practice
+CREATE TABLE ledger_entry_default PARTITION OF ledger_entry DEFAULT;
+
+-- Monthly partitions (UTC) covering existing rows through three months ahead
+DO $$
+DECLARE
+  month_start TIMESTAMPTZ := date_trunc('month',
+      COALESCE((SELECT min(created_at) FROM ledger_entry_unpartitioned), CURRENT_TIMESTAMP) AT TIME ZONE 'UTC') AT TIME ZONE 'UTC';
+  last_start TIMESTAMPTZ := date_trunc('month', CURRENT_TIMESTAMP AT TIME ZONE 'UTC') AT TIME ZONE 'UTC' + INTERVAL '3 months';
+BEGIN
+  WHILE month_start <= last_start LOOP
+    EXECUTE format('CREATE TABLE %I PARTITION OF ledger_entry FOR VALUES FROM (%L) TO (%L)',
+                   'ledger_entry_p' || to_char(month_start AT TIME ZONE 'UTC', 'YYYY_MM'),
+                   month_start, month_start + INTERVAL '1 month');
+    month_start := month_start + INTERVAL '1 month';
+  END LOOP;
+END $$;
+
+INSERT INTO ledger_idempotency_key (idempotency_key, created_at)
+SELECT idempotency_key, COALESCE(created_at, CURRENT_TIMESTAMP) FROM ledger_entry_unpartitioned;
+
+INSERT INTO ledger_entry (id, user_id, amount_delta, entry_type, idempotency_key, created_at)
+SELECT id, user_id, amount_delta, entry_type, idempotency_key, COALESCE(created_at, CURRENT_TIMESTAMP)
+FROM ledger_entry_unpartitioned;
+
+DROP TABLE ledger_entry_unpartitioned;
+
+-- A duplicate raises unique_violation on ledger_idempotency_key_pkey, which reaches callers as the same
+-- DuplicateKeyException the old global unique index produced.
+CREATE FUNCTION claim_ledger_idempotency_key() RETURNS TRIGGER AS $$
+BEGIN
+  INSERT INTO ledger_idempotency_key (idempotency_key, created_at) VALUES (NEW.idempotency_key, NEW.created_at);
+  RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_ledger_entry_idempotency
+  BEFORE INSERT ON ledger_entry
+  FOR EACH ROW EXECUTE FUNCTION claim_ledger_idempotency_key();
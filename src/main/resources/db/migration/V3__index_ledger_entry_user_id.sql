@@ -0,0 +1,3 @@
+-- Keyset pagination of a loan's history: WHERE user_id = ? AND id > ? ORDER BY id LIMIT ?
+-- Each partition gets its own (user_id, id) index; the planner merge-appends them in id order.
+CREATE INDEX idx_ledger_entry_user_id_id ON ledger_entry (user_id, id);
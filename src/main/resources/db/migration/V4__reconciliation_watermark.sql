@@ -0,0 +1,7 @@
+-- Incremental reconciliation rechecks loans whose snapshot changed since the last completed run
+CREATE INDEX idx_loan_updated_at ON loan (updated_at);
+
+CREATE TABLE reconciliation_watermark (
+  name VARCHAR(100) PRIMARY KEY,
+  watermark TIMESTAMP WITH TIME ZONE NOT NULL
+);
@@ -0,0 +1,11 @@
+-- Checkpoints of a loan's state as of one of its entries, so a rebuild from ledger_entry replays only the tail
+CREATE TABLE loan_snapshot (
+  user_id UUID NOT NULL,
+  last_entry_id BIGINT NOT NULL,
+  principal_amount NUMERIC(19, 2) NOT NULL,
+  current_balance NUMERIC(19, 2) NOT NULL,
+  status VARCHAR(50) NOT NULL,
+  version BIGINT NOT NULL,
+  created_at TIMESTAMP WITH TIME ZONE DEFAULT CURRENT_TIMESTAMP,
+  PRIMARY KEY (user_id, last_entry_id)
+);
@@ -0,0 +1,32 @@
+-- Transactional outbox: the INSERT that writes a ledger entry also queues it for publishing, on every write path
+CREATE TABLE ledger_outbox (
+  entry_id BIGINT PRIMARY KEY,
+  shard SMALLINT NOT NULL,
+  user_id UUID NOT NULL,
+  amount_delta NUMERIC(19, 2) NOT NULL,
+  entry_type VARCHAR(50) NOT NULL,
+  idempotency_key UUID NOT NULL,
+  created_at TIMESTAMP WITH TIME ZONE NOT NULL
+);
+
+CREATE INDEX idx_ledger_outbox_shard_entry ON ledger_outbox (shard, entry_id);
+
+-- A relay claims a whole shard with FOR UPDATE SKIP LOCKED, so nodes share the work and a loan's events stay in order
+CREATE TABLE ledger_outbox_shard (
+  shard SMALLINT PRIMARY KEY
+);
+
+INSERT INTO ledger_outbox_shard (shard) SELECT generate_series(0, 15);
+
+CREATE FUNCTION enqueue_ledger_outbox() RETURNS TRIGGER AS $$
+BEGIN
+  INSERT INTO ledger_outbox (entry_id, shard, user_id, amount_delta, entry_type, idempotency_key, created_at)
+  VALUES (NEW.id, ((hashtext(NEW.user_id::text) % 16) + 16) % 16, NEW.user_id, NEW.amount_delta, NEW.entry_type,
+          NEW.idempotency_key, NEW.created_at);
+  RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_ledger_entry_outbox
+  AFTER INSERT ON ledger_entry
+  FOR EACH ROW EXECUTE FUNCTION enqueue_ledger_outbox();
@@ -0,0 +1,6 @@
+-- Keyset walk of one status: WHERE status = ? AND user_id > ? ORDER BY user_id LIMIT ?
+-- One partial index per status: each holds only its own loans, and scanning it needs no status filter or sort.
+CREATE INDEX idx_loan_pending_user_id ON loan (user_id) WHERE status = 'PENDING';
+CREATE INDEX idx_loan_active_user_id ON loan (user_id) WHERE status = 'ACTIVE';
+CREATE INDEX idx_loan_closed_user_id ON loan (user_id) WHERE status = 'CLOSED';
+CREATE INDEX idx_loan_defaulted_user_id ON loan (user_id) WHERE status = 'DEFAULTED';
@@ -0,0 +1,70 @@
+-- Live per-status loan count and outstanding balance. Statement-level triggers on loan fold each statement's rows
+-- into one delta per status, so every write path (single, batch, COPY import, repair) keeps the totals current.
+-- Deltas land on the shard of the writing backend: concurrent transactions on different connections rarely wait
+-- for the same counter row, and readers sum at most 64 rows per status.
+CREATE TABLE portfolio_counter (
+  status VARCHAR(50) NOT NULL,
+  shard SMALLINT NOT NULL,
+  loan_count BIGINT NOT NULL,
+  outstanding NUMERIC(21, 2) NOT NULL,
+  PRIMARY KEY (status, shard)
+);
+
+CREATE FUNCTION apply_portfolio_delta() RETURNS TRIGGER AS $$
+BEGIN
+  -- Statuses are upserted in a fixed order so two statements never take the same counter rows in opposite order
+  IF TG_OP = 'INSERT' THEN
+    INSERT INTO portfolio_counter AS c (status, shard, loan_count, outstanding)
+    SELECT status, pg_backend_pid() % 64, count(*), sum(current_balance)
+    FROM new_loans
+    GROUP BY status
+    ORDER BY status
+    ON CONFLICT (status, shard) DO UPDATE
+      SET loan_count = c.loan_count + EXCLUDED.loan_count, outstanding = c.outstanding + EXCLUDED.outstanding;
+  ELSIF TG_OP = 'DELETE' THEN
+    INSERT INTO portfolio_counter AS c (status, shard, loan_count, outstanding)
+    SELECT status, pg_backend_pid() % 64, -count(*), -sum(current_balance)
+    FROM old_loans
+    GROUP BY status
+    ORDER BY status
+    ON CONFLICT (status, shard) DO UPDATE
+      SET loan_count = c.loan_count + EXCLUDED.loan_count, outstanding = c.outstanding + EXCLUDED.outstanding;
+  ELSE
+    INSERT INTO portfolio_counter AS c (status, shard, loan_count, outstanding)
+    SELECT status, pg_backend_pid() % 64, sum(loans), sum(balance)
+    FROM (SELECT status, 1 AS loans, current_balance AS balance FROM new_loans
+          UNION ALL
+          SELECT status, -1, -current_balance FROM old_loans) d
+    GROUP BY status
+    -- version-only updates and balance moves that cancel out leave the counters alone
+    HAVING sum(loans) <> 0 OR sum(balance) <> 0
+    ORDER BY status
+    ON CONFLICT (status, shard) DO UPDATE
+      SET loan_count = c.loan_count + EXCLUDED.loan_count, outstanding = c.outstanding + EXCLUDED.outstanding;
+  END IF;
+  RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Blocks loan writes until the backfill below has seen every row the triggers will not
+LOCK TABLE loan IN SHARE ROW EXCLUSIVE MODE;
+
+CREATE TRIGGER trg_loan_portfolio_insert
+  AFTER INSERT ON loan
+  REFERENCING NEW TABLE AS new_loans
+  FOR EACH STATEMENT EXECUTE FUNCTION apply_portfolio_delta();
+
+CREATE TRIGGER trg_loan_portfolio_update
+  AFTER UPDATE ON loan
+  REFERENCING OLD TABLE AS old_loans NEW TABLE AS new_loans
+  FOR EACH STATEMENT EXECUTE FUNCTION apply_portfolio_delta();
+
+CREATE TRIGGER trg_loan_portfolio_delete
+  AFTER DELETE ON loan
+  REFERENCING OLD TABLE AS old_loans
+  FOR EACH STATEMENT EXECUTE FUNCTION apply_portfolio_delta();
+
+INSERT INTO portfolio_counter (status, shard, loan_count, outstanding)
+SELECT status, 0, count(*), sum(current_balance)
+FROM loan
+GROUP BY status;
@@ -0,0 +1,10 @@
+-- Progress of resumable bulk jobs: one row per (run, keyspace range), written in the same transaction as the
+-- chunk it records, so a restarted run resumes exactly after the last committed chunk
+CREATE TABLE bulk_job_checkpoint (
+  run VARCHAR(100) NOT NULL,
+  range_index INT NOT NULL,
+  last_user_id UUID,
+  completed BOOLEAN NOT NULL DEFAULT FALSE,
+  updated_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP,
+  PRIMARY KEY (run, range_index)
+);
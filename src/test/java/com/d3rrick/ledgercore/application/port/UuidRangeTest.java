@@ -0,0 +1,32 @@
+package com.d3rrick.ledgercore.application.port;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UuidRangeTest {
+
+    @Test
+    @DisplayName("Should split the keyspace into contiguous, open-ended ranges")
+    void splitIsContiguous() {
+        var ranges = UuidRange.split(4);
+
+        assertThat(ranges).hasSize(4);
+        assertThat(ranges.getFirst().from()).isNull();
+        assertThat(ranges.getLast().to()).isNull();
+        for (int i = 1; i < ranges.size(); i++) {
+            assertThat(ranges.get(i).from()).isEqualTo(ranges.get(i - 1).to());
+        }
+        // Boundaries follow PostgreSQL's unsigned ordering: the second one sits exactly at the top bit
+        assertThat(ranges.get(2).from()).isEqualTo(UUID.fromString("80000000-0000-0000-0000-000000000000"));
+    }
+
+    @Test
+    @DisplayName("Should return the whole keyspace as a single range")
+    void singleRange() {
+        assertThat(UuidRange.split(1)).containsExactly(UuidRange.all());
+    }
+}
@@ -0,0 +1,69 @@
+package com.d3rrick.ledgercore.application.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ConcurrentModificationException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ConflictRetryExecutorTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private ConflictRetryExecutor executor(int maxAttempts, Duration backoff, Duration deadline) {
+        var properties = new RepaymentProperties(
+                RepaymentProperties.Mode.STANDARD,
+                new RepaymentProperties.Retry(maxAttempts, backoff, backoff, deadline));
+        return new ConflictRetryExecutor(properties, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("Should count retries and return the first successful attempt")
+    void retriesUntilSuccess() {
+        var calls = new AtomicInteger();
+
+        var result = executor(5, Duration.ZERO, Duration.ofSeconds(1)).execute(() -> {
+            if (calls.incrementAndGet() < 3) {
+                throw new ConcurrentModificationException("stale");
+            }
+            return "ok";
+        });
+
+        assertThat(result).isEqualTo("ok");
+        assertThat(meterRegistry.counter("ledger.repayment.conflict.retries").count()).isEqualTo(2.0);
+        assertThat(meterRegistry.counter("ledger.repayment.conflict.exhausted").count()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should give up before the backoff would overrun the deadline")
+    void stopsAtDeadline() {
+        var calls = new AtomicInteger();
+        var executor = executor(10, Duration.ofMillis(5), Duration.ZERO);
+
+        assertThrows(ConcurrentModificationException.class, () -> executor.run(() -> {
+            calls.incrementAndGet();
+            throw new ConcurrentModificationException("stale");
+        }));
+
+        assertThat(calls.get()).isEqualTo(1);
+        assertThat(meterRegistry.counter("ledger.repayment.conflict.exhausted").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Should not retry failures other than optimistic-lock conflicts")
+    void doesNotRetryOtherFailures() {
+        var calls = new AtomicInteger();
+
+        assertThrows(IllegalStateException.class, () -> executor(3, Duration.ZERO, Duration.ofSeconds(1)).run(() -> {
+            calls.incrementAndGet();
+            throw new IllegalStateException("boom");
+        }));
+
+        assertThat(calls.get()).isEqualTo(1);
+    }
+}
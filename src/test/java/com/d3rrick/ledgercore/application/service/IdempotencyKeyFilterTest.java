@@ -0,0 +1,59 @@
+package com.d3rrick.ledgercore.application.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class IdempotencyKeyFilterTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private IdempotencyKeyFilter filter(boolean enabled, int expectedKeys, int confirmedCapacity) {
+        return new IdempotencyKeyFilter(new IdempotencyProperties(enabled, expectedKeys, 0.01, confirmedCapacity), meterRegistry);
+    }
+
+    @Test
+    @DisplayName("Should report a confirmed key as a duplicate and a fresh key as new")
+    void confirmedKeysAreDuplicates() {
+        var filter = filter(true, 1_000, 1_000);
+        var key = UUID.randomUUID();
+
+        assertThat(filter.isConfirmedDuplicate(key)).isFalse();
+        filter.confirm(key);
+
+        assertThat(filter.isConfirmedDuplicate(key)).isTrue();
+        assertThat(filter.isConfirmedDuplicate(UUID.randomUUID())).isFalse();
+        assertThat(meterRegistry.get("ledger.idempotency.prefilter").tag("result", "duplicate").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Should fall through to the database once a key has aged out of memory")
+    void evictedKeysFallThrough() {
+        var filter = filter(true, 16, 4);
+        var keys = new ArrayList<UUID>();
+        for (int i = 0; i < 64; i++) {
+            var key = UUID.randomUUID();
+            filter.confirm(key);
+            keys.add(key);
+        }
+
+        assertThat(filter.isConfirmedDuplicate(keys.getFirst())).isFalse();
+        assertThat(filter.isConfirmedDuplicate(keys.getLast())).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should never claim a duplicate when the pre-filter is switched off")
+    void disabledFilterIsTransparent() {
+        var filter = filter(false, 1_000, 1_000);
+        var key = UUID.randomUUID();
+
+        filter.confirm(key);
+
+        assertThat(filter.isConfirmedDuplicate(key)).isFalse();
+    }
+}
@@ -0,0 +1,78 @@
+package com.d3rrick.ledgercore.application.service;
+
+import com.d3rrick.ledgercore.application.port.BulkLoanWriter;
+import com.d3rrick.ledgercore.application.port.LoanOrigination;
+import com.d3rrick.ledgercore.domain.model.LoanStatus;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class LoanImportServiceTest {
+
+    @Mock
+    private BulkLoanWriter bulkLoanWriter;
+
+    private LoanImportService service(int chunkSize) {
+        return new LoanImportService(bulkLoanWriter, new ImportProperties(chunkSize, 100));
+    }
+
+    private static LoanImportLine line(long number, UUID userId, String amount) {
+        return new LoanImportLine(number, userId.toString(), amount, UUID.randomUUID().toString());
+    }
+
+    @Test
+    @DisplayName("Should write valid rows as activated loans and report invalid ones by line")
+    @SuppressWarnings("unchecked")
+    void importsValidRowsAndRejectsTheRest() {
+        var valid = UUID.randomUUID();
+        when(bulkLoanWriter.originateAll(anyList())).thenReturn(Set.of());
+
+        var report = service(10).importLoans(Stream.of(
+                line(2, valid, "1500.00"),
+                line(3, UUID.randomUUID(), "0"),
+                new LoanImportLine(4, "not-a-uuid", "10.00", UUID.randomUUID().toString()),
+                new LoanImportLine(5, null, null, null)));
+
+        ArgumentCaptor<List<LoanOrigination>> written = ArgumentCaptor.forClass(List.class);
+        verify(bulkLoanWriter).originateAll(written.capture());
+        assertThat(written.getValue()).singleElement().satisfies(o -> {
+            assertThat(o.loan().userId()).isEqualTo(valid);
+            assertThat(o.loan().status()).isEqualTo(LoanStatus.ACTIVE);
+        });
+        assertThat(report.rowsRead()).isEqualTo(4);
+        assertThat(report.imported()).isEqualTo(1);
+        assertThat(report.rejections()).extracting(LoanImportReport.Rejection::lineNumber).containsExactly(3L, 4L, 5L);
+    }
+
+    @Test
+    @DisplayName("Should flush once per chunk and report rows the writer skipped as already existing")
+    void flushesPerChunk() {
+        var existing = UUID.randomUUID();
+        when(bulkLoanWriter.originateAll(anyList())).thenReturn(Set.of(existing), Set.of());
+
+        var report = service(2).importLoans(Stream.of(
+                line(1, existing, "10.00"),
+                line(2, UUID.randomUUID(), "10.00"),
+                line(3, UUID.randomUUID(), "10.00")));
+
+        verify(bulkLoanWriter, times(2)).originateAll(anyList());
+        assertThat(report.imported()).isEqualTo(2);
+        assertThat(report.rejections()).singleElement()
+                .satisfies(r -> assertThat(r.reason()).contains("already exists"));
+    }
+}
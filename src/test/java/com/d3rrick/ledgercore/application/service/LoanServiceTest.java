@@ -1,23 +1,35 @@
 package com.d3rrick.ledgercore.application.service;
 
 import com.d3rrick.ledgercore.application.port.LedgerRepository;
+import com.d3rrick.ledgercore.domain.exception.DuplicateTransactionException;
 import com.d3rrick.ledgercore.domain.exception.EntityNotFoundException;
+import com.d3rrick.ledgercore.domain.model.LoanAggregate;
 import com.d3rrick.ledgercore.domain.model.LoanStatus;
 import com.d3rrick.ledgercore.domain.model.Money;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ConcurrentModificationException;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -27,9 +39,23 @@ class LoanServiceTest {
     @Mock
     private LedgerRepository ledgerRepository;
 
-    @InjectMocks
+    @Mock
+    private LoanRebuildService loanRebuildService;
+
     private LoanService loanService;
 
+    @BeforeEach
+    void setUp() {
+        loanService = service(RepaymentProperties.Mode.STANDARD);
+    }
+
+    private LoanService service(RepaymentProperties.Mode mode) {
+        var properties = new RepaymentProperties(mode, new RepaymentProperties.Retry(3, Duration.ZERO, Duration.ZERO, Duration.ofSeconds(1)));
+        return new LoanService(ledgerRepository, properties, new ConflictRetryExecutor(properties, new SimpleMeterRegistry()), new InlineLoanCommandExecutor(),
+                new IdempotencyKeyFilter(new IdempotencyProperties(true, 1_000, 0.01, 1_000), new SimpleMeterRegistry()), loanRebuildService,
+                new LoanServiceMetrics(new SimpleMeterRegistry()));
+    }
+
     @Test
     @DisplayName("Should successfully originate and activate a loan")
     void testOriginateLoan() {
@@ -45,6 +71,22 @@ class LoanServiceTest {
         );
     }
 
+    @Test
+    @DisplayName("Should answer a retried repayment from memory once its key is known to be committed")
+    void testConfirmedDuplicateShortCircuits() {
+        var userId = UUID.randomUUID();
+        var key = UUID.randomUUID();
+        var loan = LoanAggregate.createNew(userId, new Money(new BigDecimal("100.00"))).activate();
+        when(ledgerRepository.findByUserId(userId)).thenReturn(Optional.of(loan));
+
+        loanService.processRepayment(userId, new Money(BigDecimal.TEN), key);
+
+        assertThrows(DuplicateTransactionException.class, () ->
+                loanService.processRepayment(userId, new Money(BigDecimal.TEN), key));
+        verify(ledgerRepository, times(1)).findByUserId(userId);
+        verify(ledgerRepository, times(1)).recordTransaction(any(), any(), any(), eq(key));
+    }
+
     @Test
     @DisplayName("Should throw EntityNotFoundException when loan does not exist")
     void testRepaymentLoanNotFound() {
@@ -55,4 +97,154 @@ class LoanServiceTest {
                 loanService.processRepayment(userId, new Money(BigDecimal.TEN), UUID.randomUUID())
         );
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Should delegate to the single-statement repository path when configured")
+    void testSingleStatementRepayment() {
+        var userId = UUID.randomUUID();
+        var key = UUID.randomUUID();
+        var amount = new Money(BigDecimal.TEN);
+        loanService = service(RepaymentProperties.Mode.SINGLE_STATEMENT);
+
+        loanService.processRepayment(userId, amount, key);
+
+        verify(ledgerRepository).recordRepayment(userId, amount, key);
+        verify(ledgerRepository, never()).findByUserId(userId);
+    }
+
+    @Test
+    @DisplayName("Should re-read the loan and retry when a repayment loses an optimistic-lock race")
+    void testRepaymentRetriesOnConflict() {
+        var userId = UUID.randomUUID();
+        var key = UUID.randomUUID();
+        var loan = LoanAggregate.createNew(userId, new Money(new BigDecimal("100.00"))).activate();
+        when(ledgerRepository.findByUserId(userId)).thenReturn(Optional.of(loan));
+        doThrow(new ConcurrentModificationException("stale"))
+                .doNothing()
+                .when(ledgerRepository).recordTransaction(any(), any(), eq("REPAYMENT"), eq(key));
+
+        loanService.processRepayment(userId, new Money(BigDecimal.TEN), key);
+
+        verify(ledgerRepository, times(2)).findByUserId(userId);
+        verify(ledgerRepository, times(2)).recordTransaction(any(), any(), eq("REPAYMENT"), eq(key));
+    }
+
+    @Test
+    @DisplayName("Should surface the conflict once retry attempts are exhausted")
+    void testRepaymentRetryExhausted() {
+        var userId = UUID.randomUUID();
+        var loan = LoanAggregate.createNew(userId, new Money(new BigDecimal("100.00"))).activate();
+        when(ledgerRepository.findByUserId(userId)).thenReturn(Optional.of(loan));
+        doThrow(new ConcurrentModificationException("stale"))
+                .when(ledgerRepository).recordTransaction(any(), any(), any(), any());
+
+        assertThrows(ConcurrentModificationException.class, () ->
+                loanService.processRepayment(userId, new Money(BigDecimal.TEN), UUID.randomUUID())
+        );
+        verify(ledgerRepository, times(3)).recordTransaction(any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Should report a separate outcome for every item of a repayment batch")
+    void testRepaymentBatchOutcomes() {
+        var active = LoanAggregate.createNew(UUID.randomUUID(), new Money(new BigDecimal("100.00"))).activate();
+        var contended = LoanAggregate.createNew(UUID.randomUUID(), new Money(new BigDecimal("100.00"))).activate();
+        var missing = UUID.randomUUID();
+        var usedKey = UUID.randomUUID();
+        var commands = List.of(
+                new RepaymentCommand(active.userId(), new Money(new BigDecimal("40.00")), UUID.randomUUID()),
+                new RepaymentCommand(active.userId(), new Money(new BigDecimal("70.00")), UUID.randomUUID()),
+                new RepaymentCommand(active.userId(), new Money(new BigDecimal("10.00")), usedKey),
+                new RepaymentCommand(missing, new Money(BigDecimal.TEN), UUID.randomUUID()),
+                new RepaymentCommand(contended.userId(), new Money(BigDecimal.TEN), UUID.randomUUID()));
+        when(ledgerRepository.findExistingIdempotencyKeys(any())).thenReturn(Set.of(usedKey));
+        when(ledgerRepository.findAllByUserIds(any())).thenReturn(Map.of(active.userId(), active, contended.userId(), contended));
+        when(ledgerRepository.recordTransactionBatch(any())).thenReturn(Set.of(contended.userId()));
+
+        var results = loanService.processRepaymentBatch(commands);
+
+        assertEquals(
+                List.of(RepaymentResult.Outcome.APPLIED, RepaymentResult.Outcome.REJECTED, RepaymentResult.Outcome.DUPLICATE,
+                        RepaymentResult.Outcome.NOT_FOUND, RepaymentResult.Outcome.CONFLICT),
+                results.stream().map(RepaymentResult::outcome).toList());
+        verify(ledgerRepository).recordTransactionBatch(argThat(updates -> updates.size() == 2
+                && updates.getFirst().loan().currentBalance().amount().compareTo(new BigDecimal("60.00")) == 0
+                && updates.getFirst().loan().version() == 1L
+                && updates.getFirst().postings().size() == 1));
+    }
+
+    @Test
+    @DisplayName("Should report a key claimed after the pre-check as a duplicate, not a conflict")
+    void testRepaymentBatchRacedKey() {
+        var loan = LoanAggregate.createNew(UUID.randomUUID(), new Money(new BigDecimal("100.00"))).activate();
+        var racedKey = UUID.randomUUID();
+        var commands = List.of(
+                new RepaymentCommand(loan.userId(), new Money(BigDecimal.TEN), racedKey),
+                new RepaymentCommand(loan.userId(), new Money(BigDecimal.TEN), UUID.randomUUID()));
+        when(ledgerRepository.findExistingIdempotencyKeys(any())).thenReturn(Set.of(), Set.of(racedKey));
+        when(ledgerRepository.findAllByUserIds(any())).thenReturn(Map.of(loan.userId(), loan));
+        when(ledgerRepository.recordTransactionBatch(any())).thenReturn(Set.of(loan.userId()));
+
+        var results = loanService.processRepaymentBatch(commands);
+
+        assertEquals(List.of(RepaymentResult.Outcome.DUPLICATE, RepaymentResult.Outcome.CONFLICT),
+                results.stream().map(RepaymentResult::outcome).toList());
+    }
+
+    @Test
+    @DisplayName("Should give a key repeated within a batch the outcome of the item that first posted it")
+    void testRepaymentBatchRepeatedKey() {
+        var contended = LoanAggregate.createNew(UUID.randomUUID(), new Money(new BigDecimal("100.00"))).activate();
+        var active = LoanAggregate.createNew(UUID.randomUUID(), new Money(new BigDecimal("100.00"))).activate();
+        var contendedKey = UUID.randomUUID();
+        var appliedKey = UUID.randomUUID();
+        var commands = List.of(
+                new RepaymentCommand(contended.userId(), new Money(BigDecimal.TEN), contendedKey),
+                new RepaymentCommand(contended.userId(), new Money(BigDecimal.TEN), contendedKey),
+                new RepaymentCommand(active.userId(), new Money(BigDecimal.TEN), appliedKey),
+                new RepaymentCommand(active.userId(), new Money(BigDecimal.TEN), appliedKey));
+        when(ledgerRepository.findExistingIdempotencyKeys(any())).thenReturn(Set.of());
+        when(ledgerRepository.findAllByUserIds(any())).thenReturn(Map.of(contended.userId(), contended, active.userId(), active));
+        when(ledgerRepository.recordTransactionBatch(any())).thenReturn(Set.of(contended.userId()));
+
+        var results = loanService.processRepaymentBatch(commands);
+
+        assertEquals(
+                List.of(RepaymentResult.Outcome.CONFLICT, RepaymentResult.Outcome.CONFLICT,
+                        RepaymentResult.Outcome.APPLIED, RepaymentResult.Outcome.DUPLICATE),
+                results.stream().map(RepaymentResult::outcome).toList());
+        verify(ledgerRepository).recordTransactionBatch(argThat(updates -> updates.stream()
+                .allMatch(update -> update.postings().size() == 1)));
+    }
+
+    @Test
+    @DisplayName("Should not remember a batch key as committed when its write conflicted")
+    void testRepaymentBatchConfirmsOnlyCommittedKeys() {
+        var loan = LoanAggregate.createNew(UUID.randomUUID(), new Money(new BigDecimal("100.00"))).activate();
+        var key = UUID.randomUUID();
+        var commands = List.of(
+                new RepaymentCommand(loan.userId(), new Money(BigDecimal.TEN), key),
+                new RepaymentCommand(loan.userId(), new Money(BigDecimal.TEN), key));
+        when(ledgerRepository.findExistingIdempotencyKeys(any())).thenReturn(Set.of());
+        when(ledgerRepository.findAllByUserIds(any())).thenReturn(Map.of(loan.userId(), loan));
+        when(ledgerRepository.recordTransactionBatch(any())).thenReturn(Set.of(loan.userId()));
+        when(ledgerRepository.findByUserId(loan.userId())).thenReturn(Optional.of(loan));
+
+        loanService.processRepaymentBatch(commands);
+        loanService.processRepayment(loan.userId(), new Money(BigDecimal.TEN), key);
+
+        verify(ledgerRepository).recordTransaction(any(), any(), eq("REPAYMENT"), eq(key));
+    }
+
+    @Test
+    @DisplayName("Should read loans from a ledger replay when the ledger is the source of truth")
+    void testLedgerReadSource() {
+        var userId = UUID.randomUUID();
+        var replayed = LoanAggregate.createNew(userId, new Money(new BigDecimal("100.00"))).activate();
+        when(loanRebuildService.ledgerIsSourceOfTruth()).thenReturn(true);
+        when(loanRebuildService.rebuild(userId)).thenReturn(Optional.of(replayed));
+
+        assertEquals(Optional.of(replayed), loanService.getLoanDetails(userId));
+        verify(ledgerRepository, never()).findByUserId(any());
+    }
+}
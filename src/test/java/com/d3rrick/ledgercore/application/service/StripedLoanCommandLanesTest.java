@@ -0,0 +1,84 @@
+package com.d3rrick.ledgercore.application.service;
+
+import com.d3rrick.ledgercore.domain.exception.DomainException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class StripedLoanCommandLanesTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final StripedLoanCommandLanes lanes =
+            new StripedLoanCommandLanes(new LaneProperties(true, 4, 128, Duration.ofSeconds(5)), meterRegistry);
+
+    @AfterEach
+    void tearDown() {
+        lanes.close();
+    }
+
+    @Test
+    @DisplayName("Should never run two commands for the same loan at the same time")
+    void serializesCommandsPerLoan() {
+        var userId = UUID.randomUUID();
+        var inFlight = new AtomicInteger();
+        var maxInFlight = new AtomicInteger();
+        var executed = new AtomicInteger();
+
+        try (var callers = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < 100; i++) {
+                callers.submit(() -> lanes.run(userId, () -> {
+                    maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+                    Thread.onSpinWait();
+                    inFlight.decrementAndGet();
+                    executed.incrementAndGet();
+                }));
+            }
+        }
+
+        assertThat(executed.get()).isEqualTo(100);
+        assertThat(maxInFlight.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should refuse a command submitted from inside a transaction it could not join")
+    void rejectsCallerTransaction() {
+        var executed = new AtomicInteger();
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        try {
+            assertThrows(IllegalStateException.class, () -> lanes.run(UUID.randomUUID(), executed::incrementAndGet));
+        } finally {
+            TransactionSynchronizationManager.setActualTransactionActive(false);
+        }
+        assertThat(executed.get()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should hand the command result and failures back to the caller")
+    void propagatesOutcome() {
+        var userId = UUID.randomUUID();
+
+        assertThat(lanes.execute(userId, () -> "done")).isEqualTo("done");
+        assertThrows(DomainException.class, () -> lanes.run(userId, () -> {
+            throw new DomainException("rejected");
+        }));
+    }
+
+    @Test
+    @DisplayName("Should publish queue depth and busy time for every lane")
+    void registersLaneMetrics() {
+        lanes.run(UUID.randomUUID(), () -> { });
+
+        assertThat(meterRegistry.find("ledger.lanes.queue.depth").gauges()).hasSize(4);
+        assertThat(meterRegistry.find("ledger.lanes.busy").functionCounters()).hasSize(4);
+    }
+}
@@ -0,0 +1,75 @@
+package com.d3rrick.ledgercore.domain.model;
+
+import com.d3rrick.ledgercore.domain.exception.DomainException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class InterestRateTest {
+    private final Money balance = new Money(new BigDecimal("1000.00"));
+
+    @Test
+    @DisplayName("Should accrue one day of interest under each day-count convention")
+    void testDailyInterest() {
+        var day = LocalDate.of(2024, 3, 15);
+
+        assertThat(new InterestRate(new BigDecimal("0.12"), DayCountConvention.ACT_360).accrue(balance, BigDecimal.ZERO, day).interest().amount())
+                .isEqualByComparingTo("0.33");
+        assertThat(new InterestRate(new BigDecimal("0.10"), DayCountConvention.ACT_365_FIXED).accrue(balance, BigDecimal.ZERO, day).interest().amount())
+                .isEqualByComparingTo("0.27");
+        assertThat(new InterestRate(new BigDecimal("0.3660"), DayCountConvention.ACT_ACT_ISDA).accrue(balance, BigDecimal.ZERO, day).interest().amount())
+                .isEqualByComparingTo("1.00");
+    }
+
+    @Test
+    @DisplayName("Should carry the sub-cent remainder so small balances still accrue and posting never falls behind")
+    void testCarry() {
+        var rate = new InterestRate(new BigDecimal("0.12"), DayCountConvention.ACT_365_FIXED);
+        var small = new Money(new BigDecimal("10.00"));
+        var carry = BigDecimal.ZERO;
+        var posted = Money.ZERO;
+
+        for (var day = LocalDate.of(2024, 3, 1); day.isBefore(LocalDate.of(2024, 3, 31)); day = day.plusDays(1)) {
+            var accrual = rate.accrue(small, carry, day);
+            posted = posted.add(accrual.interest());
+            carry = accrual.carry();
+            assertThat(carry.abs()).isLessThanOrEqualTo(new BigDecimal("0.005"));
+        }
+
+        // 30 days of 10.00 * 0.12 / 365 = 0.0986...
+        assertThat(posted.amount()).isEqualByComparingTo("0.10");
+        assertThat(posted.amount().add(carry).doubleValue()).isCloseTo(10.00 * 0.12 * 30 / 365, within(1e-9));
+    }
+
+    @Test
+    @DisplayName("30/360 should count every month as 30 days, whatever its length")
+    void testThirty360() {
+        var convention = DayCountConvention.THIRTY_360;
+
+        assertThat(convention.yearFraction(LocalDate.of(2023, 1, 30), LocalDate.of(2023, 1, 31))).isEqualByComparingTo("0");
+        assertThat(convention.yearFraction(LocalDate.of(2023, 2, 28), LocalDate.of(2023, 3, 1)))
+                .isEqualByComparingTo(new BigDecimal(3).divide(new BigDecimal(360), MathContext.DECIMAL64));
+        assertThat(convention.yearFraction(LocalDate.of(2023, 1, 1), LocalDate.of(2024, 1, 1))).isEqualByComparingTo("1");
+    }
+
+    @Test
+    @DisplayName("Actual/actual should weigh days by the length of the year they fall in")
+    void testActActAcrossYears() {
+        var fraction = DayCountConvention.ACT_ACT_ISDA.yearFraction(LocalDate.of(2023, 12, 31), LocalDate.of(2024, 1, 2));
+
+        assertThat(fraction.doubleValue()).isCloseTo(1.0 / 365 + 1.0 / 366, within(1e-12));
+    }
+
+    @Test
+    @DisplayName("Should refuse a negative rate")
+    void testNegativeRate() {
+        assertThrows(DomainException.class, () -> new InterestRate(new BigDecimal("-0.01"), DayCountConvention.ACT_360));
+    }
+}
@@ -116,4 +116,18 @@ class LoanAggregateTest {
         assertThat(updated.status()).isEqualTo(LoanStatus.CLOSED);
         assertThat(updated.currentBalance().amount()).isEqualByComparingTo("0.00");
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Should add accrued interest to the balance of an ACTIVE loan only")
+    void testInterestAccrual() {
+        var loan = LoanAggregate.createNew(userId, thousand).activate();
+        var interest = new Money(new BigDecimal("0.33"));
+
+        var accrued = loan.accrueInterest(interest);
+
+        assertThat(accrued.currentBalance().amount()).isEqualByComparingTo("1000.33");
+        assertThat(accrued.version()).isEqualTo(loan.version());
+        assertThrows(DomainException.class, () -> accrued.markAsDefaulted().accrueInterest(interest));
+        assertThrows(DomainException.class, () -> loan.accrueInterest(Money.ZERO));
+    }
+}
@@ -0,0 +1,60 @@
+package com.d3rrick.ledgercore.domain.model;
+
+import com.d3rrick.ledgercore.domain.exception.DomainException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class LoanHistoryTest {
+    private final UUID userId = UUID.randomUUID();
+    private long nextId = 1;
+
+    private LedgerEntry entry(String type, String delta) {
+        return new LedgerEntry(nextId++, userId, new Money(new BigDecimal(delta)), type, UUID.randomUUID(), OffsetDateTime.now());
+    }
+
+    @Test
+    @DisplayName("Should replay a history into the state and version the write path produced")
+    void testReplay() {
+        var loan = LoanHistory.apply(null, entry("DISBURSEMENT", "100.00"));
+        loan = LoanHistory.apply(loan, entry("REPAYMENT", "-30.00"));
+        loan = LoanHistory.apply(loan, entry("DEFAULT", "0.00"));
+        loan = LoanHistory.apply(loan, entry("REPAYMENT", "-70.00"));
+
+        assertThat(loan.currentBalance().amount()).isEqualByComparingTo("0.00");
+        assertThat(loan.principalAmount().amount()).isEqualByComparingTo("100.00");
+        assertThat(loan.status()).isEqualTo(LoanStatus.CLOSED);
+        assertThat(loan.version()).isEqualTo(4L);
+    }
+
+    @Test
+    @DisplayName("Should refuse a history that does not open with a disbursement")
+    void testMissingDisbursement() {
+        assertThrows(DomainException.class, () -> LoanHistory.apply(null, entry("REPAYMENT", "-10.00")));
+    }
+
+    @Test
+    @DisplayName("Should refuse an entry the domain would have rejected")
+    void testInvalidTransition() {
+        var loan = LoanHistory.apply(null, entry("DISBURSEMENT", "100.00"));
+
+        assertThrows(DomainException.class, () -> LoanHistory.apply(loan, entry("REPAYMENT", "-150.00")));
+    }
+
+    @Test
+    @DisplayName("Should replay accrued interest onto the balance")
+    void testInterestAccrual() {
+        var loan = LoanHistory.apply(null, entry("DISBURSEMENT", "100.00"));
+        loan = LoanHistory.apply(loan, entry("INTEREST_ACCRUAL", "0.03"));
+        loan = LoanHistory.apply(loan, entry("REPAYMENT", "-100.03"));
+
+        assertThat(loan.status()).isEqualTo(LoanStatus.CLOSED);
+        assertThat(loan.version()).isEqualTo(3L);
+    }
+}
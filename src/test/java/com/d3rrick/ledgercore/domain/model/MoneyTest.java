@@ -0,0 +1,44 @@
+package com.d3rrick.ledgercore.domain.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class MoneyTest {
+
+    @Test
+    @DisplayName("Should round to cents once, at the BigDecimal boundary")
+    void testBoundaryConversion() {
+        var money = new Money(new BigDecimal("10.005"));
+
+        assertThat(money.minorUnits()).isEqualTo(1001L);
+        assertThat(money.amount()).isEqualTo(new BigDecimal("10.01"));
+        assertThat(new Money(BigDecimal.TEN)).isEqualTo(new Money(new BigDecimal("10.00")));
+    }
+
+    @Test
+    @DisplayName("Should subtract, negate and compare in minor units")
+    void testArithmetic() {
+        var balance = new Money(new BigDecimal("100.00"));
+        var payment = new Money(new BigDecimal("0.01"));
+
+        assertThat(balance.subtract(payment).amount()).isEqualTo(new BigDecimal("99.99"));
+        assertThat(payment.negate().minorUnits()).isEqualTo(-1L);
+        assertThat(balance.subtract(balance).isZero()).isTrue();
+        assertThat(payment.compareTo(balance)).isNegative();
+    }
+
+    @Test
+    @DisplayName("Should fail instead of wrapping on overflow")
+    void testOverflow() {
+        var max = new Money(Long.MAX_VALUE);
+
+        assertThrows(ArithmeticException.class, () -> max.add(new Money(1L)));
+        assertThrows(ArithmeticException.class, () -> new Money(Long.MIN_VALUE).negate());
+        assertThrows(ArithmeticException.class, () -> new Money(new BigDecimal("1e30")));
+    }
+}
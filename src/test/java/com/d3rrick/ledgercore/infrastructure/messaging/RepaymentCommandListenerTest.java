@@ -0,0 +1,92 @@
+package com.d3rrick.ledgercore.infrastructure.messaging;
+
+import com.d3rrick.ledgercore.application.service.LoanService;
+import com.d3rrick.ledgercore.application.service.RepaymentCommand;
+import com.d3rrick.ledgercore.application.service.RepaymentResult;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class RepaymentCommandListenerTest {
+
+    @Mock
+    private LoanService loanService;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private RepaymentCommandListener listener() {
+        return new RepaymentCommandListener(loanService, JsonMapper.builder().build(),
+                new IngestionProperties(true, "loan.repayments", 1, 2, Duration.ZERO), meterRegistry);
+    }
+
+    private static ConsumerRecord<String, String> record(long offset, UUID userId, String value) {
+        return new ConsumerRecord<>("loan.repayments", 0, offset, userId.toString(), value);
+    }
+
+    private static String repayment(UUID userId, String amount, UUID key) {
+        return "{\"userId\":\"" + userId + "\",\"amount\":" + amount + ",\"idempotencyKey\":\"" + key + "\"}";
+    }
+
+    private static RepaymentResult result(RepaymentCommand command, RepaymentResult.Outcome outcome) {
+        return new RepaymentResult(command.userId(), command.idempotencyKey(), outcome, null);
+    }
+
+    @Test
+    @DisplayName("Should skip malformed messages and re-apply only the conflicted loan's commands")
+    void retriesConflictsAndSkipsMalformed() {
+        var contended = UUID.randomUUID();
+        var other = UUID.randomUUID();
+        var records = List.of(
+                record(0, contended, repayment(contended, "10.00", UUID.randomUUID())),
+                record(1, other, "not json"),
+                record(2, other, repayment(other, "5.00", UUID.randomUUID())),
+                record(3, contended, repayment(contended, "20.00", UUID.randomUUID())));
+        when(loanService.processRepaymentBatch(any())).thenAnswer(invocation -> {
+            List<RepaymentCommand> commands = invocation.getArgument(0);
+            var firstAttempt = commands.size() == 3;
+            return commands.stream()
+                    .map(c -> result(c, firstAttempt && c.userId().equals(contended) ? RepaymentResult.Outcome.CONFLICT : RepaymentResult.Outcome.APPLIED))
+                    .toList();
+        });
+
+        listener().onBatch(records);
+
+        verify(loanService).processRepaymentBatch(argThat(commands -> commands.size() == 2
+                && commands.stream().allMatch(c -> c.userId().equals(contended))
+                && commands.getFirst().amount().amount().compareTo(commands.getLast().amount().amount()) < 0));
+        assertThat(meterRegistry.get("ledger.ingestion.malformed").counter().count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("ledger.ingestion.repayments").tag("outcome", "APPLIED").counter().count()).isEqualTo(3.0);
+    }
+
+    @Test
+    @DisplayName("Should fail the batch for redelivery when conflicts persist")
+    void failsPersistentConflicts() {
+        var userId = UUID.randomUUID();
+        when(loanService.processRepaymentBatch(any())).thenAnswer(invocation -> {
+            List<RepaymentCommand> commands = invocation.getArgument(0);
+            return commands.stream().map(c -> result(c, RepaymentResult.Outcome.CONFLICT)).toList();
+        });
+
+        assertThrows(IllegalStateException.class, () ->
+                listener().onBatch(List.of(record(0, userId, repayment(userId, "10.00", UUID.randomUUID())))));
+        verify(loanService, times(3)).processRepaymentBatch(any());
+    }
+}
@@ -0,0 +1,99 @@
+package com.d3rrick.ledgercore.infrastructure.persistence;
+
+import com.d3rrick.ledgercore.application.port.LedgerRepository;
+import com.d3rrick.ledgercore.domain.model.LoanAggregate;
+import com.d3rrick.ledgercore.domain.model.Money;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ConcurrentModificationException;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+@ExtendWith(MockitoExtension.class)
+class CachingLedgerRepositoryTest {
+
+    @Mock
+    private LedgerRepository delegate;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private CachingLedgerRepository repository;
+    private LoanAggregate loan;
+
+    @BeforeEach
+    void setUp() {
+        repository = new CachingLedgerRepository(delegate, new LoanCacheProperties(true, 100, Duration.ofMinutes(1)), meterRegistry);
+        loan = LoanAggregate.createNew(UUID.randomUUID(), new Money(new BigDecimal("100.00"))).activate();
+    }
+
+    @Test
+    @DisplayName("Should serve repeated reads from the cache")
+    void readsThrough() {
+        when(delegate.findByUserId(loan.userId())).thenReturn(Optional.of(loan));
+
+        repository.findByUserId(loan.userId());
+        var second = repository.findByUserId(loan.userId());
+
+        assertThat(second).contains(loan);
+        verify(delegate, times(1)).findByUserId(loan.userId());
+        assertThat(meterRegistry.get("cache.gets").tag("result", "hit").functionCounter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Should publish the post-write snapshot with the advanced version")
+    void writesAdvanceVersion() {
+        when(delegate.findByUserId(loan.userId())).thenReturn(Optional.of(loan));
+        repository.findByUserId(loan.userId());
+
+        var repaid = loan.applyRepayment(new Money(BigDecimal.TEN));
+        repository.recordTransaction(repaid, new Money(BigDecimal.TEN).negate(), "REPAYMENT", UUID.randomUUID());
+
+        var cached = repository.findByUserId(loan.userId()).orElseThrow();
+        assertThat(cached.version()).isEqualTo(loan.version() + 1);
+        assertThat(cached.currentBalance()).isEqualTo(repaid.currentBalance());
+        verify(delegate, times(1)).findByUserId(loan.userId());
+    }
+
+    @Test
+    @DisplayName("Should evict the entry when a write loses the version check")
+    void conflictInvalidates() {
+        when(delegate.findByUserId(loan.userId())).thenReturn(Optional.of(loan));
+        repository.findByUserId(loan.userId());
+        doThrow(new ConcurrentModificationException("stale"))
+                .when(delegate).recordTransaction(any(), any(), any(), any());
+
+        assertThrows(ConcurrentModificationException.class, () ->
+                repository.recordTransaction(loan, new Money(BigDecimal.ONE).negate(), "REPAYMENT", UUID.randomUUID()));
+        repository.findByUserId(loan.userId());
+
+        verify(delegate, times(2)).findByUserId(loan.userId());
+    }
+
+    @Test
+    @DisplayName("Should pass shutdown on to the stage it wraps")
+    void closesDelegate() throws Exception {
+        var groupCommit = mock(LedgerRepository.class, withSettings().extraInterfaces(AutoCloseable.class));
+        var cache = new CachingLedgerRepository(groupCommit, new LoanCacheProperties(true, 100, Duration.ofMinutes(1)), meterRegistry);
+
+        new MeteredLedgerRepository(cache, meterRegistry).close();
+
+        verify((AutoCloseable) groupCommit).close();
+    }
+}
@@ -0,0 +1,154 @@
+package com.d3rrick.ledgercore.infrastructure.persistence;
+
+import com.d3rrick.ledgercore.application.port.LedgerRepository;
+import com.d3rrick.ledgercore.domain.model.LoanAggregate;
+import com.d3rrick.ledgercore.domain.model.Money;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.CannotAcquireLockException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class GroupCommitLedgerRepositoryTest {
+
+    @Mock
+    private LedgerRepository delegate;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private GroupCommitLedgerRepository repository;
+
+    private GroupCommitLedgerRepository start(Duration window, int maxBatch) {
+        return start(window, maxBatch, 1);
+    }
+
+    private GroupCommitLedgerRepository start(Duration window, int maxBatch, int flushers) {
+        repository = new GroupCommitLedgerRepository(
+                delegate, TransactionOperations.withoutTransaction(), new GroupCommitProperties(true, window, maxBatch, flushers), meterRegistry);
+        return repository;
+    }
+
+    @AfterEach
+    void tearDown() {
+        repository.close();
+    }
+
+    private static LoanAggregate loan() {
+        return LoanAggregate.createNew(UUID.randomUUID(), new Money(new BigDecimal("100.00"))).activate();
+    }
+
+    @Test
+    @DisplayName("Should commit concurrent writes together and release every caller")
+    void groupsConcurrentWrites() throws Exception {
+        var pipeline = start(Duration.ofMillis(200), 8);
+
+        var futures = new ArrayList<Future<?>>();
+        try (var callers = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < 8; i++) {
+                futures.add(callers.submit(() -> pipeline.recordTransaction(loan(), new Money(BigDecimal.ONE), "REPAYMENT", UUID.randomUUID())));
+            }
+        }
+        for (var future : futures) {
+            future.get();
+        }
+
+        verify(delegate, times(8)).recordTransaction(any(), any(), eq("REPAYMENT"), any());
+        var batches = meterRegistry.get("ledger.group-commit.batch.size").summary();
+        assertThat(batches.totalAmount()).isEqualTo(8.0);
+        assertThat(batches.count()).isLessThan(8L);
+    }
+
+    @Test
+    @DisplayName("Should keep every write of one loan on the same flusher")
+    void routesLoanToOneFlusher() throws Exception {
+        var pipeline = start(Duration.ofMillis(50), 64, 4);
+        var threads = new ConcurrentHashMap<UUID, Set<String>>();
+        doAnswer(invocation -> {
+            LoanAggregate loan = invocation.getArgument(0);
+            threads.computeIfAbsent(loan.userId(), id -> ConcurrentHashMap.newKeySet()).add(Thread.currentThread().getName());
+            return null;
+        }).when(delegate).recordTransaction(any(), any(), any(), any());
+
+        var loans = List.of(loan(), loan(), loan(), loan(), loan(), loan());
+        var futures = new ArrayList<Future<?>>();
+        try (var callers = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < 4; i++) {
+                for (var loan : loans) {
+                    futures.add(callers.submit(() -> pipeline.recordTransaction(loan, new Money(BigDecimal.ONE), "REPAYMENT", UUID.randomUUID())));
+                }
+            }
+        }
+        for (var future : futures) {
+            future.get();
+        }
+
+        verify(delegate, times(24)).recordTransaction(any(), any(), eq("REPAYMENT"), any());
+        assertThat(threads).hasSize(6);
+        assertThat(threads.values()).allSatisfy(names -> assertThat(names).hasSize(1));
+    }
+
+    @Test
+    @DisplayName("Should hand a failed write its own exception without failing the rest of the group")
+    void isolatesFailures() {
+        var pipeline = start(Duration.ZERO, 8);
+        var duplicateKey = UUID.randomUUID();
+        doThrow(new DuplicateKeyException("idempotency_key"))
+                .when(delegate).recordTransaction(any(), any(), any(), eq(duplicateKey));
+
+        assertThrows(DuplicateKeyException.class, () ->
+                pipeline.recordTransaction(loan(), new Money(BigDecimal.ONE), "REPAYMENT", duplicateKey));
+        pipeline.recordTransaction(loan(), new Money(BigDecimal.ONE), "REPAYMENT", UUID.randomUUID());
+
+        verify(delegate, times(2)).recordTransaction(any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Should rerun each write on its own when the group transaction fails as a whole")
+    void rerunsWritesOfFailedGroup() {
+        var groups = new AtomicInteger();
+        var failingOnce = new TransactionOperations() {
+            @Override
+            public <T> T execute(TransactionCallback<T> action) {
+                var result = action.doInTransaction(new SimpleTransactionStatus());
+                if (groups.getAndIncrement() == 0) {
+                    throw new CannotAcquireLockException("lock timeout");
+                }
+                return result;
+            }
+        };
+        repository = new GroupCommitLedgerRepository(
+                delegate, failingOnce, new GroupCommitProperties(true, Duration.ZERO, 8, 1), meterRegistry);
+
+        repository.recordTransaction(loan(), new Money(BigDecimal.ONE), "REPAYMENT", UUID.randomUUID());
+
+        verify(delegate, times(2)).recordTransaction(any(), any(), any(), any());
+        assertThat(meterRegistry.get("ledger.group-commit.fallbacks").counter().count()).isEqualTo(1.0);
+    }
+}
@@ -0,0 +1,104 @@
+package com.d3rrick.ledgercore.infrastructure.persistence;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ReplicaDataSourceTest {
+
+    @Mock
+    private DataSource primary;
+
+    @Mock
+    private DataSource replica;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private ReplicaDataSource routing() {
+        return new ReplicaDataSource(primary, Map.of("replica-0", replica), Duration.ofSeconds(5), meterRegistry);
+    }
+
+    private Connection probedAt(double lagSeconds) throws SQLException {
+        var connection = mock(Connection.class);
+        var statement = mock(Statement.class);
+        var resultSet = mock(ResultSet.class);
+        when(connection.createStatement()).thenReturn(statement);
+        when(statement.executeQuery(anyString())).thenReturn(resultSet);
+        when(resultSet.next()).thenReturn(true);
+        when(resultSet.getDouble(1)).thenReturn(lagSeconds);
+        return connection;
+    }
+
+    @Test
+    @DisplayName("Should read from a replica that is within the lag bound")
+    void routesToHealthyReplica() throws SQLException {
+        var probe = probedAt(0.4);
+        var read = mock(Connection.class);
+        when(replica.getConnection()).thenReturn(probe, read);
+        var dataSource = routing();
+
+        dataSource.checkReplicas();
+
+        assertThat(dataSource.getConnection()).isSameAs(read);
+        assertThat(meterRegistry.get("ledger.replica.healthy").gauge().value()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Should read from the primary while the replica lags too far behind")
+    void skipsLaggingReplica() throws SQLException {
+        var probe = probedAt(12.0);
+        var read = mock(Connection.class);
+        when(replica.getConnection()).thenReturn(probe);
+        when(primary.getConnection()).thenReturn(read);
+        var dataSource = routing();
+
+        dataSource.checkReplicas();
+
+        assertThat(dataSource.getConnection()).isSameAs(read);
+        assertThat(meterRegistry.get("ledger.replica.lag").gauge().value()).isEqualTo(12.0);
+    }
+
+    @Test
+    @DisplayName("Should fall back to the primary and drop a replica that refuses connections")
+    void fallsBackOnConnectionFailure() throws SQLException {
+        var probe = probedAt(0.0);
+        var read = mock(Connection.class);
+        when(replica.getConnection()).thenReturn(probe).thenThrow(new SQLException("Connection refused"));
+        when(primary.getConnection()).thenReturn(read);
+        var dataSource = routing();
+        dataSource.checkReplicas();
+
+        assertThat(dataSource.getConnection()).isSameAs(read);
+        assertThat(meterRegistry.get("ledger.replica.healthy").gauge().value()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should pass explicit credentials through to the replica it picks")
+    void delegatesCredentials() throws SQLException {
+        var probe = probedAt(0.0);
+        var read = mock(Connection.class);
+        when(replica.getConnection()).thenReturn(probe);
+        when(replica.getConnection("reporting", "secret")).thenReturn(read);
+        var dataSource = routing();
+        dataSource.checkReplicas();
+
+        assertThat(dataSource.getConnection("reporting", "secret")).isSameAs(read);
+    }
+}
@@ -0,0 +1,64 @@
+package com.d3rrick.ledgercore.infrastructure.web;
+
+import com.d3rrick.ledgercore.infrastructure.web.exceptions.AdmissionRejectedException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.DispatcherType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class AdmissionControlInterceptorTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AdmissionControlInterceptor interceptor = new AdmissionControlInterceptor(1, Duration.ZERO, meterRegistry);
+    private final MockHttpServletResponse response = new MockHttpServletResponse();
+
+    @Test
+    @DisplayName("Should turn a request away while every permit is taken")
+    void rejectsOverLimit() {
+        var first = new MockHttpServletRequest();
+        assertThat(interceptor.preHandle(first, response, new Object())).isTrue();
+
+        assertThrows(AdmissionRejectedException.class, () ->
+                interceptor.preHandle(new MockHttpServletRequest(), response, new Object()));
+        assertThat(meterRegistry.get("ledger.admission.rejected").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Should hand the permit back exactly once when the request completes")
+    void releasesOnCompletion() {
+        var first = new MockHttpServletRequest();
+        interceptor.preHandle(first, response, new Object());
+        interceptor.afterCompletion(first, response, new Object(), null);
+        interceptor.afterCompletion(first, response, new Object(), null);
+
+        assertThat(interceptor.preHandle(new MockHttpServletRequest(), response, new Object())).isTrue();
+        assertThat(meterRegistry.get("ledger.admission.available").gauge().value()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should keep an async request's permit until its async context completes")
+    void holdsPermitWhileStreaming() {
+        var streaming = new MockHttpServletRequest();
+        streaming.setAsyncSupported(true);
+        interceptor.preHandle(streaming, response, new Object());
+        streaming.startAsync();
+        interceptor.afterConcurrentHandlingStarted(streaming, response, new Object());
+
+        assertThrows(AdmissionRejectedException.class, () ->
+                interceptor.preHandle(new MockHttpServletRequest(), response, new Object()));
+
+        streaming.setDispatcherType(DispatcherType.ASYNC);
+        assertThat(interceptor.preHandle(streaming, response, new Object())).isTrue();
+        assertThat(meterRegistry.get("ledger.admission.available").gauge().value()).isZero();
+
+        streaming.getAsyncContext().complete();
+        assertThat(interceptor.preHandle(new MockHttpServletRequest(), response, new Object())).isTrue();
+    }
+}
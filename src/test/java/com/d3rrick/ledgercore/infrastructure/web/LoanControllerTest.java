@@ -1,35 +1,53 @@
 package com.d3rrick.ledgercore.infrastructure.web;
 
 import com.d3rrick.ledgercore.application.service.LoanService;
+import com.d3rrick.ledgercore.application.service.RepaymentResult;
+import com.d3rrick.ledgercore.domain.model.LedgerEntry;
 import com.d3rrick.ledgercore.domain.model.LoanAggregate;
 import com.d3rrick.ledgercore.domain.model.LoanStatus;
 import com.d3rrick.ledgercore.domain.model.Money;
+import com.d3rrick.ledgercore.infrastructure.web.request.BatchRepaymentRequest;
 import com.d3rrick.ledgercore.infrastructure.web.request.LoanRequest;
 import com.d3rrick.ledgercore.infrastructure.web.request.RepaymentRequest;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.webmvc.test.autoconfigure.WebMvcTest;
+import org.springframework.context.annotation.Import;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
 
 import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+import java.util.ConcurrentModificationException;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Consumer;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 // Web Infrastructure only start (Tomcat, Jackson for JSON, and the Controller)
 @WebMvcTest(LoanController.class)
+@Import(SimpleMeterRegistry.class)
 class LoanControllerTest {
 
     @Autowired
@@ -38,6 +56,9 @@ class LoanControllerTest {
     @MockitoBean
     private LoanService loanService;
 
+    @Autowired
+    private SimpleMeterRegistry meterRegistry;
+
     private final ObjectMapper objectMapper = new ObjectMapper();
 
     @Test
@@ -54,6 +75,36 @@ class LoanControllerTest {
         verify(loanService).processRepayment(eq(userId), any(Money.class), eq(request.idempotencyKey()));
     }
 
+    @Test
+    @DisplayName("POST /repayment - Should return 400 Bad Request for an amount Money cannot hold")
+    void postRepayment_AmountOutOfRange() throws Exception {
+        var userId = UUID.randomUUID();
+
+        mockMvc.perform(post("/api/v1/loan/{userId}/repayment", userId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"amount\": 1e20, \"idempotencyKey\": \"" + UUID.randomUUID() + "\"}"))
+                .andExpect(status().isBadRequest());
+
+        verify(loanService, never()).processRepayment(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("POST /repayment - Should return 409 and count the conflict by exception type")
+    void postRepayment_ConflictCounted() throws Exception {
+        var userId = UUID.randomUUID();
+        var request = new RepaymentRequest(new BigDecimal("100.00"), UUID.randomUUID());
+        doThrow(new ConcurrentModificationException("stale")).when(loanService).processRepayment(eq(userId), any(Money.class), any());
+
+        mockMvc.perform(post("/api/v1/loan/{userId}/repayment", userId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isConflict());
+
+        assertThat(meterRegistry.get("ledger.api.errors")
+                .tag("exception", "ConcurrentModificationException")
+                .counter().count()).isEqualTo(1.0);
+    }
+
     @Test
     @DisplayName("GET /{userId} - Should return 200 and data when loan exists")
     void getLoan_Found() throws Exception {
@@ -104,4 +155,85 @@ class LoanControllerTest {
                         .content(objectMapper.writeValueAsString(request)))
                 .andExpect(status().isBadRequest());
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("POST /repayments/batch - Should return a per-item outcome for every repayment")
+    void postRepaymentBatch_Success() throws Exception {
+        var item = new BatchRepaymentRequest.Item(UUID.randomUUID(), new BigDecimal("25.00"), UUID.randomUUID());
+        when(loanService.processRepaymentBatch(anyList())).thenReturn(List.of(
+                new RepaymentResult(item.userId(), item.idempotencyKey(), RepaymentResult.Outcome.APPLIED, null)));
+
+        mockMvc.perform(post("/api/v1/loan/repayments/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new BatchRepaymentRequest(List.of(item)))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.results[0].userId").value(item.userId().toString()))
+                .andExpect(jsonPath("$.results[0].outcome").value("APPLIED"));
+    }
+
+    @Test
+    @DisplayName("POST /repayments/batch - Should return 400 Bad Request for an empty batch")
+    void postRepaymentBatch_Empty() throws Exception {
+        mockMvc.perform(post("/api/v1/loan/repayments/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new BatchRepaymentRequest(List.of()))))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("GET /{userId}/entries - Should stream a keyset page with the cursor for the next one")
+    void getEntries_StreamsPage() throws Exception {
+        var userId = UUID.randomUUID();
+        when(loanService.loanExists(userId)).thenReturn(true);
+        doAnswer(invocation -> {
+            Consumer<LedgerEntry> consumer = invocation.getArgument(3);
+            consumer.accept(new LedgerEntry(11L, userId, new Money(new BigDecimal("1000")), "DISBURSEMENT", UUID.randomUUID(), OffsetDateTime.now()));
+            consumer.accept(new LedgerEntry(12L, userId, new Money(new BigDecimal("-100")), "REPAYMENT", UUID.randomUUID(), OffsetDateTime.now()));
+            return null;
+        }).when(loanService).streamEntries(eq(userId), eq(10L), eq(2), any());
+
+        var result = mockMvc.perform(get("/api/v1/loan/{userId}/entries", userId).param("after", "10").param("limit", "2"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.entries.length()").value(2))
+                .andExpect(jsonPath("$.entries[1].entryType").value("REPAYMENT"))
+                .andExpect(jsonPath("$.nextAfter").value(12));
+        verify(loanService, never()).getLoanDetails(any());
+    }
+
+    @Test
+    @DisplayName("GET /{userId}/entries - Should return 404 when loan missing")
+    void getEntries_NotFound() throws Exception {
+        var userId = UUID.randomUUID();
+        when(loanService.loanExists(userId)).thenReturn(false);
+
+        mockMvc.perform(get("/api/v1/loan/{userId}/entries", userId))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @DisplayName("GET ?status= - Should stream a page of loans with the userId to resume after")
+    void getLoansByStatus_StreamsPage() throws Exception {
+        var first = new LoanAggregate(UUID.randomUUID(), new Money(new BigDecimal("1000")), new Money(new BigDecimal("900")), LoanStatus.ACTIVE, 2L);
+        var second = new LoanAggregate(UUID.randomUUID(), new Money(new BigDecimal("500")), new Money(new BigDecimal("500")), LoanStatus.ACTIVE, 1L);
+        doAnswer(invocation -> {
+            Consumer<LoanAggregate> consumer = invocation.getArgument(3);
+            consumer.accept(first);
+            consumer.accept(second);
+            return null;
+        }).when(loanService).streamLoansByStatus(eq(LoanStatus.ACTIVE), isNull(), eq(2), any());
+
+        var result = mockMvc.perform(get("/api/v1/loan").param("status", "ACTIVE").param("limit", "2"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.loans.length()").value(2))
+                .andExpect(jsonPath("$.loans[0].userId").value(first.userId().toString()))
+                .andExpect(jsonPath("$.nextAfter").value(second.userId().toString()));
+    }
+}
@@ -0,0 +1,82 @@
+package com.d3rrick.ledgercore.integration.application.service;
+
+import com.d3rrick.ledgercore.application.port.LedgerRepository;
+import com.d3rrick.ledgercore.application.service.BulkDefaultService;
+import com.d3rrick.ledgercore.application.service.LoanRebuildService;
+import com.d3rrick.ledgercore.application.service.LoanService;
+import com.d3rrick.ledgercore.domain.model.LedgerEntry;
+import com.d3rrick.ledgercore.domain.model.LoanStatus;
+import com.d3rrick.ledgercore.domain.model.Money;
+import com.d3rrick.ledgercore.integration.BaseIntegrationTest;
+import org.jooq.DSLContext;
+import org.jooq.impl.DSL;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Chunks run on worker threads in their own transactions, which only see committed data
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@TestPropertySource(properties = {"ledger.defaults.ranges=4", "ledger.defaults.chunk-size=2"})
+class BulkDefaultServiceIT extends BaseIntegrationTest {
+
+    @Autowired
+    private BulkDefaultService bulkDefaultService;
+
+    @Autowired
+    private LoanService loanService;
+
+    @Autowired
+    private LedgerRepository ledgerRepository;
+
+    @Autowired
+    private LoanRebuildService loanRebuildService;
+
+    @Autowired
+    private DSLContext dsl;
+
+    private UUID originate() {
+        var userId = UUID.randomUUID();
+        loanService.originateLoan(userId, new Money(new BigDecimal("100.00")), UUID.randomUUID());
+        return userId;
+    }
+
+    @Test
+    @DisplayName("Should default loans without a payment since the cutoff, and resume a finished run as a no-op")
+    void defaultsDelinquentLoans() {
+        var delinquent = new ArrayList<UUID>();
+        for (int i = 0; i < 5; i++) {
+            delinquent.add(originate());
+        }
+        var noPaymentSince = dsl.select(DSL.currentOffsetDateTime()).fetchSingle().value1();
+        var paying = originate();
+        var run = "default-it-" + UUID.randomUUID();
+
+        var report = bulkDefaultService.run(run, noPaymentSince);
+
+        var loans = ledgerRepository.findAllByUserIds(delinquent);
+        assertThat(loans.values()).extracting(loan -> loan.status()).containsOnly(LoanStatus.DEFAULTED);
+        assertThat(loans.values()).extracting(loan -> loan.version()).containsOnly(2L);
+        assertThat(ledgerRepository.findByUserId(paying).orElseThrow().status()).isEqualTo(LoanStatus.ACTIVE);
+        assertThat(report.defaulted()).isGreaterThanOrEqualTo(5L);
+        assertThat(report.rangesResumed()).isZero();
+
+        var entries = new ArrayList<LedgerEntry>();
+        ledgerRepository.forEachEntry(delinquent.getFirst(), 0L, Long.MAX_VALUE, 10, entries::add);
+        assertThat(entries).extracting(LedgerEntry::entryType).containsExactly("DISBURSEMENT", "DEFAULT");
+        assertThat(entries.getLast().idempotencyKey()).isEqualTo(BulkDefaultService.defaultKey(delinquent.getFirst()));
+        assertThat(loanRebuildService.rebuild(delinquent.getFirst()).orElseThrow().status()).isEqualTo(LoanStatus.DEFAULTED);
+
+        var rerun = bulkDefaultService.run(run, noPaymentSince);
+        assertThat(rerun.rangesResumed()).isEqualTo(4);
+        assertThat(rerun.defaulted()).isZero();
+    }
+}
@@ -0,0 +1,129 @@
+package com.d3rrick.ledgercore.integration.application.service;
+
+import com.d3rrick.ledgercore.application.port.LedgerRepository;
+import com.d3rrick.ledgercore.application.service.InterestAccrualService;
+import com.d3rrick.ledgercore.application.service.LoanRebuildService;
+import com.d3rrick.ledgercore.application.service.LoanService;
+import com.d3rrick.ledgercore.application.service.ReconciliationService;
+import com.d3rrick.ledgercore.domain.model.LedgerEntry;
+import com.d3rrick.ledgercore.domain.model.Money;
+import com.d3rrick.ledgercore.integration.BaseIntegrationTest;
+import org.jooq.DSLContext;
+import org.jooq.impl.DSL;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Chunks run on worker threads in their own transactions, which only see committed data
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@TestPropertySource(properties = {"ledger.interest.ranges=4", "ledger.interest.chunk-size=3"})
+class InterestAccrualServiceIT extends BaseIntegrationTest {
+
+    @Autowired
+    private InterestAccrualService interestAccrualService;
+
+    @Autowired
+    private LoanService loanService;
+
+    @Autowired
+    private LedgerRepository ledgerRepository;
+
+    @Autowired
+    private LoanRebuildService loanRebuildService;
+
+    @Autowired
+    private ReconciliationService reconciliationService;
+
+    @Autowired
+    private DSLContext dsl;
+
+    @Test
+    @DisplayName("Should post one day of interest per loan, exactly once however often the day is run")
+    void accruesOncePerDay() {
+        var userIds = new ArrayList<UUID>();
+        for (int i = 0; i < 7; i++) {
+            var userId = UUID.randomUUID();
+            loanService.originateLoan(userId, new Money(new BigDecimal("1000.00")), UUID.randomUUID());
+            userIds.add(userId);
+        }
+        var day = LocalDate.of(2031, 1, 15);
+
+        var report = interestAccrualService.run(day);
+
+        assertThat(report.complete()).isTrue();
+        assertThat(report.accrued()).isGreaterThanOrEqualTo(7L);
+        var loans = ledgerRepository.findAllByUserIds(userIds);
+        assertThat(loans.values()).extracting(loan -> loan.currentBalance().amount().toPlainString()).containsOnly("1000.33");
+        assertThat(loans.values()).extracting(loan -> loan.version()).containsOnly(2L);
+
+        var entries = new ArrayList<LedgerEntry>();
+        ledgerRepository.forEachEntry(userIds.getFirst(), 0L, Long.MAX_VALUE, 10, entries::add);
+        assertThat(entries).extracting(LedgerEntry::entryType).containsExactly("DISBURSEMENT", "INTEREST_ACCRUAL");
+        assertThat(entries.getLast().amountDelta().amount()).isEqualByComparingTo("0.33");
+        assertThat(entries.getLast().idempotencyKey()).isEqualTo(InterestAccrualService.accrualKey(userIds.getFirst(), day));
+        assertThat(loanRebuildService.rebuild(userIds.getFirst()).orElseThrow()).isEqualTo(loans.get(userIds.getFirst()));
+
+        // A finished day only reads its checkpoints
+        var resumed = interestAccrualService.run(day);
+        assertThat(resumed.rangesResumed()).isEqualTo(4);
+        assertThat(resumed.accrued()).isZero();
+
+        // Even with its checkpoints gone, the day's keys keep every loan from accruing twice
+        dsl.deleteFrom(DSL.table(DSL.name("bulk_job_checkpoint")))
+                .where(DSL.field(DSL.name("run"), String.class).eq("interest:" + day))
+                .execute();
+        var rerun = interestAccrualService.run(day);
+        assertThat(rerun.accrued()).isZero();
+        assertThat(rerun.alreadyAccrued()).isGreaterThanOrEqualTo(7L);
+        assertThat(ledgerRepository.findByUserId(userIds.getFirst()).orElseThrow().currentBalance().amount())
+                .isEqualByComparingTo("1000.33");
+
+        assertThat(reconciliationService.reconcile(ReconciliationService.Mode.FULL, mismatch -> { }).mismatches()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should carry sub-cent interest between days so a small balance still accrues")
+    void carriesSubCentInterest() {
+        var userId = UUID.randomUUID();
+        // 15.00 at 12% act/365 earns 0.0049 a day, under a cent
+        loanService.originateLoan(userId, new Money(new BigDecimal("15.00")), UUID.randomUUID());
+        var first = LocalDate.of(2031, 4, 1);
+
+        for (int i = 0; i < 5; i++) {
+            assertThat(interestAccrualService.run(first.plusDays(i)).complete()).isTrue();
+        }
+        // The first day posted no entry to find by key; its carry alone keeps a rerun from accruing it again
+        dsl.deleteFrom(DSL.table(DSL.name("bulk_job_checkpoint")))
+                .where(DSL.field(DSL.name("run"), String.class).eq("interest:" + first))
+                .execute();
+        interestAccrualService.run(first);
+
+        assertThat(ledgerRepository.findByUserId(userId).orElseThrow().currentBalance().amount()).isEqualByComparingTo("15.02");
+    }
+
+    @Test
+    @DisplayName("Should list every incomplete or missing day since the first run, oldest first")
+    void listsPendingDays() {
+        var first = LocalDate.of(2030, 6, 10);
+        loanService.originateLoan(UUID.randomUUID(), new Money(new BigDecimal("1000.00")), UUID.randomUUID());
+        assertThat(interestAccrualService.run(first).complete()).isTrue();
+
+        assertThat(interestAccrualService.pendingDays(first.plusDays(2))).containsExactly(first.plusDays(1), first.plusDays(2));
+
+        dsl.deleteFrom(DSL.table(DSL.name("bulk_job_checkpoint")))
+                .where(DSL.field(DSL.name("run"), String.class).eq("interest:" + first))
+                .and(DSL.field(DSL.name("range_index"), Integer.class).eq(0))
+                .execute();
+        assertThat(interestAccrualService.pendingDays(first.plusDays(2))).containsExactly(first, first.plusDays(1), first.plusDays(2));
+    }
+}
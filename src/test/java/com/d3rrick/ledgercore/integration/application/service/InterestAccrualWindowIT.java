@@ -0,0 +1,86 @@
+package com.d3rrick.ledgercore.integration.application.service;
+
+import com.d3rrick.ledgercore.application.port.JobCheckpoint;
+import com.d3rrick.ledgercore.application.port.JobCheckpointRepository;
+import com.d3rrick.ledgercore.application.port.LedgerRepository;
+import com.d3rrick.ledgercore.application.port.LoanUpdate;
+import com.d3rrick.ledgercore.application.service.InterestAccrualService;
+import com.d3rrick.ledgercore.application.service.LoanService;
+import com.d3rrick.ledgercore.domain.model.Money;
+import com.d3rrick.ledgercore.integration.BaseIntegrationTest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doAnswer;
+
+// Chunks run on worker threads in their own transactions, which only see committed data
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@TestPropertySource(properties = {
+        "ledger.interest.ranges=1",
+        "ledger.interest.parallelism=1",
+        "ledger.interest.chunk-size=50",
+        "ledger.interest.window=3s",
+        "ledger.interest.conflict-retries=0"})
+class InterestAccrualWindowIT extends BaseIntegrationTest {
+
+    private static final long WINDOW_MILLIS = 3_000L;
+
+    @Autowired
+    private InterestAccrualService interestAccrualService;
+
+    @Autowired
+    private LoanService loanService;
+
+    @Autowired
+    private JobCheckpointRepository checkpointRepository;
+
+    @MockitoSpyBean(name = "ledgerRepository")
+    private LedgerRepository ledgerRepository;
+
+    @Test
+    @DisplayName("Should walk a conflicted chunk again when the window closes right after it")
+    void resumesBeforeConflictedChunk() {
+        for (int i = 0; i < 2; i++) {
+            loanService.originateLoan(UUID.randomUUID(), new Money(new BigDecimal("1000.00")), UUID.randomUUID());
+        }
+        var day = LocalDate.of(2032, 3, 1);
+        var raced = new AtomicReference<UUID>();
+        doAnswer(invocation -> {
+            List<LoanUpdate> updates = invocation.getArgument(0);
+            if (!updates.isEmpty() && raced.compareAndSet(null, updates.getFirst().loan().userId())) {
+                // A repayment commits between the chunk's read and its write, then the window runs out
+                CompletableFuture.runAsync(() -> loanService.processRepayment(
+                        raced.get(), new Money(new BigDecimal("0.01")), UUID.randomUUID())).join();
+                Thread.sleep(WINDOW_MILLIS + 100);
+            }
+            return invocation.callRealMethod();
+        }).when(ledgerRepository).recordTransactionBatch(anyList());
+
+        var cut = interestAccrualService.run(day);
+
+        var key = InterestAccrualService.accrualKey(raced.get(), day);
+        assertThat(cut.complete()).isFalse();
+        assertThat(cut.conflicts()).isEqualTo(1L);
+        assertThat(checkpointRepository.findAll("interest:" + day)).containsEntry(0, new JobCheckpoint(0, null, false));
+        assertThat(ledgerRepository.findExistingIdempotencyKeys(List.of(key))).isEmpty();
+
+        var resumed = interestAccrualService.run(day);
+
+        assertThat(resumed.alreadyAccrued()).isPositive();
+        assertThat(ledgerRepository.findExistingIdempotencyKeys(List.of(key))).containsExactly(key);
+    }
+}
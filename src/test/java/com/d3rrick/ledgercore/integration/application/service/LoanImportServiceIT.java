@@ -0,0 +1,88 @@
+package com.d3rrick.ledgercore.integration.application.service;
+
+import com.d3rrick.ledgercore.application.service.LoanImportLine;
+import com.d3rrick.ledgercore.application.service.LoanImportReport;
+import com.d3rrick.ledgercore.application.service.LoanImportService;
+import com.d3rrick.ledgercore.application.service.LoanService;
+import com.d3rrick.ledgercore.domain.model.LoanStatus;
+import com.d3rrick.ledgercore.domain.model.Money;
+import com.d3rrick.ledgercore.integration.BaseIntegrationTest;
+import org.jooq.SQLDialect;
+import org.jooq.impl.DSL;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LoanImportServiceIT extends BaseIntegrationTest {
+
+    @Autowired
+    private LoanImportService loanImportService;
+
+    @Autowired
+    private LoanService loanService;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Test
+    @DisplayName("Should COPY new loans in and skip loans or keys that already exist")
+    void importsThroughCopy() {
+        var fresh = UUID.randomUUID();
+        var existing = UUID.randomUUID();
+        var reusedKey = UUID.randomUUID();
+        loanService.originateLoan(existing, new Money(new BigDecimal("10.00")), reusedKey);
+
+        var report = loanImportService.importLoans(Stream.of(
+                new LoanImportLine(1, fresh.toString(), "1500.50", UUID.randomUUID().toString()),
+                new LoanImportLine(2, existing.toString(), "99.00", UUID.randomUUID().toString()),
+                new LoanImportLine(3, UUID.randomUUID().toString(), "5.00", reusedKey.toString())));
+
+        assertThat(report.imported()).isEqualTo(1);
+        assertThat(report.rejected()).isEqualTo(2);
+        var loan = loanService.getLoanDetails(fresh).orElseThrow();
+        assertThat(loan.currentBalance().amount()).isEqualByComparingTo("1500.50");
+        assertThat(loan.status()).isEqualTo(LoanStatus.ACTIVE);
+        assertThat(loan.version()).isEqualTo(1L);
+        assertThat(loanService.getLoanDetails(existing).orElseThrow().principalAmount().amount()).isEqualByComparingTo("10.00");
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @DisplayName("Should report a key claimed concurrently as already applied instead of failing the chunk")
+    void skipsKeyClaimedMidImport() throws Exception {
+        var raced = UUID.randomUUID();
+        var racedKey = UUID.randomUUID();
+        var other = UUID.randomUUID();
+        try (var connection = dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+            // Claimed but not committed: the import passes its existence check, then waits on the key's index entry
+            DSL.using(connection, SQLDialect.POSTGRES)
+                    .insertInto(DSL.table(DSL.name("ledger_idempotency_key")), DSL.field(DSL.name("idempotency_key"), UUID.class))
+                    .values(racedKey)
+                    .execute();
+            var importing = CompletableFuture.supplyAsync(() -> loanImportService.importLoans(Stream.of(
+                    new LoanImportLine(1, raced.toString(), "10.00", racedKey.toString()),
+                    new LoanImportLine(2, other.toString(), "20.00", UUID.randomUUID().toString()))));
+            Thread.sleep(500);
+            connection.commit();
+
+            var report = importing.get(10, TimeUnit.SECONDS);
+
+            assertThat(report.imported()).isEqualTo(1);
+            assertThat(report.rejections()).extracting(LoanImportReport.Rejection::lineNumber).containsExactly(1L);
+            assertThat(loanService.getLoanDetails(raced)).isEmpty();
+            assertThat(loanService.getLoanDetails(other)).isPresent();
+        }
+    }
+}
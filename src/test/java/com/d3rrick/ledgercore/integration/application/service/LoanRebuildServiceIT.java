@@ -0,0 +1,100 @@
+package com.d3rrick.ledgercore.integration.application.service;
+
+import com.d3rrick.ledgercore.application.port.LedgerRepository;
+import com.d3rrick.ledgercore.application.service.LoanRebuildService;
+import com.d3rrick.ledgercore.application.service.LoanService;
+import com.d3rrick.ledgercore.domain.model.LedgerEntry;
+import com.d3rrick.ledgercore.domain.model.LoanStatus;
+import com.d3rrick.ledgercore.domain.model.Money;
+import com.d3rrick.ledgercore.integration.BaseIntegrationTest;
+import org.jooq.DSLContext;
+import org.jooq.impl.DSL;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Bulk repair runs on worker threads, which only see committed data
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@TestPropertySource(properties = "ledger.replay.snapshot-every=2")
+class LoanRebuildServiceIT extends BaseIntegrationTest {
+
+    @Autowired
+    private LoanRebuildService loanRebuildService;
+
+    @Autowired
+    private LoanService loanService;
+
+    @Autowired
+    private LedgerRepository ledgerRepository;
+
+    @Autowired
+    private DSLContext dsl;
+
+    private final List<UUID> loans = new ArrayList<>();
+
+    // Commits are shared with every later test class; drop the snapshots left here, corrupted or not
+    @AfterEach
+    void dropSnapshots() {
+        dsl.deleteFrom(DSL.table(DSL.name("loan_snapshot")))
+                .where(DSL.field(DSL.name("user_id"), UUID.class).in(loans))
+                .execute();
+    }
+
+    private UUID loanWithHistory() {
+        var userId = UUID.randomUUID();
+        loans.add(userId);
+        loanService.originateLoan(userId, new Money(new BigDecimal("100.00")), UUID.randomUUID());
+        for (int i = 0; i < 4; i++) {
+            loanService.processRepayment(userId, new Money(new BigDecimal("10.00")), UUID.randomUUID());
+        }
+        return userId;
+    }
+
+    @Test
+    @DisplayName("Should rebuild the current loan and a historic one from entries alone")
+    void rebuildsFromLedger() {
+        var userId = loanWithHistory();
+        var entries = new ArrayList<LedgerEntry>();
+        ledgerRepository.forEachEntry(userId, 0L, Long.MAX_VALUE, 100, entries::add);
+
+        var rebuilt = loanRebuildService.rebuild(userId).orElseThrow();
+        var historic = loanRebuildService.rebuildAsOf(userId, entries.get(1).id()).orElseThrow();
+
+        assertThat(rebuilt).isEqualTo(ledgerRepository.findByUserId(userId).orElseThrow());
+        assertThat(historic.currentBalance().amount()).isEqualByComparingTo("90.00");
+        assertThat(historic.version()).isEqualTo(2L);
+        assertThat(loanRebuildService.rebuild(UUID.randomUUID())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should repair corrupted snapshots by replaying the whole history")
+    void repairsCorruptedSnapshots() {
+        var userId = loanWithHistory();
+        var other = loanWithHistory();
+        loanRebuildService.rebuild(userId);
+        dsl.update(DSL.table(DSL.name("loan_snapshot")))
+                .set(DSL.field(DSL.name("current_balance"), BigDecimal.class), new BigDecimal("50.00"))
+                .where(DSL.field(DSL.name("user_id"), UUID.class).eq(userId))
+                .execute();
+        assertThat(loanRebuildService.rebuild(userId).orElseThrow().currentBalance().amount()).isNotEqualByComparingTo("60.00");
+
+        var report = loanRebuildService.repairAll(List.of(userId, other));
+
+        var repaired = loanRebuildService.rebuild(userId).orElseThrow();
+        assertThat(repaired.currentBalance().amount()).isEqualByComparingTo("60.00");
+        assertThat(repaired.status()).isEqualTo(LoanStatus.ACTIVE);
+        assertThat(report.entriesReplayed()).isEqualTo(10L);
+        assertThat(report.unreplayable()).isEmpty();
+    }
+}
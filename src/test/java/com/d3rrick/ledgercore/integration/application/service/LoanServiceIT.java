@@ -42,8 +42,7 @@ class LoanServiceIT extends BaseIntegrationTest {
         loanService.processRepayment(userId, amount, UUID.randomUUID());
 
         var loan = loanService.getLoanDetails(userId).orElseThrow();
-        // TODO: After balance is zero then move status to closed
-        assertThat(loan.status()).isEqualTo(LoanStatus.ACTIVE);
+        assertThat(loan.status()).isEqualTo(LoanStatus.CLOSED);
         assertThat(loan.currentBalance().amount()).isEqualByComparingTo("0.00");
     }
 }
\ No newline at end of file
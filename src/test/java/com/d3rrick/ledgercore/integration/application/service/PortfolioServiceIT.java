@@ -0,0 +1,98 @@
+package com.d3rrick.ledgercore.integration.application.service;
+
+import com.d3rrick.ledgercore.application.port.PortfolioRepository;
+import com.d3rrick.ledgercore.application.port.PortfolioTotal;
+import com.d3rrick.ledgercore.application.service.LoanService;
+import com.d3rrick.ledgercore.application.service.PortfolioDrift;
+import com.d3rrick.ledgercore.application.service.PortfolioService;
+import com.d3rrick.ledgercore.domain.model.LoanStatus;
+import com.d3rrick.ledgercore.domain.model.Money;
+import com.d3rrick.ledgercore.integration.BaseIntegrationTest;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.jooq.DSLContext;
+import org.jooq.impl.DSL;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.math.BigDecimal;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PortfolioServiceIT extends BaseIntegrationTest {
+
+    @Autowired
+    private PortfolioService portfolioService;
+
+    @Autowired
+    private PortfolioRepository portfolioRepository;
+
+    @Autowired
+    private LoanService loanService;
+
+    @Autowired
+    private DSLContext dsl;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private static PortfolioTotal total(Map<LoanStatus, PortfolioTotal> totals, LoanStatus status) {
+        return totals.getOrDefault(status, PortfolioTotal.empty(status));
+    }
+
+    @Test
+    @DisplayName("Counters should follow origination, repayment and closure")
+    void countersFollowTransitions() {
+        var before = portfolioRepository.counterTotals();
+
+        loanService.originateLoan(UUID.randomUUID(), new Money(new BigDecimal("100.00")), UUID.randomUUID());
+        var closing = UUID.randomUUID();
+        loanService.originateLoan(closing, new Money(new BigDecimal("50.00")), UUID.randomUUID());
+        loanService.processRepayment(closing, new Money(new BigDecimal("20.00")), UUID.randomUUID());
+        loanService.processRepayment(closing, new Money(new BigDecimal("30.00")), UUID.randomUUID());
+
+        var after = portfolioRepository.counterTotals();
+        assertThat(total(after, LoanStatus.ACTIVE).loans() - total(before, LoanStatus.ACTIVE).loans()).isEqualTo(1L);
+        assertThat(total(after, LoanStatus.ACTIVE).outstanding().subtract(total(before, LoanStatus.ACTIVE).outstanding()))
+                .isEqualTo(new Money(new BigDecimal("100.00")));
+        assertThat(total(after, LoanStatus.CLOSED).loans() - total(before, LoanStatus.CLOSED).loans()).isEqualTo(1L);
+        assertThat(portfolioService.checkDrift()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Drift check should report a counter that no longer matches the loan table")
+    void detectsDrift() {
+        dsl.insertInto(DSL.table(DSL.name("portfolio_counter")),
+                        DSL.field(DSL.name("status")), DSL.field(DSL.name("shard")),
+                        DSL.field(DSL.name("loan_count")), DSL.field(DSL.name("outstanding")))
+                .values("DEFAULTED", 999, 1L, new BigDecimal("10.00"))
+                .execute();
+
+        assertThat(portfolioService.checkDrift())
+                .extracting(PortfolioDrift::status)
+                .containsExactly(LoanStatus.DEFAULTED);
+    }
+
+    @Test
+    @DisplayName("Gauges should report the cached totals")
+    void gaugesReadCachedTotals() {
+        portfolioService.refresh();
+        var cached = portfolioService.totals().byStatus().get(LoanStatus.ACTIVE);
+
+        assertThat(meterRegistry.get("ledger.portfolio.loans").tag("status", "ACTIVE").gauge().value())
+                .isEqualTo((double) cached.loans());
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/portfolio should list every status")
+    void servesTotals() {
+        webClient.get().uri("/api/v1/portfolio")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.statuses.length()").isEqualTo(LoanStatus.values().length)
+                .jsonPath("$.asOf").exists();
+    }
+}
@@ -0,0 +1,78 @@
+package com.d3rrick.ledgercore.integration.application.service;
+
+import com.d3rrick.ledgercore.application.port.BalanceMismatch;
+import com.d3rrick.ledgercore.application.service.LoanService;
+import com.d3rrick.ledgercore.application.service.ReconciliationService;
+import com.d3rrick.ledgercore.domain.model.Money;
+import com.d3rrick.ledgercore.integration.BaseIntegrationTest;
+import org.jooq.DSLContext;
+import org.jooq.impl.DSL;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.UUID;
+
+import static com.d3rrick.ledgercore.infrastructure.jooq.Tables.LOAN;
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Ranges are checked on worker threads, which only see committed data
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ReconciliationServiceIT extends BaseIntegrationTest {
+
+    @Autowired
+    private ReconciliationService reconciliationService;
+
+    @Autowired
+    private LoanService loanService;
+
+    @Autowired
+    private DSLContext dsl;
+
+    private UUID corrupted;
+
+    // Commits are shared with every later test class; put the balance back so they see a consistent ledger
+    @AfterEach
+    void restoreCorruptedLoan() {
+        if (corrupted != null) {
+            dsl.update(LOAN)
+                    .set(LOAN.CURRENT_BALANCE, new BigDecimal("100.00"))
+                    .where(LOAN.USER_ID.eq(corrupted))
+                    .execute();
+        }
+    }
+
+    @Test
+    @DisplayName("Should report a loan whose snapshot drifted from its entries, in both modes")
+    void detectsDrift() {
+        var healthy = UUID.randomUUID();
+        corrupted = UUID.randomUUID();
+        loanService.originateLoan(healthy, new Money(new BigDecimal("100.00")), UUID.randomUUID());
+        loanService.originateLoan(corrupted, new Money(new BigDecimal("100.00")), UUID.randomUUID());
+        loanService.processRepayment(healthy, new Money(new BigDecimal("40.00")), UUID.randomUUID());
+
+        // Baseline run so the incremental one below has a watermark
+        reconciliationService.reconcile(ReconciliationService.Mode.FULL, mismatch -> {});
+        dsl.update(LOAN)
+                .set(LOAN.CURRENT_BALANCE, new BigDecimal("90.00"))
+                .set(LOAN.UPDATED_AT, DSL.currentOffsetDateTime())
+                .where(LOAN.USER_ID.eq(corrupted))
+                .execute();
+
+        var full = new ArrayList<BalanceMismatch>();
+        reconciliationService.reconcile(ReconciliationService.Mode.FULL, full::add);
+        var incremental = new ArrayList<BalanceMismatch>();
+        var report = reconciliationService.reconcile(ReconciliationService.Mode.INCREMENTAL, incremental::add);
+
+        assertThat(full).extracting(BalanceMismatch::userId).contains(corrupted).doesNotContain(healthy);
+        assertThat(incremental).extracting(BalanceMismatch::userId).contains(corrupted);
+        assertThat(report.changedSince()).isNotNull();
+        var drift = full.stream().filter(m -> m.userId().equals(corrupted)).findFirst().orElseThrow();
+        assertThat(drift.drift().amount()).isEqualByComparingTo("-10.00");
+    }
+}
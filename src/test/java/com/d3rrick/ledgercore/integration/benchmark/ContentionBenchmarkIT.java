@@ -0,0 +1,218 @@
+package com.d3rrick.ledgercore.integration.benchmark;
+
+import com.d3rrick.ledgercore.application.port.LedgerRepository;
+import com.d3rrick.ledgercore.application.service.ConflictRetryExecutor;
+import com.d3rrick.ledgercore.application.service.IdempotencyKeyFilter;
+import com.d3rrick.ledgercore.application.service.IdempotencyProperties;
+import com.d3rrick.ledgercore.application.service.InlineLoanCommandExecutor;
+import com.d3rrick.ledgercore.application.service.LaneProperties;
+import com.d3rrick.ledgercore.application.service.LoanCommandExecutor;
+import com.d3rrick.ledgercore.application.service.LoanRebuildService;
+import com.d3rrick.ledgercore.application.service.LoanService;
+import com.d3rrick.ledgercore.application.service.LoanServiceMetrics;
+import com.d3rrick.ledgercore.application.service.RepaymentProperties;
+import com.d3rrick.ledgercore.application.service.StripedLoanCommandLanes;
+import com.d3rrick.ledgercore.domain.model.Money;
+import com.d3rrick.ledgercore.integration.BaseIntegrationTest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * How the {@code loan.version} compare-and-set degrades as more threads write the same loans, swept over thread
+ * count, key skew and concurrency strategy. Per cell it reports commit rate, the share of calls that surfaced a
+ * conflict, wasted transactions (attempts that lost the version check) per commit, and commit latency.
+ *
+ * <p>Opt-in: {@code mvn verify -Dit.test=ContentionBenchmarkIT -Dbenchmarks=true}, narrowed with
+ * {@code -Dcontention.threads=1,4,16,64 -Dcontention.skew=single,hot10,zipf -Dcontention.ops=200}.
+ */
+@EnabledIfSystemProperty(named = "benchmarks", matches = "true")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ContentionBenchmarkIT extends BaseIntegrationTest {
+
+    enum Strategy {
+        /** Version check only; every lost race is returned to the caller. */
+        OPTIMISTIC,
+        /** Version check with the configured jittered server-side retry. */
+        OPTIMISTIC_RETRY,
+        /** Row lock, guard, entry and version bump in one statement: writers queue instead of failing. */
+        SINGLE_STATEMENT,
+        /** One writer per lane, so commands for a loan never race at all. */
+        SERIALIZED_LANES
+    }
+
+    enum Skew {
+        SINGLE(1, 0), HOT10(10, 0), ZIPF(1_000, 1.1);
+
+        private final int loans;
+        private final double exponent;
+
+        Skew(int loans, double exponent) {
+            this.loans = loans;
+            this.exponent = exponent;
+        }
+    }
+
+    private static final Money ONE_CENT = new Money(new BigDecimal("0.01"));
+
+    private final int[] threadCounts = Arrays.stream(System.getProperty("contention.threads", "1,4,16,64").split(","))
+            .mapToInt(t -> Integer.parseInt(t.strip())).toArray();
+    private final List<Skew> skews = Arrays.stream(System.getProperty("contention.skew", "single,hot10,zipf").split(","))
+            .map(s -> Skew.valueOf(s.strip().toUpperCase())).toList();
+    private final int opsPerThread = Integer.getInteger("contention.ops", 200);
+
+    @Autowired
+    private LedgerRepository ledgerRepository;
+
+    @Autowired
+    private LoanService loanService;
+
+    @Autowired
+    private LoanRebuildService loanRebuildService;
+
+    @Test
+    void sweep() {
+        IO.println("%-18s %-7s %7s %10s %10s %12s %9s %9s %9s".formatted(
+                "strategy", "skew", "threads", "commits/s", "conflict%", "wasted/tx", "p50us", "p99us", "p999us"));
+        for (var skew : skews) {
+            for (var threads : threadCounts) {
+                for (var strategy : Strategy.values()) {
+                    var cell = run(strategy, skew, threads);
+                    cell.print();
+                    assertThat(cell.commits).isPositive();
+                }
+            }
+        }
+    }
+
+    private Cell run(Strategy strategy, Skew skew, int threads) {
+        var loans = new ArrayList<UUID>(skew.loans);
+        for (int i = 0; i < skew.loans; i++) {
+            var userId = UUID.randomUUID();
+            loanService.originateLoan(userId, new Money(new BigDecimal("100000000.00")), UUID.randomUUID());
+            loans.add(userId);
+        }
+        var sampler = new ZipfSampler(skew.loans, skew.exponent);
+
+        var meterRegistry = new SimpleMeterRegistry();
+        var mode = strategy == Strategy.SINGLE_STATEMENT ? RepaymentProperties.Mode.SINGLE_STATEMENT : RepaymentProperties.Mode.STANDARD;
+        var retry = strategy == Strategy.OPTIMISTIC
+                ? RepaymentProperties.Retry.none()
+                : new RepaymentProperties.Retry(5, Duration.ofMillis(2), Duration.ofMillis(50), Duration.ofSeconds(2));
+        var properties = new RepaymentProperties(mode, retry);
+        var executor = strategy == Strategy.SERIALIZED_LANES
+                ? new StripedLoanCommandLanes(new LaneProperties(true, 16, 4_096, Duration.ofSeconds(10)), meterRegistry)
+                : new InlineLoanCommandExecutor();
+        var service = new LoanService(ledgerRepository, properties, new ConflictRetryExecutor(properties, meterRegistry), executor,
+                new IdempotencyKeyFilter(new IdempotencyProperties(false, 1, 0.01, 1), meterRegistry), loanRebuildService,
+                new LoanServiceMetrics(meterRegistry));
+
+        var cell = new Cell(strategy, skew, threads);
+        // Every worker is parked on the start gate before the clock starts, so thread start-up is not measured
+        var ready = new CountDownLatch(threads);
+        var go = new CountDownLatch(1);
+        long started;
+        try (var workers = Executors.newFixedThreadPool(threads)) {
+            for (int t = 0; t < threads; t++) {
+                workers.submit(() -> {
+                    ready.countDown();
+                    awaitQuietly(go);
+                    for (int i = 0; i < opsPerThread; i++) {
+                        repay(service, loans.get(sampler.next()), cell);
+                    }
+                });
+            }
+            awaitQuietly(ready);
+            started = System.nanoTime();
+            go.countDown();
+        } finally {
+            close(executor);
+        }
+        cell.elapsed = Duration.ofNanos(System.nanoTime() - started);
+        cell.commits = cell.commitCount.sum();
+        cell.wasted = (long) (meterRegistry.get("ledger.repayment.conflict.retries").counter().count()
+                + meterRegistry.get("ledger.repayment.conflict.exhausted").counter().count());
+        return cell;
+    }
+
+    private static void repay(LoanService service, UUID userId, Cell cell) {
+        var start = System.nanoTime();
+        try {
+            service.processRepayment(userId, ONE_CENT, UUID.randomUUID());
+            cell.latency.recordValue(TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - start));
+            cell.commitCount.increment();
+        } catch (ConcurrentModificationException ex) {
+            cell.conflicts.increment();
+        } catch (RuntimeException ex) {
+            cell.errors.increment();
+        }
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void close(LoanCommandExecutor executor) {
+        if (executor instanceof AutoCloseable closeable) {
+            try {
+                closeable.close();
+            } catch (Exception ex) {
+                throw new IllegalStateException(ex);
+            }
+        }
+    }
+
+    private static final class Cell {
+        private final Strategy strategy;
+        private final Skew skew;
+        private final int threads;
+        private final ConcurrentHistogram latency = new ConcurrentHistogram(TimeUnit.SECONDS.toMicros(30), 3);
+        private final LongAdder commitCount = new LongAdder();
+        private final LongAdder conflicts = new LongAdder();
+        private final LongAdder errors = new LongAdder();
+        private long commits;
+        private long wasted;
+        private Duration elapsed;
+
+        private Cell(Strategy strategy, Skew skew, int threads) {
+            this.strategy = strategy;
+            this.skew = skew;
+            this.threads = threads;
+        }
+
+        void print() {
+            var calls = commits + conflicts.sum() + errors.sum();
+            IO.println("%-18s %-7s %7d %10.1f %10.2f %12.3f %9d %9d %9d%s".formatted(
+                    strategy, skew, threads,
+                    commits / Math.max(elapsed.toNanos() / 1e9, 1e-9),
+                    calls == 0 ? 0 : 100.0 * conflicts.sum() / calls,
+                    commits == 0 ? 0 : (double) wasted / commits,
+                    latency.getValueAtPercentile(50.0),
+                    latency.getValueAtPercentile(99.0),
+                    latency.getValueAtPercentile(99.9),
+                    errors.sum() == 0 ? "" : "  errors=" + errors.sum()));
+        }
+    }
+}
@@ -0,0 +1,194 @@
+package com.d3rrick.ledgercore.integration.benchmark;
+
+import com.d3rrick.ledgercore.application.service.LoanService;
+import com.d3rrick.ledgercore.domain.model.Money;
+import com.d3rrick.ledgercore.integration.BaseIntegrationTest;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.math.BigDecimal;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Open-loop HTTP load against the full application on Testcontainers Postgres. Requests are issued on a fixed
+ * schedule whatever the response times, each on its own virtual thread, and latency is measured from the
+ * scheduled start, so a stalled server shows up in the tail instead of silently slowing the generator down.
+ *
+ * <p>Opt-in: {@code mvn verify -Dit.test=HttpLoadTestIT -Dbenchmarks=true}, tuned with
+ * {@code -Dload.rate=2000 -Dload.seconds=30 -Dload.warmup-seconds=5 -Dload.loans=1000 -Dload.zipf=1.1
+ * -Dload.mix=originate:5,repay:25,get:70}. Percentile distributions (milliseconds) are written to
+ * {@code target/load-test/*.hgrm} for HdrHistogram's plotter.
+ */
+@EnabledIfSystemProperty(named = "benchmarks", matches = "true")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class HttpLoadTestIT extends BaseIntegrationTest {
+
+    enum Operation { ORIGINATE, REPAY, GET }
+
+    private static final long HIGHEST_MICROS = TimeUnit.SECONDS.toMicros(60);
+
+    private final int rate = Integer.getInteger("load.rate", 2_000);
+    private final int seconds = Integer.getInteger("load.seconds", 30);
+    private final int warmupSeconds = Integer.getInteger("load.warmup-seconds", 5);
+    private final int loanCount = Integer.getInteger("load.loans", 1_000);
+    private final double zipfExponent = Double.parseDouble(System.getProperty("load.zipf", "1.1"));
+    private final Map<Operation, Integer> mix = parseMix(System.getProperty("load.mix", "originate:5,repay:25,get:70"));
+    private final int mixTotal = mix.values().stream().mapToInt(Integer::intValue).sum();
+
+    @Autowired
+    private LoanService loanService;
+
+    @Value("${local.server.port}")
+    private int port;
+
+    private List<UUID> loans;
+    private ZipfSampler hotLoans;
+
+    @Test
+    void load() throws IOException {
+        loans = new ArrayList<>(loanCount);
+        for (int i = 0; i < loanCount; i++) {
+            var userId = UUID.randomUUID();
+            loanService.originateLoan(userId, new Money(new BigDecimal("100000000.00")), UUID.randomUUID());
+            loans.add(userId);
+        }
+        hotLoans = new ZipfSampler(loanCount, zipfExponent);
+
+        try (var client = HttpClient.newBuilder().executor(Executors.newVirtualThreadPerTaskExecutor()).build()) {
+            run(client, warmupSeconds);
+            var results = run(client, seconds);
+
+            IO.println("open loop: %d req/s for %ds, %d loans, zipf=%.2f, mix=%s".formatted(rate, seconds, loanCount, zipfExponent, mix));
+            var out = Files.createDirectories(Path.of("target", "load-test"));
+            var elapsed = Duration.ofSeconds(seconds);
+            var all = new Histogram(HIGHEST_MICROS, 3);
+            for (var entry : results.entrySet()) {
+                var stats = entry.getValue();
+                all.add(stats.latency);
+                new LatencyReport(entry.getKey().name(), stats.latency, elapsed, stats.errors.sum()).print();
+                IO.println("%-32s conflicts=%d (%.2f%%) errors=%.2f%%".formatted("",
+                        stats.conflicts.sum(), stats.rate(stats.conflicts), stats.rate(stats.errors)));
+                write(out.resolve(entry.getKey().name().toLowerCase() + ".hgrm"), stats.latency);
+            }
+            new LatencyReport("ALL", all, elapsed, results.values().stream().mapToLong(s -> s.errors.sum()).sum()).print();
+            write(out.resolve("all.hgrm"), all);
+
+            assertThat(all.getTotalCount()).isPositive();
+        }
+    }
+
+    private Map<Operation, Stats> run(HttpClient client, int durationSeconds) {
+        var results = new EnumMap<Operation, Stats>(Operation.class);
+        for (var operation : Operation.values()) {
+            results.put(operation, new Stats());
+        }
+        var intervalNanos = 1_000_000_000.0 / rate;
+        var total = (long) rate * durationSeconds;
+        var start = System.nanoTime();
+        try (var clients = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (long i = 0; i < total; i++) {
+                var scheduled = start + (long) (i * intervalNanos);
+                var wait = scheduled - System.nanoTime();
+                if (wait > 0) {
+                    LockSupport.parkNanos(wait);
+                }
+                var operation = pick();
+                clients.submit(() -> send(client, operation, scheduled, results.get(operation)));
+            }
+        }
+        return results;
+    }
+
+    private Operation pick() {
+        var roll = ThreadLocalRandom.current().nextInt(mixTotal);
+        for (var entry : mix.entrySet()) {
+            roll -= entry.getValue();
+            if (roll < 0) {
+                return entry.getKey();
+            }
+        }
+        return Operation.GET;
+    }
+
+    private void send(HttpClient client, Operation operation, long scheduled, Stats stats) {
+        var base = "http://localhost:" + port + "/api/v1/loan";
+        var request = switch (operation) {
+            case ORIGINATE -> json(base, "{\"userId\":\"" + UUID.randomUUID() + "\",\"amount\":1000.00,\"idempotencyKey\":\"" + UUID.randomUUID() + "\"}");
+            case REPAY -> json(base + "/" + loans.get(hotLoans.next()) + "/repayment", "{\"amount\":0.01,\"idempotencyKey\":\"" + UUID.randomUUID() + "\"}");
+            case GET -> HttpRequest.newBuilder(URI.create(base + "/" + loans.get(hotLoans.next()))).GET().build();
+        };
+        try {
+            var status = client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+            if (status == 409) {
+                stats.conflicts.increment();
+            } else if (status >= 400) {
+                stats.errors.increment();
+            }
+        } catch (IOException ex) {
+            stats.errors.increment();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+        stats.latency.recordValue(Math.min(HIGHEST_MICROS, TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - scheduled)));
+    }
+
+    private static HttpRequest json(String uri, String body) {
+        return HttpRequest.newBuilder(URI.create(uri))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+    }
+
+    private static void write(Path file, Histogram histogram) throws IOException {
+        try (var out = new PrintStream(Files.newOutputStream(file))) {
+            histogram.outputPercentileDistribution(out, 1_000.0);
+        }
+    }
+
+    private static Map<Operation, Integer> parseMix(String spec) {
+        var weights = new EnumMap<Operation, Integer>(Operation.class);
+        for (var part : spec.split(",")) {
+            var pair = part.split(":");
+            weights.put(Operation.valueOf(pair[0].strip().toUpperCase()), Integer.parseInt(pair[1].strip()));
+        }
+        return weights;
+    }
+
+    private static final class Stats {
+        private final ConcurrentHistogram latency = new ConcurrentHistogram(HIGHEST_MICROS, 3);
+        private final LongAdder conflicts = new LongAdder();
+        private final LongAdder errors = new LongAdder();
+
+        double rate(LongAdder count) {
+            var n = latency.getTotalCount();
+            return n == 0 ? 0 : 100.0 * count.sum() / n;
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.d3rrick.ledgercore.integration.benchmark;
+
+import org.HdrHistogram.Histogram;
+
+import java.time.Duration;
+
+/**
+ * Console summary shared by the opt-in benchmark ITs. Histograms record microseconds.
+ */
+public record LatencyReport(String label, Histogram histogram, Duration elapsed, long errors) {
+
+    public double throughputPerSecond() {
+        return histogram.getTotalCount() / Math.max(elapsed.toNanos() / 1_000_000_000.0, 1e-9);
+    }
+
+    public void print() {
+        IO.println("%-32s n=%-7d ops/s=%-9.1f p50=%-7dus p99=%-7dus p999=%-7dus max=%-7dus errors=%d".formatted(
+                label,
+                histogram.getTotalCount(),
+                throughputPerSecond(),
+                histogram.getValueAtPercentile(50.0),
+                histogram.getValueAtPercentile(99.0),
+                histogram.getValueAtPercentile(99.9),
+                histogram.getMaxValue(),
+                errors));
+    }
+}
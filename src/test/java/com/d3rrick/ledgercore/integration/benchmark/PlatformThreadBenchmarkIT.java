@@ -0,0 +1,20 @@
+package com.d3rrick.ledgercore.integration.benchmark;
+
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.test.context.TestPropertySource;
+
+/**
+ * Baseline: Tomcat's bounded platform-thread pool, no admission limit.
+ */
+@EnabledIfSystemProperty(named = "benchmarks", matches = "true")
+@TestPropertySource(properties = {
+        "spring.threads.virtual.enabled=false",
+        "ledger.admission.enabled=false"
+})
+class PlatformThreadBenchmarkIT extends ThreadModelBenchmark {
+
+    @Override
+    protected String label() {
+        return "platform threads";
+    }
+}
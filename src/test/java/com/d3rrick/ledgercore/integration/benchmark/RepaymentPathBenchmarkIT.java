@@ -0,0 +1,105 @@
+package com.d3rrick.ledgercore.integration.benchmark;
+
+import com.d3rrick.ledgercore.application.port.LedgerRepository;
+import com.d3rrick.ledgercore.application.service.ConflictRetryExecutor;
+import com.d3rrick.ledgercore.application.service.IdempotencyKeyFilter;
+import com.d3rrick.ledgercore.application.service.IdempotencyProperties;
+import com.d3rrick.ledgercore.application.service.InlineLoanCommandExecutor;
+import com.d3rrick.ledgercore.application.service.LoanRebuildService;
+import com.d3rrick.ledgercore.application.service.LoanService;
+import com.d3rrick.ledgercore.application.service.LoanServiceMetrics;
+import com.d3rrick.ledgercore.application.service.RepaymentProperties;
+import com.d3rrick.ledgercore.domain.model.Money;
+import com.d3rrick.ledgercore.integration.BaseIntegrationTest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compares the read-modify-write repayment path against the single-statement path.
+ * Opt-in: {@code mvn verify -Dit.test=RepaymentPathBenchmarkIT -Dbenchmarks=true}.
+ */
+@EnabledIfSystemProperty(named = "benchmarks", matches = "true")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class RepaymentPathBenchmarkIT extends BaseIntegrationTest {
+
+    private static final int LOANS = 200;
+    private static final int REPAYMENTS_PER_LOAN = 50;
+    private static final int THREADS = 16;
+    private static final Money ONE_CENT = new Money(new BigDecimal("0.01"));
+
+    @Autowired
+    private LedgerRepository ledgerRepository;
+
+    @Autowired
+    private LoanService loanService;
+
+    @Autowired
+    private LoanRebuildService loanRebuildService;
+
+    @Test
+    void compareRepaymentPaths() {
+        // Warm both paths up before measuring so JIT and pool effects don't favour the second run
+        run(RepaymentProperties.Mode.STANDARD, 10);
+        run(RepaymentProperties.Mode.SINGLE_STATEMENT, 10);
+
+        var standard = run(RepaymentProperties.Mode.STANDARD, REPAYMENTS_PER_LOAN);
+        var singleStatement = run(RepaymentProperties.Mode.SINGLE_STATEMENT, REPAYMENTS_PER_LOAN);
+
+        standard.print();
+        singleStatement.print();
+        assertThat(standard.errors()).isZero();
+        assertThat(singleStatement.errors()).isZero();
+    }
+
+    private LatencyReport run(RepaymentProperties.Mode mode, int repaymentsPerLoan) {
+        var properties = new RepaymentProperties(mode, RepaymentProperties.Retry.none());
+        var service = new LoanService(ledgerRepository, properties, new ConflictRetryExecutor(properties, new SimpleMeterRegistry()), new InlineLoanCommandExecutor(),
+                new IdempotencyKeyFilter(new IdempotencyProperties(false, 1, 0.01, 1), new SimpleMeterRegistry()), loanRebuildService,
+                new LoanServiceMetrics(new SimpleMeterRegistry()));
+        var loans = new ArrayList<UUID>(LOANS);
+        for (int i = 0; i < LOANS; i++) {
+            var userId = UUID.randomUUID();
+            loanService.originateLoan(userId, new Money(new BigDecimal("1000000.00")), UUID.randomUUID());
+            loans.add(userId);
+        }
+
+        var histogram = new ConcurrentHistogram(TimeUnit.SECONDS.toMicros(10), 3);
+        var errors = new AtomicLong();
+        var started = System.nanoTime();
+        try (var executor = Executors.newFixedThreadPool(THREADS)) {
+            // One task per loan keeps repayments on the same loan sequential, so only the path differs
+            for (var userId : loans) {
+                executor.submit(() -> repayRepeatedly(service, userId, repaymentsPerLoan, histogram, errors));
+            }
+        }
+        var elapsed = Duration.ofNanos(System.nanoTime() - started);
+        return new LatencyReport(mode.name(), histogram, elapsed, errors.get());
+    }
+
+    private void repayRepeatedly(LoanService service, UUID userId, int count, ConcurrentHistogram histogram, AtomicLong errors) {
+        for (int i = 0; i < count; i++) {
+            var start = System.nanoTime();
+            try {
+                service.processRepayment(userId, ONE_CENT, UUID.randomUUID());
+                histogram.recordValue(TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - start));
+            } catch (RuntimeException ex) {
+                errors.incrementAndGet();
+            }
+        }
+    }
+}
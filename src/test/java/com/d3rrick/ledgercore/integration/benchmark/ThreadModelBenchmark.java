@@ -0,0 +1,104 @@
+package com.d3rrick.ledgercore.integration.benchmark;
+
+import com.d3rrick.ledgercore.application.service.LoanService;
+import com.d3rrick.ledgercore.domain.model.Money;
+import com.d3rrick.ledgercore.integration.BaseIntegrationTest;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Drives the HTTP API with far more concurrent clients than there are Tomcat platform threads or pooled
+ * connections, so the two subclasses show how each request thread model behaves under the same load.
+ * Opt-in: {@code mvn verify -Dit.test='*ThreadBenchmarkIT' -Dbenchmarks=true}.
+ */
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+abstract class ThreadModelBenchmark extends BaseIntegrationTest {
+
+    private static final int LOANS = 500;
+    private static final int CLIENTS = 2_000;
+    private static final int REQUESTS_PER_CLIENT = 20;
+    // Share of requests that are reads; the rest are one-cent repayments
+    private static final double READ_RATIO = 0.8;
+
+    @Autowired
+    private LoanService loanService;
+
+    @Value("${local.server.port}")
+    private int port;
+
+    protected abstract String label();
+
+    @Test
+    void measure() {
+        var loans = new ArrayList<UUID>(LOANS);
+        for (int i = 0; i < LOANS; i++) {
+            var userId = UUID.randomUUID();
+            loanService.originateLoan(userId, new Money(new BigDecimal("1000000.00")), UUID.randomUUID());
+            loans.add(userId);
+        }
+
+        try (var client = HttpClient.newBuilder().executor(Executors.newVirtualThreadPerTaskExecutor()).build()) {
+            run(client, loans, 2);
+            var report = run(client, loans, REQUESTS_PER_CLIENT);
+            report.print();
+            assertThat(report.histogram().getTotalCount()).isPositive();
+        }
+    }
+
+    private LatencyReport run(HttpClient client, List<UUID> loans, int requestsPerClient) {
+        var histogram = new ConcurrentHistogram(TimeUnit.SECONDS.toMicros(30), 3);
+        var errors = new AtomicLong();
+        var started = System.nanoTime();
+        try (var clients = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int c = 0; c < CLIENTS; c++) {
+                clients.submit(() -> {
+                    for (int i = 0; i < requestsPerClient; i++) {
+                        send(client, loans.get(ThreadLocalRandom.current().nextInt(loans.size())), histogram, errors);
+                    }
+                });
+            }
+        }
+        return new LatencyReport(label(), histogram, Duration.ofNanos(System.nanoTime() - started), errors.get());
+    }
+
+    private void send(HttpClient client, UUID userId, ConcurrentHistogram histogram, AtomicLong errors) {
+        var base = "http://localhost:" + port + "/api/v1/loan/" + userId;
+        var request = ThreadLocalRandom.current().nextDouble() < READ_RATIO
+                ? HttpRequest.newBuilder(URI.create(base)).GET().build()
+                : HttpRequest.newBuilder(URI.create(base + "/repayment"))
+                        .header("Content-Type", "application/json")
+                        .POST(HttpRequest.BodyPublishers.ofString(
+                                "{\"amount\":0.01,\"idempotencyKey\":\"" + UUID.randomUUID() + "\"}"))
+                        .build();
+        var start = System.nanoTime();
+        try {
+            var response = client.send(request, HttpResponse.BodyHandlers.discarding());
+            histogram.recordValue(TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - start));
+            if (response.statusCode() >= 400) {
+                errors.incrementAndGet();
+            }
+        } catch (Exception ex) {
+            errors.incrementAndGet();
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.d3rrick.ledgercore.integration.benchmark;
+
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.test.context.TestPropertySource;
+
+/**
+ * Virtual-thread request handling with admission sized to the connection pool.
+ */
+@EnabledIfSystemProperty(named = "benchmarks", matches = "true")
+@TestPropertySource(properties = {
+        "spring.threads.virtual.enabled=true",
+        "ledger.admission.enabled=true",
+        "ledger.admission.acquire-timeout=2s"
+})
+class VirtualThreadBenchmarkIT extends ThreadModelBenchmark {
+
+    @Override
+    protected String label() {
+        return "virtual threads + admission";
+    }
+}
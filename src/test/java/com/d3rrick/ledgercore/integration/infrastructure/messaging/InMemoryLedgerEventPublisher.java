@@ -0,0 +1,29 @@
+package com.d3rrick.ledgercore.integration.infrastructure.messaging;
+
+import com.d3rrick.ledgercore.application.port.LedgerEventPublisher;
+import com.d3rrick.ledgercore.domain.model.LedgerEntry;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Broker stand-in: keeps whatever is published, or fails every publish while {@code failing} is set.
+ */
+class InMemoryLedgerEventPublisher implements LedgerEventPublisher {
+
+    private final List<LedgerEntry> published = new CopyOnWriteArrayList<>();
+    volatile boolean failing;
+
+    @Override
+    public void publish(List<LedgerEntry> entries) {
+        if (failing) {
+            throw new IllegalStateException("Broker unavailable");
+        }
+        published.addAll(entries);
+    }
+
+    List<LedgerEntry> publishedFor(UUID userId) {
+        return published.stream().filter(entry -> entry.userId().equals(userId)).toList();
+    }
+}
@@ -0,0 +1,79 @@
+package com.d3rrick.ledgercore.integration.infrastructure.messaging;
+
+import com.d3rrick.ledgercore.application.service.LoanService;
+import com.d3rrick.ledgercore.domain.model.LedgerEntry;
+import com.d3rrick.ledgercore.domain.model.Money;
+import com.d3rrick.ledgercore.infrastructure.messaging.OutboxProperties;
+import com.d3rrick.ledgercore.infrastructure.messaging.OutboxRelay;
+import com.d3rrick.ledgercore.integration.BaseIntegrationTest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.jooq.DSLContext;
+import org.jooq.impl.DSL;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@TestPropertySource(properties = "ledger.outbox.capture=true")
+class OutboxRelayIT extends BaseIntegrationTest {
+
+    @Autowired
+    private LoanService loanService;
+
+    @Autowired
+    private DSLContext dsl;
+
+    private final InMemoryLedgerEventPublisher publisher = new InMemoryLedgerEventPublisher();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private OutboxRelay relay(int batchSize) {
+        return new OutboxRelay(dsl, publisher, new OutboxProperties(true, true, "ledger.entries", batchSize, Duration.ofMillis(200), Duration.ofSeconds(1)), meterRegistry);
+    }
+
+    private int pending(UUID userId) {
+        return dsl.fetchCount(DSL.table(DSL.name("ledger_outbox")), DSL.field(DSL.name("user_id"), UUID.class).eq(userId));
+    }
+
+    @Test
+    @DisplayName("Should publish every entry of a loan in order and clear it from the outbox")
+    void relaysInOrder() {
+        var userId = UUID.randomUUID();
+        loanService.originateLoan(userId, new Money(new BigDecimal("100.00")), UUID.randomUUID());
+        loanService.processRepayment(userId, new Money(new BigDecimal("10.00")), UUID.randomUUID());
+        loanService.processRepayment(userId, new Money(new BigDecimal("20.00")), UUID.randomUUID());
+        assertThat(pending(userId)).isEqualTo(3);
+
+        relay(2).drain();
+
+        assertThat(publisher.publishedFor(userId))
+                .extracting(LedgerEntry::entryType)
+                .containsExactly("DISBURSEMENT", "REPAYMENT", "REPAYMENT");
+        assertThat(publisher.publishedFor(userId))
+                .extracting(LedgerEntry::id)
+                .isSorted();
+        assertThat(pending(userId)).isZero();
+        assertThat(meterRegistry.get("ledger.outbox.published").counter().count()).isGreaterThanOrEqualTo(3.0);
+    }
+
+    @Test
+    @DisplayName("Should keep entries in the outbox when the broker does not acknowledge them")
+    void keepsUnacknowledgedEntries() {
+        var userId = UUID.randomUUID();
+        loanService.originateLoan(userId, new Money(new BigDecimal("100.00")), UUID.randomUUID());
+        publisher.failing = true;
+
+        assertThrows(IllegalStateException.class, () -> relay(500).drain());
+
+        assertThat(pending(userId)).isEqualTo(1);
+        publisher.failing = false;
+        relay(500).drain();
+        assertThat(publisher.publishedFor(userId)).hasSize(1);
+    }
+}
@@ -0,0 +1,155 @@
+package com.d3rrick.ledgercore.integration.infrastructure.persistence;
+
+import com.d3rrick.ledgercore.application.port.LedgerPosting;
+import com.d3rrick.ledgercore.application.port.LedgerRepository;
+import com.d3rrick.ledgercore.application.port.LoanUpdate;
+import com.d3rrick.ledgercore.domain.exception.DomainException;
+import com.d3rrick.ledgercore.domain.exception.EntityNotFoundException;
+import com.d3rrick.ledgercore.domain.model.LedgerEntry;
+import com.d3rrick.ledgercore.domain.model.LoanAggregate;
+import com.d3rrick.ledgercore.domain.model.LoanStatus;
+import com.d3rrick.ledgercore.domain.model.Money;
+import com.d3rrick.ledgercore.integration.BaseIntegrationTest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class JooqLedgerRepositoryIT extends BaseIntegrationTest {
+
+    @Autowired
+    private LedgerRepository ledgerRepository;
+
+    private UUID originate(String amount) {
+        var userId = UUID.randomUUID();
+        var loan = LoanAggregate.createNew(userId, new Money(new BigDecimal(amount))).activate();
+        ledgerRepository.createInitialLoan(loan, UUID.randomUUID());
+        return userId;
+    }
+
+    @Test
+    @DisplayName("Single-statement repayment should persist balance and bump version")
+    void recordRepayment_UpdatesSnapshot() {
+        var userId = originate("1000.00");
+
+        var persisted = ledgerRepository.recordRepayment(userId, new Money(new BigDecimal("250.00")), UUID.randomUUID());
+
+        assertThat(persisted.currentBalance().amount()).isEqualByComparingTo("750.00");
+        assertThat(persisted.version()).isEqualTo(2L);
+        assertThat(ledgerRepository.findByUserId(userId)).contains(persisted);
+    }
+
+    @Test
+    @DisplayName("Single-statement repayment should close the loan when balance reaches zero")
+    void recordRepayment_ClosesLoan() {
+        var userId = originate("100.00");
+
+        var persisted = ledgerRepository.recordRepayment(userId, new Money(new BigDecimal("100.00")), UUID.randomUUID());
+
+        assertThat(persisted.status()).isEqualTo(LoanStatus.CLOSED);
+    }
+
+    @Test
+    @DisplayName("Single-statement repayment should surface the domain rejection for overpayment")
+    void recordRepayment_Overpayment() {
+        var userId = originate("100.00");
+
+        assertThatThrownBy(() -> ledgerRepository.recordRepayment(userId, new Money(new BigDecimal("100.01")), UUID.randomUUID()))
+                .isInstanceOf(DomainException.class)
+                .hasMessageContaining("Repayment exceeds outstanding balance");
+        assertThat(ledgerRepository.findByUserId(userId).orElseThrow().version()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("Single-statement repayment should reject a reused idempotency key")
+    void recordRepayment_DuplicateKey() {
+        var userId = originate("100.00");
+        var key = UUID.randomUUID();
+        ledgerRepository.recordRepayment(userId, new Money(new BigDecimal("10.00")), key);
+
+        assertThatThrownBy(() -> ledgerRepository.recordRepayment(userId, new Money(new BigDecimal("10.00")), key))
+                .isInstanceOf(DataIntegrityViolationException.class);
+    }
+
+    @Test
+    @DisplayName("Single-statement repayment should fail for unknown loans")
+    void recordRepayment_NotFound() {
+        assertThatThrownBy(() -> ledgerRepository.recordRepayment(UUID.randomUUID(), new Money(BigDecimal.TEN), UUID.randomUUID()))
+                .isInstanceOf(EntityNotFoundException.class);
+    }
+
+    @Test
+    @DisplayName("Batch write should advance versions per posting and skip loans that lost the version check")
+    void recordTransactionBatch_AppliesAndReportsConflicts() {
+        var fresh = ledgerRepository.findByUserId(originate("100.00")).orElseThrow();
+        var stale = ledgerRepository.findByUserId(originate("100.00")).orElseThrow();
+        ledgerRepository.recordRepayment(stale.userId(), new Money(BigDecimal.ONE), UUID.randomUUID());
+
+        var freshAfter = fresh.applyRepayment(new Money(BigDecimal.TEN)).applyRepayment(new Money(BigDecimal.TEN));
+        var staleAfter = stale.applyRepayment(new Money(BigDecimal.TEN));
+        var conflicted = ledgerRepository.recordTransactionBatch(List.of(
+                new LoanUpdate(freshAfter, List.of(
+                        new LedgerPosting(fresh.userId(), new Money(BigDecimal.TEN).negate(), "REPAYMENT", UUID.randomUUID()),
+                        new LedgerPosting(fresh.userId(), new Money(BigDecimal.TEN).negate(), "REPAYMENT", UUID.randomUUID()))),
+                new LoanUpdate(staleAfter, List.of(
+                        new LedgerPosting(stale.userId(), new Money(BigDecimal.TEN).negate(), "REPAYMENT", UUID.randomUUID())))));
+
+        assertThat(conflicted).containsExactly(stale.userId());
+        var reloaded = ledgerRepository.findAllByUserIds(List.of(fresh.userId(), stale.userId()));
+        assertThat(reloaded.get(fresh.userId()).currentBalance().amount()).isEqualByComparingTo("80.00");
+        assertThat(reloaded.get(fresh.userId()).version()).isEqualTo(3L);
+        assertThat(reloaded.get(stale.userId()).currentBalance().amount()).isEqualByComparingTo("99.00");
+    }
+
+    @Test
+    @DisplayName("Entry stream should page by id after the given cursor")
+    void forEachEntry_KeysetPages() {
+        var userId = originate("1000.00");
+        for (int i = 0; i < 3; i++) {
+            ledgerRepository.recordRepayment(userId, new Money(new BigDecimal("1.00")), UUID.randomUUID());
+        }
+
+        var firstPage = new ArrayList<LedgerEntry>();
+        ledgerRepository.forEachEntry(userId, 0L, Long.MAX_VALUE, 2, firstPage::add);
+        var secondPage = new ArrayList<LedgerEntry>();
+        ledgerRepository.forEachEntry(userId, firstPage.getLast().id(), Long.MAX_VALUE, 2, secondPage::add);
+
+        assertThat(firstPage).extracting(LedgerEntry::entryType).containsExactly("DISBURSEMENT", "REPAYMENT");
+        assertThat(secondPage).hasSize(2);
+        assertThat(secondPage.getFirst().id()).isGreaterThan(firstPage.getLast().id());
+    }
+
+    @Test
+    @DisplayName("Status walk should resume after the last userId and only yield loans in that status")
+    void forEachLoanByStatus_KeysetPages() {
+        var active = List.of(originate("10.00"), originate("20.00"), originate("30.00"));
+        var closed = originate("5.00");
+        ledgerRepository.recordRepayment(closed, new Money(new BigDecimal("5.00")), UUID.randomUUID());
+
+        var walked = new ArrayList<LoanAggregate>();
+        UUID after = null;
+        while (true) {
+            var page = new ArrayList<LoanAggregate>();
+            ledgerRepository.forEachLoanByStatus(LoanStatus.ACTIVE, after, 2, page::add);
+            walked.addAll(page);
+            if (page.size() < 2) {
+                break;
+            }
+            after = page.getLast().userId();
+        }
+
+        assertThat(walked).extracting(LoanAggregate::status).containsOnly(LoanStatus.ACTIVE);
+        assertThat(walked).extracting(LoanAggregate::userId)
+                .doesNotHaveDuplicates()
+                .contains(active.toArray(UUID[]::new))
+                .doesNotContain(closed);
+    }
+}
@@ -0,0 +1,93 @@
+package com.d3rrick.ledgercore.integration.infrastructure.persistence;
+
+import com.d3rrick.ledgercore.application.port.LedgerRepository;
+import com.d3rrick.ledgercore.application.service.ReconciliationProperties;
+import com.d3rrick.ledgercore.application.service.ReplayProperties;
+import com.d3rrick.ledgercore.domain.model.LoanAggregate;
+import com.d3rrick.ledgercore.domain.model.Money;
+import com.d3rrick.ledgercore.infrastructure.persistence.LedgerPartitionManager;
+import com.d3rrick.ledgercore.infrastructure.persistence.PartitionProperties;
+import com.d3rrick.ledgercore.integration.BaseIntegrationTest;
+import org.jooq.DSLContext;
+import org.jooq.impl.DSL;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DuplicateKeyException;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LedgerPartitionManagerIT extends BaseIntegrationTest {
+
+    @Autowired
+    private LedgerPartitionManager partitionManager;
+
+    @Autowired
+    private LedgerRepository ledgerRepository;
+
+    @Autowired
+    private DSLContext dsl;
+
+    @Test
+    @DisplayName("Should create monthly partitions ahead and be a no-op when run again")
+    void ensurePartitions_IsIdempotent() {
+        var farFuture = LocalDate.of(2100, 1, 15);
+
+        var created = partitionManager.ensurePartitions(farFuture);
+
+        assertThat(created).contains("ledger_entry_p2100_01", "ledger_entry_p2100_02");
+        assertThat(partitionManager.ensurePartitions(farFuture)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should reject an idempotency key reused in a different partition")
+    void idempotencyKey_IsGlobalAcrossPartitions() {
+        partitionManager.ensurePartitions(LocalDate.of(2100, 1, 15));
+        var userId = UUID.randomUUID();
+        ledgerRepository.createInitialLoan(
+                LoanAggregate.createNew(userId, new Money(new BigDecimal("100.00"))).activate(), UUID.randomUUID());
+        var key = UUID.randomUUID();
+
+        insertEntry(dsl, userId, key, OffsetDateTime.of(2100, 1, 2, 0, 0, 0, 0, ZoneOffset.UTC));
+
+        // Savepoint, so the test transaction survives the violation
+        assertThatThrownBy(() -> dsl.transaction(nested ->
+                insertEntry(nested.dsl(), userId, key, OffsetDateTime.of(2100, 2, 2, 0, 0, 0, 0, ZoneOffset.UTC))))
+                .isInstanceOf(DuplicateKeyException.class);
+        assertThat(ledgerRepository.findExistingIdempotencyKeys(List.of(key))).containsExactly(key);
+    }
+
+    @Test
+    @DisplayName("Should refuse retention while reconciliation or ledger replay needs the full history")
+    void retention_RequiresFullHistoryFeaturesOff() {
+        var retaining = new PartitionProperties(true, 3, 12, PartitionProperties.RetentionAction.DETACH);
+        var reconciling = new ReconciliationProperties(true, 64, 4, Duration.ofMinutes(5));
+        var idle = new ReconciliationProperties(false, 64, 4, Duration.ofMinutes(5));
+
+        assertThatThrownBy(() -> new LedgerPartitionManager(dsl, retaining, reconciling,
+                new ReplayProperties(ReplayProperties.ReadSource.LOAN_ROW, 500, 4)))
+                .isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> new LedgerPartitionManager(dsl, retaining, idle,
+                new ReplayProperties(ReplayProperties.ReadSource.LEDGER, 500, 4)))
+                .isInstanceOf(IllegalStateException.class);
+        assertThat(new LedgerPartitionManager(dsl, retaining, idle,
+                new ReplayProperties(ReplayProperties.ReadSource.LOAN_ROW, 500, 4))).isNotNull();
+    }
+
+    private static void insertEntry(DSLContext ctx, UUID userId, UUID key, OffsetDateTime createdAt) {
+        ctx.insertInto(DSL.table("ledger_entry"))
+                .columns(DSL.field("user_id"), DSL.field("amount_delta"), DSL.field("entry_type"),
+                        DSL.field("idempotency_key"), DSL.field("created_at"))
+                .values(userId, new BigDecimal("-1.00"), "REPAYMENT", key, createdAt)
+                .execute();
+    }
+}
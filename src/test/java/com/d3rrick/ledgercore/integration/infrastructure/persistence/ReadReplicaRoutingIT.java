@@ -0,0 +1,83 @@
+package com.d3rrick.ledgercore.integration.infrastructure.persistence;
+
+import com.d3rrick.ledgercore.application.port.LedgerRepository;
+import com.d3rrick.ledgercore.application.service.LoanService;
+import com.d3rrick.ledgercore.integration.BaseIntegrationTest;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.flywaydb.core.Flyway;
+import org.jooq.SQLDialect;
+import org.jooq.impl.DSL;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.postgresql.PostgreSQLContainer;
+import org.testcontainers.utility.DockerImageName;
+
+import java.math.BigDecimal;
+import java.sql.DriverManager;
+import java.util.UUID;
+
+import static com.d3rrick.ledgercore.infrastructure.jooq.Tables.LOAN;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * The "replica" is an independent database with the same schema rather than a streaming standby, so a row
+ * written only there shows which pool a query was served from.
+ */
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ReadReplicaRoutingIT extends BaseIntegrationTest {
+
+    private static final PostgreSQLContainer REPLICA =
+            new PostgreSQLContainer(DockerImageName.parse("postgres:16-alpine"))
+                    .withDatabaseName("loan_db")
+                    .withUsername("postgres")
+                    .withPassword("secret");
+
+    static {
+        REPLICA.start();
+        Flyway.configure()
+                .dataSource(REPLICA.getJdbcUrl(), REPLICA.getUsername(), REPLICA.getPassword())
+                .load()
+                .migrate();
+    }
+
+    @DynamicPropertySource
+    static void replicaProperties(DynamicPropertyRegistry registry) {
+        registry.add("ledger.datasource.replicas[0].url", REPLICA::getJdbcUrl);
+        registry.add("ledger.datasource.replicas[0].username", REPLICA::getUsername);
+        registry.add("ledger.datasource.replicas[0].password", REPLICA::getPassword);
+    }
+
+    @Autowired
+    private LoanService loanService;
+
+    @Autowired
+    private LedgerRepository ledgerRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    @DisplayName("Should serve read-only transactions from the replica and everything else from the primary")
+    void routesReadOnlyTransactionsToReplica() throws Exception {
+        var userId = UUID.randomUUID();
+        try (var connection = DriverManager.getConnection(REPLICA.getJdbcUrl(), REPLICA.getUsername(), REPLICA.getPassword())) {
+            DSL.using(connection, SQLDialect.POSTGRES)
+                    .insertInto(LOAN)
+                    .set(LOAN.USER_ID, userId)
+                    .set(LOAN.PRINCIPAL_AMOUNT, new BigDecimal("100.00"))
+                    .set(LOAN.CURRENT_BALANCE, new BigDecimal("100.00"))
+                    .set(LOAN.STATUS, "ACTIVE")
+                    .set(LOAN.VERSION, 1L)
+                    .execute();
+        }
+
+        assertThat(loanService.getLoanDetails(userId)).isPresent();
+        assertThat(ledgerRepository.findByUserId(userId)).isEmpty();
+        assertThat(meterRegistry.get("ledger.replica.healthy").gauge().value()).isEqualTo(1.0);
+    }
+}